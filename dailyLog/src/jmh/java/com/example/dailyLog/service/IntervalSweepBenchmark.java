@@ -0,0 +1,98 @@
+package com.example.dailyLog.service;
+
+import com.example.dailyLog.constant.Color;
+import com.example.dailyLog.constant.RepeatType;
+import com.example.dailyLog.entity.Schedule;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+// 일정 충돌 검사: 종료 시각 힙을 후보마다 전부 훑는 방식과 후보 종료 시각 누적 최댓값 + 이분 탐색 방식 비교
+// 기존 일정은 매일 반복 회차에 여러 날 이어지는 월간 반복 일정을 섞은 밀집 시리즈 (FreeBusyServiceImpl 이 펼치는 형태 그대로)
+// 실행: ./gradlew jmh
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntervalSweepBenchmark {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    // 펼칠 기간(년)
+    @Param({"1", "5"})
+    public int years;
+
+    private List<ScheduleOccurrence> existing;
+    private List<ScheduleOccurrence> candidates;
+
+    @Setup
+    public void setUp() {
+        ScheduleRecurrenceExpander expander = new ScheduleRecurrenceExpander();
+        LocalDateTime to = FROM.plusYears(years);
+
+        existing = new ArrayList<>();
+        // 하루 여러 번 반복되는 짧은 일정
+        for (int hour = 8; hour < 20; hour++) {
+            existing.addAll(expander.expand(series(FROM.withHour(hour), 45, RepeatType.DAILY), Collections.emptySet(), FROM, to));
+        }
+        // 매달 20일씩 이어지는 긴 일정 - 힙에 오래 남아 후보마다 다시 훑게 되는 경우
+        for (int day = 1; day <= 5; day++) {
+            existing.addAll(expander.expand(series(FROM.withDayOfMonth(day), 20 * 24 * 60, RepeatType.MONTHLY), Collections.emptySet(), FROM, to));
+        }
+        existing.sort(IntervalSweep.BY_START);
+
+        // 새로 넣을 매주 반복 일정의 회차
+        candidates = expander.expand(series(FROM.withHour(9).withMinute(30), 90, RepeatType.WEEKLY), Collections.emptySet(), FROM, to);
+        candidates.sort(IntervalSweep.BY_START);
+    }
+
+    private static Schedule series(LocalDateTime start, int minutes, RepeatType repeatType) {
+        return Schedule.builder()
+                .title("series")
+                .start(start)
+                .end(start.plusMinutes(minutes))
+                .color(Color.ORANGE)
+                .repeatType(repeatType)
+                .repeatInterval(1)
+                .repeatGroupId(1L)
+                .scheduleImages(new ArrayList<>())
+                .build();
+    }
+
+    // 변경 전 방식: 종료 시각 힙에 남은 회차를 후보마다 전부 확인 - O(m * active)
+    @Benchmark
+    public List<ScheduleOccurrence> heapScan() {
+        Set<ScheduleOccurrence> conflicts = new LinkedHashSet<>();
+        PriorityQueue<ScheduleOccurrence> active = new PriorityQueue<>(Comparator.comparing(ScheduleOccurrence::getEnd));
+        int next = 0;
+        for (ScheduleOccurrence candidate : candidates) {
+            while (next < existing.size() && existing.get(next).getStart().isBefore(candidate.getEnd())) {
+                active.add(existing.get(next++));
+            }
+            while (!active.isEmpty() && !active.peek().getEnd().isAfter(candidate.getStart())) {
+                active.poll();
+            }
+            for (ScheduleOccurrence occurrence : active) {
+                if (occurrence.getStart().isBefore(candidate.getEnd())) {
+                    conflicts.add(occurrence);
+                }
+            }
+        }
+        return new ArrayList<>(conflicts);
+    }
+
+    // 변경 후 방식
+    @Benchmark
+    public List<ScheduleOccurrence> prefixMaxSearch() {
+        return IntervalSweep.conflicts(existing, candidates);
+    }
+
+    @Benchmark
+    public List<LocalDateTime[]> merge() {
+        return IntervalSweep.merge(existing);
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.dailyLog.service;
+
+import com.example.dailyLog.constant.Category;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// 월 통계 집계: 일별 HashMap<Category, Long> 방식과 long[일][카테고리] 행렬 방식 비교
+// 실행: ./gradlew jmh (gc 프로파일러의 gc.alloc.rate.norm 으로 호출당 할당량 비교)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatisticsAggregationBenchmark {
+
+    private static final int DAYS = 31;
+
+    // 한 달 동안 하루 평균 몇 개 카테고리에 일기를 썼는지
+    @Param({"1", "3"})
+    public int categoriesPerDay;
+
+    private List<Object[]> rows;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        Category[] categories = Category.values();
+        rows = new ArrayList<>();
+        for (int day = 1; day <= DAYS; day++) {
+            for (int i = 0; i < categoriesPerDay; i++) {
+                rows.add(new Object[]{LocalDate.of(2024, 1, day), categories[(day + i) % categories.length], (long) (1 + random.nextInt(3))});
+            }
+        }
+    }
+
+    // 변경 전 방식: 날짜마다 HashMap, 박싱된 Long, 스트림 두 번
+    @Benchmark
+    public List<Map<Category, Double>> boxedMaps() {
+        Map<Integer, Map<Category, Long>> dailyCategoryCounts = new HashMap<>();
+        for (int day = 1; day <= DAYS; day++) {
+            Map<Category, Long> categoryMap = new HashMap<>();
+            for (Category category : Category.values()) {
+                categoryMap.put(category, 0L);
+            }
+            dailyCategoryCounts.put(day, categoryMap);
+        }
+        for (Object[] row : rows) {
+            dailyCategoryCounts.get(((LocalDate) row[0]).getDayOfMonth()).put((Category) row[1], (Long) row[2]);
+        }
+
+        List<Map<Category, Double>> result = new ArrayList<>();
+        for (int day = 1; day <= DAYS; day++) {
+            Map<Category, Long> categoryMap = dailyCategoryCounts.get(day);
+            long dailyDiaryCount = categoryMap.values().stream().mapToLong(Long::longValue).sum();
+            result.add(categoryMap.entrySet().stream()
+                    .collect(Collectors.toMap(
+                            Map.Entry::getKey,
+                            entry -> dailyDiaryCount > 0 ? (entry.getValue() / (double) dailyDiaryCount) * 100 : 0.0
+                    )));
+        }
+        return result;
+    }
+
+    // 변경 후 방식: 행렬에 누적하고 응답용 EnumMap 만 생성
+    @Benchmark
+    public List<Map<Category, Double>> matrix() {
+        CategoryCountMatrix matrix = new CategoryCountMatrix(DAYS);
+        for (Object[] row : rows) {
+            matrix.add(((LocalDate) row[0]).getDayOfMonth() - 1, (Category) row[1], (Long) row[2]);
+        }
+
+        List<Map<Category, Double>> result = new ArrayList<>(DAYS);
+        for (int day = 0; day < DAYS; day++) {
+            result.add(matrix.percentages(day, true));
+        }
+        return result;
+    }
+}
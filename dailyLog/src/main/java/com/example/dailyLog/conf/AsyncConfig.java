@@ -0,0 +1,10 @@
+package com.example.dailyLog.conf;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+// @Async 작업은 spring.task.execution 설정(스레드 수/큐 크기 제한)의 applicationTaskExecutor 에서 실행
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
@@ -0,0 +1,33 @@
+package com.example.dailyLog.conf;
+
+import com.example.dailyLog.dto.response.DiaryResponseMonthDto;
+import com.example.dailyLog.dto.response.ScheduleResponseMonthDto;
+import com.example.dailyLog.service.MonthViewCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+// 월달력(홈 화면) 조회 캐시 - 적중/미적중 수는 /actuator/metrics/month_view_cache.requests 로 확인
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public MonthViewCache<List<ScheduleResponseMonthDto>> scheduleMonthViewCache(
+            @Value("${month-view-cache.max-size:10000}") int maxSize,
+            @Value("${month-view-cache.ttl:10m}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        return new MonthViewCache<>("schedule", maxSize, ttl, meterRegistry);
+    }
+
+    @Bean
+    public MonthViewCache<List<DiaryResponseMonthDto>> diaryMonthViewCache(
+            @Value("${month-view-cache.max-size:10000}") int maxSize,
+            @Value("${month-view-cache.ttl:10m}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        return new MonthViewCache<>("diary", maxSize, ttl, meterRegistry);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.dailyLog.conf;
+
+import com.example.dailyLog.service.CalendarChangeHub;
+import com.example.dailyLog.service.CalendarChangeRelay;
+import com.example.dailyLog.service.InMemoryCalendarChangeRelay;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// 캘린더 변경 실시간 알림(SSE) - 서버가 여러 대면 CalendarChangeRelay 빈을 브로커 기반 구현으로 등록
+@Configuration
+@EnableScheduling
+public class PushConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(CalendarChangeRelay.class)
+    public CalendarChangeRelay calendarChangeRelay() {
+        return new InMemoryCalendarChangeRelay();
+    }
+
+    // SSE 전송은 전용 스레드 풀에서 처리 (느린 클라이언트가 요청 처리 스레드를 잡지 않도록 분리)
+    // Executor 빈으로 등록하면 @Async 기본 풀(applicationTaskExecutor) 자동 구성이 빠지므로 허브 내부에서만 사용
+    @Bean(destroyMethod = "shutdown")
+    public CalendarChangeHub calendarChangeHub(
+            CalendarChangeRelay calendarChangeRelay,
+            @Value("${sse.threads:8}") int threads,
+            @Value("${sse.queue-capacity:100000}") int queueCapacity,
+            @Value("${sse.max-connections:50000}") int maxConnections,
+            @Value("${sse.max-pending:64}") int maxPending,
+            @Value("${sse.timeout:30m}") Duration timeout,
+            @Value("${sse.send-timeout:5s}") Duration sendTimeout) {
+        ExecutorService pushExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("dailylog-push-"));
+        return new CalendarChangeHub(calendarChangeRelay, pushExecutor, maxConnections, maxPending, timeout, sendTimeout);
+    }
+}
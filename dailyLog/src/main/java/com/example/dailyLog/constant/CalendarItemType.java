@@ -0,0 +1,6 @@
+package com.example.dailyLog.constant;
+
+public enum CalendarItemType {
+
+    SCHEDULE, DIARY
+}
@@ -0,0 +1,33 @@
+package com.example.dailyLog.constant;
+
+// 한국 법정 공휴일 (선거일 등 임시 공휴일은 미리 계산할 수 없어 제외)
+public enum KoreanHoliday {
+    NEW_YEAR("신정"),
+    SEOLLAL_EVE("설날 연휴"),
+    SEOLLAL("설날"),
+    SEOLLAL_NEXT("설날 연휴"),
+    SAMILJEOL("삼일절"),
+    ARBOR_DAY("식목일"),
+    CHILDREN_DAY("어린이날"),
+    BUDDHA_BIRTHDAY("부처님 오신 날"),
+    MEMORIAL_DAY("현충일"),
+    CONSTITUTION_DAY("제헌절"),
+    LIBERATION_DAY("광복절"),
+    CHUSEOK_EVE("추석 연휴"),
+    CHUSEOK("추석"),
+    CHUSEOK_NEXT("추석 연휴"),
+    FOUNDATION_DAY("개천절"),
+    HANGUL_DAY("한글날"),
+    CHRISTMAS("기독탄신일"),
+    SUBSTITUTE("대체공휴일");
+
+    private final String title;
+
+    KoreanHoliday(String title) {
+        this.title = title;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+}
@@ -1,5 +1,30 @@
 package com.example.dailyLog.constant;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
 public enum RepeatType {
-    NONE, DAILY, WEEKLY, MONTHLY, YEARLY
+    NONE(null), DAILY(ChronoUnit.DAYS), WEEKLY(ChronoUnit.WEEKS), MONTHLY(ChronoUnit.MONTHS), YEARLY(ChronoUnit.YEARS);
+
+    private final ChronoUnit unit;
+
+    RepeatType(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    // 기준 시각에서 반복 단위 amount 만큼 이동 (월/연 반복은 항상 기준 시각에서 계산해 말일 보정이 누적되지 않음)
+    public LocalDateTime plus(LocalDateTime base, long amount) {
+        if (unit == null) {
+            throw new IllegalArgumentException("Invalid repeat type");
+        }
+        return base.plus(amount, unit);
+    }
+
+    // 두 시각 사이의 반복 단위 수
+    public long unitsBetween(LocalDateTime from, LocalDateTime to) {
+        if (unit == null) {
+            throw new IllegalArgumentException("Invalid repeat type");
+        }
+        return unit.between(from, to);
+    }
 }
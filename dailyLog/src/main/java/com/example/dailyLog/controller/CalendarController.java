@@ -0,0 +1,93 @@
+package com.example.dailyLog.controller;
+
+import com.example.dailyLog.dto.response.CalendarMonthResponseDto;
+import com.example.dailyLog.dto.response.IcsImportResultDto;
+import com.example.dailyLog.exception.calendarsException.CalendarsErrorCode;
+import com.example.dailyLog.exception.calendarsException.CalendarsNotFoundException;
+import com.example.dailyLog.repository.CalendarRepository;
+import com.example.dailyLog.service.CalendarChangeHub;
+import com.example.dailyLog.service.CalendarExportService;
+import com.example.dailyLog.service.CalendarImportService;
+import com.example.dailyLog.service.CalendarMonthService;
+import com.example.dailyLog.service.CalendarVersionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequestMapping("/calendar")
+@RequiredArgsConstructor
+public class CalendarController {
+
+    private final CalendarExportService calendarExportService;
+    private final CalendarImportService calendarImportService;
+    private final CalendarRepository calendarRepository;
+    private final CalendarChangeHub calendarChangeHub;
+    private final CalendarMonthService calendarMonthService;
+    private final CalendarVersionService calendarVersionService;
+
+    // 홈페이지 첫화면 (월달력 일정 + 일기 표시를 한 번에 조회, includeHolidays 면 날짜별 음력/공휴일 포함)
+    @GetMapping("/{calendarIdx}/{year}/{month}")
+    public ResponseEntity<CalendarMonthResponseDto> getMonth(
+            @PathVariable(name = "calendarIdx") Long calendarIdx,
+            @PathVariable(name = "year") int year,
+            @PathVariable(name = "month") int month,
+            @RequestParam(name = "includeHolidays", required = false, defaultValue = "false") boolean includeHolidays,
+            WebRequest webRequest) {
+
+        // 캘린더 버전이 그대로면 일정/일기 조회 없이 304 응답 (같은 버전을 월달력 캐시 키로 사용)
+        long version = calendarVersionService.getVersion(calendarIdx);
+        if (webRequest.checkNotModified(calendarVersionService.getETag(calendarIdx, version))) {
+            return null;
+        }
+
+        CalendarMonthResponseDto calendarMonthResponseDto = calendarMonthService.findMonth(calendarIdx, version, year, month, includeHolidays);
+        return ResponseEntity.ok(calendarMonthResponseDto);
+    }
+
+    // 캘린더 전체를 iCalendar(.ics) 파일로 내보내기
+    @GetMapping("/{calendarIdx}/export")
+    public ResponseEntity<StreamingResponseBody> exportCalendar(
+            @PathVariable(name = "calendarIdx") Long calendarIdx,
+            @RequestParam(name = "includeDiaries", required = false, defaultValue = "false") boolean includeDiaries) {
+
+        StreamingResponseBody body = calendarExportService.exportIcs(calendarIdx, includeDiaries);
+        return ResponseEntity.ok()
+                .contentType(new MediaType("text", "calendar", StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("dailylog-" + calendarIdx + ".ics").build().toString())
+                .body(body);
+    }
+
+    // iCalendar(.ics) 파일 가져오기 (이벤트별 오류 요약 반환)
+    @PostMapping(value = "/{calendarIdx}/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<IcsImportResultDto> importCalendar(
+            @PathVariable(name = "calendarIdx") Long calendarIdx,
+            @RequestPart(name = "icsFile") MultipartFile icsFile) {
+
+        IcsImportResultDto icsImportResultDto = calendarImportService.importIcs(calendarIdx, icsFile);
+        return ResponseEntity.ok(icsImportResultDto);
+    }
+
+    // 캘린더 변경 실시간 알림 구독 (SSE, 커밋된 변경의 항목 ID 만 전달)
+    @GetMapping(value = "/{calendarIdx}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribeCalendarChanges(@PathVariable(name = "calendarIdx") Long calendarIdx) {
+        if (!calendarRepository.existsById(calendarIdx)) {
+            throw new CalendarsNotFoundException(CalendarsErrorCode.CALENDARS_NOT_FOUND);
+        }
+
+        SseEmitter emitter = calendarChangeHub.subscribe(calendarIdx);
+        return ResponseEntity.ok()
+                .header("X-Accel-Buffering", "no") // 프록시(nginx) 버퍼링 끄기
+                .body(emitter);
+    }
+}
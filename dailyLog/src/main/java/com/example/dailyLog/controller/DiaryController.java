@@ -9,12 +9,14 @@ import com.example.dailyLog.entity.Calendars;
 import com.example.dailyLog.exception.calendarsException.CalendarsErrorCode;
 import com.example.dailyLog.exception.calendarsException.CalendarsNotFoundException;
 import com.example.dailyLog.repository.CalendarRepository;
+import com.example.dailyLog.service.CalendarVersionService;
 import com.example.dailyLog.service.DiaryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
@@ -25,15 +27,23 @@ import java.util.List;
 public class DiaryController {
 
     private final DiaryService diaryService;
+    private final CalendarVersionService calendarVersionService;
 
     // 홈페이지 첫화면 기본 창(월달력 조회)
     @GetMapping("/{calendarIdx}/{year}/{month}")
     public ResponseEntity<List<DiaryResponseMonthDto>> getAllMonthDiary(
             @PathVariable(name = "calendarIdx") Long calendarIdx,
             @PathVariable(name = "year") int year,
-            @PathVariable(name = "month") int month) {
+            @PathVariable(name = "month") int month,
+            WebRequest webRequest) {
+
+        // 캘린더 버전이 그대로면 일정/일기 조회 없이 304 응답 (같은 버전을 월달력 캐시 키로 사용)
+        long version = calendarVersionService.getVersion(calendarIdx);
+        if (webRequest.checkNotModified(calendarVersionService.getETag(calendarIdx, version))) {
+            return null;
+        }
 
-        List<DiaryResponseMonthDto> diaryResponseMonthDto = diaryService.findAllMonthDiary(calendarIdx, year, month);
+        List<DiaryResponseMonthDto> diaryResponseMonthDto = diaryService.findAllMonthDiary(calendarIdx, version, year, month);
         return ResponseEntity.ok(diaryResponseMonthDto);
     }
 
@@ -41,7 +51,13 @@ public class DiaryController {
     @GetMapping("/{calendarIdx}/{category}")
     public ResponseEntity<List<DiaryResponseCategoryDto>> getCategoryDiary(
             @PathVariable(name = "calendarIdx") Long calendarIdx,
-            @PathVariable(name = "category") String category) {
+            @PathVariable(name = "category") String category,
+            WebRequest webRequest) {
+
+        // 캘린더 버전이 그대로면 일정/일기 조회 없이 304 응답
+        if (webRequest.checkNotModified(calendarVersionService.getETag(calendarIdx))) {
+            return null;
+        }
 
         List<DiaryResponseCategoryDto> diaryResponseCategoryDto = diaryService.findDiaryCategory(calendarIdx, category);
         return ResponseEntity.ok(diaryResponseCategoryDto);
@@ -53,7 +69,13 @@ public class DiaryController {
             @PathVariable(name = "calendarIdx") Long calendarIdx,
             @PathVariable(name = "year") int year,
             @PathVariable(name = "month") int month,
-            @PathVariable(name = "day") int day) {
+            @PathVariable(name = "day") int day,
+            WebRequest webRequest) {
+
+        // 캘린더 버전이 그대로면 일정/일기 조회 없이 304 응답
+        if (webRequest.checkNotModified(calendarVersionService.getETag(calendarIdx))) {
+            return null;
+        }
 
         List<DiaryResponseDayListDto> diaryResponseDayListDto = diaryService.findDiaryByDayList(calendarIdx, year, month, day);
         return ResponseEntity.ok(diaryResponseDayListDto);
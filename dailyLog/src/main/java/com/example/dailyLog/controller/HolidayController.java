@@ -0,0 +1,42 @@
+package com.example.dailyLog.controller;
+
+import com.example.dailyLog.dto.response.CalendarDayResponseDto;
+import com.example.dailyLog.service.HolidayService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.util.List;
+
+@RestController
+@RequestMapping("/holiday")
+@RequiredArgsConstructor
+public class HolidayController {
+
+    // 공휴일/음력 표는 배포 전까지 바뀌지 않으므로 브라우저 캐시 허용
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(1)).cachePublic();
+
+    private final HolidayService holidayService;
+
+
+    // 연도별 공휴일 목록
+    @GetMapping("/{year}")
+    public ResponseEntity<List<CalendarDayResponseDto>> getYearHolidays(@PathVariable(name = "year") int year) {
+
+        List<CalendarDayResponseDto> holidays = holidayService.findYearHolidays(year);
+        return ResponseEntity.ok().cacheControl(CACHE_CONTROL).body(holidays);
+    }
+
+
+    // 월달력 날짜별 음력/공휴일
+    @GetMapping("/{year}/{month}")
+    public ResponseEntity<List<CalendarDayResponseDto>> getMonthDays(
+            @PathVariable(name = "year") int year,
+            @PathVariable(name = "month") int month) {
+
+        List<CalendarDayResponseDto> days = holidayService.findMonthDays(year, month);
+        return ResponseEntity.ok().cacheControl(CACHE_CONTROL).body(days);
+    }
+}
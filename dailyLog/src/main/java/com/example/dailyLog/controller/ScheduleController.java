@@ -1,24 +1,37 @@
 package com.example.dailyLog.controller;
 
+import com.example.dailyLog.dto.request.ScheduleRequestBatchMoveDto;
 import com.example.dailyLog.dto.request.ScheduleRequestInsertDto;
 import com.example.dailyLog.dto.request.ScheduleRequestUpdateDto;
+import com.example.dailyLog.dto.response.BusyIntervalDto;
+import com.example.dailyLog.dto.response.ScheduleAgendaResponseDto;
 import com.example.dailyLog.dto.response.ScheduleResponseDayDto;
 import com.example.dailyLog.dto.response.ScheduleResponseMonthDto;
+import com.example.dailyLog.dto.response.ScheduleResponseMonthHolidayDto;
+import com.example.dailyLog.dto.response.ScheduleResponseOverlayDto;
 import com.example.dailyLog.dto.response.ScheduleResponseYearDto;
+import com.example.dailyLog.dto.response.ScheduleResponseYearHolidayDto;
 import com.example.dailyLog.entity.Calendars;
 import com.example.dailyLog.exception.calendarsException.CalendarsErrorCode;
 import com.example.dailyLog.exception.calendarsException.CalendarsNotFoundException;
 import com.example.dailyLog.repository.CalendarRepository;
+import com.example.dailyLog.service.CalendarVersionService;
+import com.example.dailyLog.service.FreeBusyService;
+import com.example.dailyLog.service.HolidayService;
+import com.example.dailyLog.service.ScheduleAgendaService;
 import com.example.dailyLog.service.ScheduleService;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 
@@ -29,25 +42,63 @@ import java.util.List;
 public class ScheduleController {
 
     private final ScheduleService scheduleService;
+    private final CalendarVersionService calendarVersionService;
+    private final FreeBusyService freeBusyService;
+    private final ScheduleAgendaService scheduleAgendaService;
+    private final HolidayService holidayService;
 
     // 홈페이지 첫화면 기본 창(월달력 조회)
+    // includeHolidays 면 { schedules, days } 로 날짜별 음력/공휴일 포함 (기본은 기존과 같은 일정 목록)
     @GetMapping("/{calendarIdx}/{year}/{month}")
-    public ResponseEntity<List<ScheduleResponseMonthDto>> getAllMonthSchedule(
+    public ResponseEntity<?> getAllMonthSchedule(
             @PathVariable(name = "calendarIdx") Long calendarIdx,
             @PathVariable(name = "year") int year,
-            @PathVariable(name = "month") int month) {
+            @PathVariable(name = "month") int month,
+            @RequestParam(name = "includeHolidays", required = false, defaultValue = "false") boolean includeHolidays,
+            WebRequest webRequest) {
 
-        List<ScheduleResponseMonthDto> scheduleResponseMonthDto = scheduleService.findAllMonthSchedule(calendarIdx, year, month);
+        // 캘린더 버전이 그대로면 일정/일기 조회 없이 304 응답 (같은 버전을 월달력 캐시 키로 사용)
+        long version = calendarVersionService.getVersion(calendarIdx);
+        if (webRequest.checkNotModified(calendarVersionService.getETag(calendarIdx, version))) {
+            return null;
+        }
+
+        List<ScheduleResponseMonthDto> scheduleResponseMonthDto = scheduleService.findAllMonthSchedule(calendarIdx, version, year, month);
+        if (includeHolidays) {
+            return ResponseEntity.ok(new ScheduleResponseMonthHolidayDto(scheduleResponseMonthDto, holidayService.findMonthDays(year, month)));
+        }
         return ResponseEntity.ok(scheduleResponseMonthDto);
     }
 
+    // 친구 일정 겹쳐보기 (월달력, 수락된 친구의 바쁜 시간을 캘린더별로 표시)
+    @GetMapping("/overlay/{userIdx}/{year}/{month}")
+    public ResponseEntity<List<ScheduleResponseOverlayDto>> getFriendOverlaySchedule(
+            @PathVariable(name = "userIdx") Long userIdx,
+            @PathVariable(name = "year") int year,
+            @PathVariable(name = "month") int month) {
+
+        List<ScheduleResponseOverlayDto> scheduleResponseOverlayDto = scheduleService.findFriendOverlaySchedule(userIdx, year, month);
+        return ResponseEntity.ok(scheduleResponseOverlayDto);
+    }
+
     // 연달력 전체 일정 조회
+    // includeHolidays 면 { schedules, holidays } 로 그 해의 공휴일 포함 (기본은 기존과 같은 일정 목록)
     @GetMapping("/{calendarIdx}/{year}")
-    public ResponseEntity<List<ScheduleResponseYearDto>> getAllYearSchedule(
+    public ResponseEntity<?> getAllYearSchedule(
             @PathVariable(name = "calendarIdx") Long calendarIdx,
-            @PathVariable(name = "year") int year) {
+            @PathVariable(name = "year") int year,
+            @RequestParam(name = "includeHolidays", required = false, defaultValue = "false") boolean includeHolidays,
+            WebRequest webRequest) {
+
+        // 캘린더 버전이 그대로면 일정/일기 조회 없이 304 응답
+        if (webRequest.checkNotModified(calendarVersionService.getETag(calendarIdx))) {
+            return null;
+        }
 
         List<ScheduleResponseYearDto> scheduleResponseYearDto = scheduleService.findAllYearSchedule(calendarIdx, year);
+        if (includeHolidays) {
+            return ResponseEntity.ok(new ScheduleResponseYearHolidayDto(scheduleResponseYearDto, holidayService.findYearHolidays(year)));
+        }
         return ResponseEntity.ok(scheduleResponseYearDto);
     }
 
@@ -57,7 +108,13 @@ public class ScheduleController {
             @PathVariable(name = "calendarIdx") Long calendarIdx,
             @PathVariable(name = "year") int year,
             @PathVariable(name = "month") int month,
-            @PathVariable(name = "day") int day) {
+            @PathVariable(name = "day") int day,
+            WebRequest webRequest) {
+
+        // 캘린더 버전이 그대로면 일정/일기 조회 없이 304 응답
+        if (webRequest.checkNotModified(calendarVersionService.getETag(calendarIdx))) {
+            return null;
+        }
 
         List<ScheduleResponseDayDto> scheduleResponseDayDto = scheduleService.findScheduleByDay(calendarIdx, year, month, day);
         return ResponseEntity.ok(scheduleResponseDayDto);
@@ -103,8 +160,9 @@ public class ScheduleController {
             @PathVariable(name = "idx") Long idx,
             @RequestParam(name = "deleteAllRepeats", required = false, defaultValue = "false") boolean deleteAllRepeats,
             @RequestParam(name = "deleteOnlyThis", required = false, defaultValue = "false") boolean deleteOnlyThis,
-            @RequestParam(name = "deleteAfter", required = false, defaultValue = "false") boolean deleteAfter) {
-        scheduleService.deleteSchedule(idx, deleteAllRepeats, deleteOnlyThis, deleteAfter);
+            @RequestParam(name = "deleteAfter", required = false, defaultValue = "false") boolean deleteAfter,
+            @RequestParam(name = "occurrenceStart", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime occurrenceStart) {
+        scheduleService.deleteSchedule(idx, deleteAllRepeats, deleteOnlyThis, deleteAfter, occurrenceStart);
         return ResponseEntity.status(HttpStatus.OK).body("Schedule deleted successfully");
     }
 
@@ -118,4 +176,61 @@ public class ScheduleController {
         return ResponseEntity.ok("Schedule date updated successfully");
     }
 
+    //드래그 앤 드랍 일괄 이동
+    @PutMapping("/move")
+    public ResponseEntity<String> updateScheduleDates(
+            @RequestBody @Valid ScheduleRequestBatchMoveDto scheduleRequestBatchMoveDto) {
+
+        scheduleService.updateScheduleDates(scheduleRequestBatchMoveDto.getMoves());
+        return ResponseEntity.ok("Schedule dates updated successfully");
+    }
+
+    // 반복 그룹 전체 이동 (deltaMinutes 만큼, 음수면 앞으로)
+    @PutMapping("/{calendarIdx}/repeat/{repeatGroupId}/shift")
+    public ResponseEntity<String> shiftRepeatGroup(
+            @PathVariable(name = "calendarIdx") Long calendarIdx,
+            @PathVariable(name = "repeatGroupId") Long repeatGroupId,
+            @RequestParam(name = "deltaMinutes") long deltaMinutes) {
+
+        scheduleService.shiftRepeatGroup(calendarIdx, repeatGroupId, deltaMinutes);
+        return ResponseEntity.ok("Repeat group shifted successfully");
+    }
+
+    // 기간 내 바쁜 시간대 조회 (겹치는 일정은 하나의 구간으로 합쳐서 반환, 최대 366일)
+    @GetMapping("/{calendarIdx}/free-busy")
+    public ResponseEntity<List<BusyIntervalDto>> getFreeBusy(
+            @PathVariable(name = "calendarIdx") Long calendarIdx,
+            @RequestParam(name = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(name = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        List<BusyIntervalDto> busyIntervalDto = freeBusyService.findBusy(calendarIdx, from, to);
+        return ResponseEntity.ok(busyIntervalDto);
+    }
+
+    // 저장 전 겹치는 일정 확인 (excludeIdx: 옮기려는 일정 자신)
+    @GetMapping("/{calendarIdx}/conflicts")
+    public ResponseEntity<List<ScheduleResponseMonthDto>> getConflicts(
+            @PathVariable(name = "calendarIdx") Long calendarIdx,
+            @RequestParam(name = "start") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam(name = "end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @RequestParam(name = "excludeIdx", required = false) Long excludeIdx,
+            @RequestParam(name = "occurrenceStart", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime occurrenceStart) {
+
+        List<ScheduleResponseMonthDto> scheduleResponseMonthDto = freeBusyService.findConflicts(calendarIdx, start, end, excludeIdx, occurrenceStart);
+        return ResponseEntity.ok(scheduleResponseMonthDto);
+    }
+
+    // 일정 목록(무한 스크롤) - 응답의 nextCursor 를 cursor 로 넘겨 이어서 조회, backward=true 면 과거 방향
+    @GetMapping("/{calendarIdx}/agenda")
+    public ResponseEntity<ScheduleAgendaResponseDto> getAgenda(
+            @PathVariable(name = "calendarIdx") Long calendarIdx,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(name = "backward", required = false, defaultValue = "false") boolean backward,
+            @RequestParam(name = "size", required = false, defaultValue = "50") int size) {
+
+        ScheduleAgendaResponseDto scheduleAgendaResponseDto = scheduleAgendaService.findAgenda(calendarIdx, cursor, from, backward, size);
+        return ResponseEntity.ok(scheduleAgendaResponseDto);
+    }
+
 }
@@ -0,0 +1,25 @@
+package com.example.dailyLog.controller;
+
+import com.example.dailyLog.dto.response.SyncResponseDto;
+import com.example.dailyLog.service.SyncService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/sync")
+@RequiredArgsConstructor
+public class SyncController {
+
+    private final SyncService syncService;
+
+    // 마지막 동기화 이후 변경된 일정/일기 조회 (syncToken 이 없으면 전체)
+    @GetMapping("/{calendarIdx}")
+    public ResponseEntity<SyncResponseDto> sync(
+            @PathVariable(name = "calendarIdx") Long calendarIdx,
+            @RequestParam(name = "syncToken", required = false) String syncToken) {
+
+        SyncResponseDto syncResponseDto = syncService.sync(calendarIdx, syncToken);
+        return ResponseEntity.ok(syncResponseDto);
+    }
+}
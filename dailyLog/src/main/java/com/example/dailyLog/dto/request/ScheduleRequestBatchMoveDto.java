@@ -0,0 +1,21 @@
+package com.example.dailyLog.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleRequestBatchMoveDto {
+
+        // 드래그 앤 드랍으로 함께 옮긴 일정들 (한 트랜잭션에서 처리)
+        @NotEmpty
+        @Size(max = 500)
+        private List<@Valid ScheduleRequestMoveDto> moves;
+}
@@ -37,6 +37,10 @@ public class ScheduleRequestInsertDto {
 
         private LocalDate repeatEndDate;  // 반복 종료 일자 (반복이 언제까지 지속되는지)
 
+        private Integer repeatInterval;  // 반복 간격 (예: 2 = 격주), 없으면 1
+
+        private boolean rejectConflicts;  // true 면 겹치는 일정이 있을 때 저장하지 않음 (409)
+
 
         // 날짜 유효성 검사
         @AssertTrue(message = "End time must be after the start time.")
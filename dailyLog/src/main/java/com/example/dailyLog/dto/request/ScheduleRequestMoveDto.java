@@ -0,0 +1,32 @@
+package com.example.dailyLog.dto.request;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleRequestMoveDto {
+
+        @NotNull
+        private Long idx;
+
+        @NotNull
+        private LocalDateTime start;
+
+        @NotNull
+        private LocalDateTime end;
+
+        private LocalDateTime occurrenceStart;  // 옮길 반복 회차의 원래 시작 시각 (없으면 첫 회차)
+
+        // 날짜 유효성 검사
+        @AssertTrue(message = "End time must be after the start time.")
+        public boolean isEndAfterStart() {
+                return end == null || start == null || !end.isBefore(start);
+        }
+}
@@ -40,6 +40,12 @@ public class ScheduleRequestUpdateDto {
 
         private LocalDate repeatEndDate;  // 반복 종료 일자 (반복이 언제까지 지속되는지)
 
+        private Integer repeatInterval;  // 반복 간격 (예: 2 = 격주), 없으면 1
+
+        private LocalDateTime occurrenceStart;  // 수정할 반복 회차의 원래 시작 시각 (없으면 첫 회차)
+
+        private boolean rejectConflicts;  // true 면 겹치는 일정이 있을 때 저장하지 않음 (409)
+
         // 날짜 유효성 검사
         @AssertTrue(message = "End time must be after the start time.")
         public boolean isEndAfterStart() {
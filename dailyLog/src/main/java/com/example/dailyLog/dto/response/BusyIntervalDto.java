@@ -0,0 +1,16 @@
+package com.example.dailyLog.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class BusyIntervalDto {
+
+    private LocalDateTime start;
+
+    private LocalDateTime end;
+
+}
@@ -0,0 +1,24 @@
+package com.example.dailyLog.dto.response;
+
+import com.example.dailyLog.constant.CalendarItemType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 실시간 변경 알림 - 변경된 ID 만 전달 (클라이언트는 /sync 로 내용을 받아감)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalendarChangePushDto {
+
+    private Long calendarIdx;
+
+    private CalendarItemType target;
+
+    private List<Long> changed;  // 생성/수정/이동된 항목
+
+    private List<Long> deleted;  // 삭제된 항목
+
+}
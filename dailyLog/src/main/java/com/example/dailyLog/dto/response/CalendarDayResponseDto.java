@@ -0,0 +1,26 @@
+package com.example.dailyLog.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 날짜별 음력/공휴일 표시
+@Getter
+@AllArgsConstructor
+public class CalendarDayResponseDto {
+
+    private LocalDate date;
+
+    private int lunarMonth;
+
+    private int lunarDay;
+
+    private boolean leapMonth;
+
+    private String holiday;  // 표시용 이름 (겹친 날은 "개천절, 추석")
+
+    private List<String> holidays;  // 그 날의 공휴일 이름 전체
+
+}
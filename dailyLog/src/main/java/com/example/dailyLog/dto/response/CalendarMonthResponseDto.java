@@ -0,0 +1,19 @@
+package com.example.dailyLog.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 홈 화면 월달력 - 일정과 일기 (요청 시 날짜별 음력/공휴일까지) 표시를 한 번에 전달
+@Getter
+@AllArgsConstructor
+public class CalendarMonthResponseDto {
+
+    private List<ScheduleResponseMonthDto> schedules;
+
+    private List<DiaryResponseMonthDto> diaries;
+
+    private List<CalendarDayResponseDto> days;
+
+}
@@ -0,0 +1,35 @@
+package com.example.dailyLog.dto.response;
+
+import com.example.dailyLog.constant.Category;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Builder
+@Getter
+@AllArgsConstructor
+public class DiaryResponseSyncDto {
+
+    private Long idx;
+
+    private String title;
+
+    private String content;
+
+    private LocalDate date;
+
+    private Category category;
+
+    @Setter
+    private List<String> images;
+
+    // JPQL 프로젝션용 (이미지는 별도 쿼리로 채움)
+    public DiaryResponseSyncDto(Long idx, String title, String content, LocalDate date, Category category) {
+        this(idx, title, content, date, category, null);
+    }
+
+}
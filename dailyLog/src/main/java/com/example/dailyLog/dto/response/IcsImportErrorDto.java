@@ -0,0 +1,18 @@
+package com.example.dailyLog.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class IcsImportErrorDto {
+
+    private int eventNumber;  // 파일 안에서 몇 번째 VEVENT 인지 (1부터)
+
+    private String uid;
+
+    private String summary;
+
+    private String message;
+
+}
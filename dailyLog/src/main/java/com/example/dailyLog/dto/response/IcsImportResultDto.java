@@ -0,0 +1,43 @@
+package com.example.dailyLog.dto.response;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+public class IcsImportResultDto {
+
+    // 오류 목록은 앞에서부터 일정 개수만 담음 (건수는 모두 셈)
+    private static final int MAX_ERRORS = 100;
+
+    private int totalEvents;
+
+    private int importedEvents;
+
+    private int failedEvents;
+
+    private int committedChunks;
+
+    private boolean errorsTruncated;
+
+    private final List<IcsImportErrorDto> errors = new ArrayList<>();
+
+    public void countEvent() {
+        totalEvents++;
+    }
+
+    public void addImported(int count) {
+        importedEvents += count;
+        committedChunks++;
+    }
+
+    public void addError(int eventNumber, String uid, String summary, String message) {
+        failedEvents++;
+        if (errors.size() < MAX_ERRORS) {
+            errors.add(new IcsImportErrorDto(eventNumber, uid, summary, message));
+        } else {
+            errorsTruncated = true;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.dailyLog.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 일정 목록(agenda) 한 페이지 - 항목은 항상 시작 시각 오름차순
+@Getter
+@AllArgsConstructor
+public class ScheduleAgendaResponseDto {
+
+    private List<ScheduleResponseMonthDto> items;
+
+    private String nextCursor;  // 같은 방향으로 이어서 조회할 커서 (더 없으면 null)
+
+}
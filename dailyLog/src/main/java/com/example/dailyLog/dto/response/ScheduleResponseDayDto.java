@@ -34,4 +34,6 @@ public class ScheduleResponseDayDto {
 
     private LocalDate repeatEndDate;
 
+    private Integer repeatInterval;
+
 }
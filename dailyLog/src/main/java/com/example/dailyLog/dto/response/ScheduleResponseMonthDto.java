@@ -2,6 +2,7 @@ package com.example.dailyLog.dto.response;
 
 import com.example.dailyLog.constant.Color;
 import com.example.dailyLog.entity.Calendars;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -9,6 +10,7 @@ import java.time.LocalDateTime;
 
 @Builder
 @Getter
+@AllArgsConstructor
 public class ScheduleResponseMonthDto {
 
     private Long idx; // 스케줄 ID 추가
@@ -0,0 +1,17 @@
+package com.example.dailyLog.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 월달력 일정 + 날짜별 음력/공휴일 (includeHolidays=true 일 때만)
+@Getter
+@AllArgsConstructor
+public class ScheduleResponseMonthHolidayDto {
+
+    private List<ScheduleResponseMonthDto> schedules;
+
+    private List<CalendarDayResponseDto> days;
+
+}
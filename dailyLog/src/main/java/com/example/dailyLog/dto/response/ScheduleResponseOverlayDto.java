@@ -0,0 +1,28 @@
+package com.example.dailyLog.dto.response;
+
+import com.example.dailyLog.constant.Color;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 친구 일정 겹쳐보기 - 내용 없이 어느 캘린더(친구)의 바쁜 시간인지만 전달
+@Builder
+@Getter
+@AllArgsConstructor
+public class ScheduleResponseOverlayDto {
+
+    private Long calendarIdx;
+
+    private Long userIdx;
+    private String userName;
+
+    private Long idx;
+
+    private LocalDateTime start;
+    private LocalDateTime end;
+
+    private Color color;
+
+}
@@ -0,0 +1,55 @@
+package com.example.dailyLog.dto.response;
+
+import com.example.dailyLog.constant.Color;
+import com.example.dailyLog.constant.RepeatType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 동기화용 일정 (반복 일정은 규칙 그대로 내려주고 회차 전개는 클라이언트에서)
+@Builder
+@Getter
+@AllArgsConstructor
+public class ScheduleResponseSyncDto {
+
+    private Long idx;
+
+    private String title;
+
+    private String content;
+
+    private LocalDateTime start;
+
+    private LocalDateTime end;
+
+    private String location;
+
+    private Color color;
+
+    @Setter
+    private List<String> images;
+
+    private RepeatType repeatType;
+
+    private LocalDate repeatEndDate;
+
+    private Integer repeatInterval;
+
+    private Long repeatGroupId;
+
+    @Setter
+    private List<LocalDateTime> exceptionStarts;  // 제외된 회차의 원래 시작 시각
+
+    // JPQL 프로젝션용 (이미지/제외 회차는 별도 쿼리로 채움)
+    public ScheduleResponseSyncDto(Long idx, String title, String content, LocalDateTime start, LocalDateTime end,
+                                   String location, Color color, RepeatType repeatType, LocalDate repeatEndDate,
+                                   Integer repeatInterval, Long repeatGroupId) {
+        this(idx, title, content, start, end, location, color, null, repeatType, repeatEndDate, repeatInterval, repeatGroupId, null);
+    }
+
+}
@@ -1,17 +1,19 @@
 package com.example.dailyLog.dto.response;
 
 import com.example.dailyLog.constant.Color;
-import com.example.dailyLog.entity.Calendars;
 import lombok.Builder;
 import lombok.Getter;
-import java.time.LocalDateTime;
 
+import java.time.LocalDate;
+import java.util.Set;
+
+// 연달력 하루 단위 표시 (그날 일정들의 색상 집합)
 @Builder
 @Getter
 public class ScheduleResponseYearDto {
 
-        private LocalDateTime start;
+        private LocalDate date;
 
-        private Color color;
+        private Set<Color> colors;
 
 }
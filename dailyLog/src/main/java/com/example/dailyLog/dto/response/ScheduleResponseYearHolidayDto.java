@@ -0,0 +1,17 @@
+package com.example.dailyLog.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 연달력 일정 + 그 해의 공휴일 (includeHolidays=true 일 때만)
+@Getter
+@AllArgsConstructor
+public class ScheduleResponseYearHolidayDto {
+
+    private List<ScheduleResponseYearDto> schedules;
+
+    private List<CalendarDayResponseDto> holidays;
+
+}
@@ -0,0 +1,26 @@
+package com.example.dailyLog.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Builder
+@Getter
+public class SyncResponseDto {
+
+    private String syncToken;  // 다음 동기화 요청에 그대로 전달
+
+    private boolean fullSync;  // true 면 로컬 데이터를 모두 이 응답으로 교체
+
+    private boolean hasMore;  // true 면 이 토큰으로 바로 다시 요청해 나머지를 받음 (전체 동기화 페이지)
+
+    private List<ScheduleResponseSyncDto> schedules;
+
+    private List<Long> deletedScheduleIdxList;
+
+    private List<DiaryResponseSyncDto> diaries;
+
+    private List<Long> deletedDiaryIdxList;
+
+}
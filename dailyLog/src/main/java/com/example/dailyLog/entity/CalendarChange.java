@@ -0,0 +1,49 @@
+package com.example.dailyLog.entity;
+
+import com.example.dailyLog.constant.CalendarItemType;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+// 동기화용 변경 기록 - 항목당 한 행(마지막 변경 버전), 삭제된 항목은 deleted 로 남김 (오래된 삭제 기록은 정리)
+@Entity
+@Table(name = "calendarChange",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"cal_idx", "cc_item_type", "cc_item_idx"}),
+        indexes = {
+                @Index(name = "idx_calendar_change_version", columnList = "cal_idx, cc_version"),
+                @Index(name = "idx_calendar_change_deleted_at", columnList = "cc_deleted, cc_changed_at")
+        })
+@Getter @Setter
+@ToString
+public class CalendarChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "calendar_change_seq")
+    @SequenceGenerator(name = "calendar_change_seq", sequenceName = "calendar_change_seq", allocationSize = 50)
+    @Column(name = "cc_idx")
+    private Long idx;
+
+    @Column(name = "cal_idx", nullable = false)
+    private Long calendarIdx;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "cc_item_type", nullable = false)
+    private CalendarItemType itemType;
+
+    @Column(name = "cc_item_idx", nullable = false)
+    private Long itemIdx;
+
+    // 변경이 반영된 캘린더 버전
+    @Column(name = "cc_version", nullable = false)
+    private long version;
+
+    @Column(name = "cc_deleted", nullable = false)
+    private boolean deleted;
+
+    @Column(name = "cc_changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+}
@@ -4,6 +4,8 @@ import com.example.dailyLog.constant.Theme;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+
 
 
 @Entity
@@ -28,4 +30,23 @@ public class Calendars {
     @JsonBackReference
     private User user;
 
+    // 가장 긴 일정의 길이(분) - 일간 조회에서 여러 날에 걸친 일정을 찾을 시작 시각 하한 (줄어들지 않음)
+    // 동시 쓰기에서 작은 값이 덮어쓰지 않도록 GREATEST UPDATE 문으로만 증가시킴 (CalendarRepository.extendMaxSpan)
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "c_max_span_minutes", nullable = false, updatable = false)
+    private long maxSpanMinutes = 0L;
+
+    // 일정/일기가 변경될 때마다 증가하는 버전 (ETag) - 동시 변경에도 누락되지 않도록 UPDATE 문으로만 증가시킴
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "c_version", nullable = false, updatable = false)
+    private long version = 0L;
+
+    // 이 버전 이하의 삭제 기록은 정리되었으므로 더 오래된 동기화 토큰은 전체 동기화로 처리 (CalendarChangeCompactor 가 올림)
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "c_min_sync_version", nullable = false, updatable = false)
+    private long minSyncVersion = 0L;
+
 }
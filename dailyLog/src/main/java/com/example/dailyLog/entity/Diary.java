@@ -9,7 +9,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "diary")
+@Table(name = "diary", indexes = {
+        // 캘린더별 날짜 구간 조회(월달력/일간/동기화)와 통계 재집계: cal_idx 고정 후 날짜 범위 스캔, 카테고리까지 커버링
+        @Index(name = "idx_diary_cal_date_category", columnList = "cal_idx, d_date, d_category"),
+        // 전체 동기화 키셋 페이지: 캘린더 안에서 ID 순으로 읽음
+        @Index(name = "idx_diary_cal_idx", columnList = "cal_idx, d_idx")
+})
 @Getter
 @Setter
 @ToString
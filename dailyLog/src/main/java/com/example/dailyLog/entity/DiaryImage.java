@@ -6,7 +6,7 @@ import lombok.ToString;
 import jakarta.persistence.*;
 
 @Entity
-@Table(name = "diaryImage")
+@Table(name = "diaryImage", indexes = @Index(name = "idx_diary_image_url", columnList = "img_url"))
 @Getter @Setter
 @ToString
 public class DiaryImage {
@@ -0,0 +1,37 @@
+package com.example.dailyLog.entity;
+
+import com.example.dailyLog.constant.Category;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+
+// 통계용 집계 - 사용자/날짜/카테고리별 일기 수 (일기 입력/수정/삭제 트랜잭션에서 함께 갱신)
+@Entity
+@Table(name = "diaryStatistics",
+        uniqueConstraints = @UniqueConstraint(name = "uk_diary_statistics_user_date_category",
+                columnNames = {"u_idx", "ds_date", "ds_category"}))
+@Getter @Setter
+@ToString
+public class DiaryStatistics {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ds_idx")
+    private Long idx;
+
+    @Column(name = "u_idx", nullable = false)
+    private Long userIdx;
+
+    @Column(name = "ds_date", nullable = false)
+    private LocalDate date;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "ds_category", nullable = false)
+    private Category category;
+
+    @Column(name = "ds_count", nullable = false)
+    private long diaryCount;
+
+}
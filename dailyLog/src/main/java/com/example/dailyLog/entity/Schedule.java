@@ -12,7 +12,17 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "schedule")
+@Table(name = "schedule", indexes = {
+        // 기간 조회: 캘린더 + 반복 여부로 좁힌 뒤 시작 시각 범위 스캔 (월간 DTO 컬럼까지 포함한 커버링 인덱스)
+        @Index(name = "idx_schedule_cal_type_start_cover", columnList = "cal_idx, repeat_type, s_start, s_end, s_color, s_title"),
+        // 일정 목록(agenda) 키셋 페이지: (시작 시각, ID) 순서를 인덱스 순서 그대로 읽음
+        @Index(name = "idx_schedule_cal_type_start_idx", columnList = "cal_idx, repeat_type, s_start, s_idx"),
+        // 반복 여부와 무관한 시작 시각 순 조회
+        @Index(name = "idx_schedule_cal_start", columnList = "cal_idx, s_start"),
+        @Index(name = "idx_schedule_repeat_group", columnList = "repeat_group_id, s_start"),
+        // 전체 동기화 키셋 페이지: 캘린더 안에서 ID 순으로 읽음
+        @Index(name = "idx_schedule_cal_idx", columnList = "cal_idx, s_idx")
+})
 @Getter @Setter
 @ToString
 @NoArgsConstructor
@@ -20,8 +30,10 @@ import java.util.List;
 @AllArgsConstructor
 public class Schedule {
 
+    // IDENTITY는 INSERT 배치를 막으므로 시퀀스(pooled)로 ID를 미리 할당
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "schedule_seq")
+    @SequenceGenerator(name = "schedule_seq", sequenceName = "schedule_seq", allocationSize = 50)
     @Column(name = "s_idx")
     private Long idx;
 
@@ -51,16 +63,27 @@ public class Schedule {
     @Column(name = "repeat_end_date")
     private LocalDate repeatEndDate;
 
+    @Builder.Default
+    @Column(name = "repeat_interval", nullable = false)
+    private int repeatInterval = 1;
+
     @Column(name = "repeat_group_id", nullable = false)
     private Long repeatGroupId;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "cal_idx", nullable = false)
+    @ToString.Exclude
     private Calendars calendars;
 
     @OneToMany(mappedBy = "schedule", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ScheduleImage> scheduleImages = new ArrayList<>();
 
+    // 반복 일정에서 제외된 회차
+    @Builder.Default
+    @ToString.Exclude
+    @OneToMany(mappedBy = "schedule", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<ScheduleException> scheduleExceptions = new ArrayList<>();
+
     // 날짜 유효성 검사
     @PrePersist
     @PreUpdate
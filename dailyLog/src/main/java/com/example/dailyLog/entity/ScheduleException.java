@@ -0,0 +1,30 @@
+package com.example.dailyLog.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+// 반복 일정의 제외 회차 (원래 시작 시각 기준)
+@Entity
+@Table(name = "scheduleException",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"s_idx", "e_original_start"}))
+@Getter @Setter
+@ToString
+public class ScheduleException {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "e_idx")
+    private Long idx;
+
+    @Column(name = "e_original_start", nullable = false)
+    private LocalDateTime originalStart;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "s_idx", nullable = false)
+    @ToString.Exclude
+    private Schedule schedule;
+
+}
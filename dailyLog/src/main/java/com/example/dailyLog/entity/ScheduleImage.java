@@ -6,12 +6,14 @@ import lombok.Setter;
 import lombok.ToString;
 
 @Entity
-@Table(name = "scheduleImage")
+@Table(name = "scheduleImage", indexes = @Index(name = "idx_schedule_image_url", columnList = "img_url"))
 @Getter @Setter
 @ToString
 public class ScheduleImage {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "schedule_image_seq")
+    @SequenceGenerator(name = "schedule_image_seq", sequenceName = "schedule_image_seq", allocationSize = 50)
     @Column(name = "i_idx")
     private Long idx;
 
@@ -0,0 +1,85 @@
+package com.example.dailyLog.event;
+
+import com.example.dailyLog.constant.CalendarItemType;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+// 캘린더의 일정/일기가 변경됨 (같은 트랜잭션에서 변경/삭제된 항목과 영향을 받은 달을 모음)
+@Getter
+public class CalendarChangedEvent {
+
+    private final Long calendarIdx;
+
+    private final CalendarItemType target;
+
+    // true 면 모든 달이 영향을 받음 (반복 일정 등)
+    private final boolean allMonths;
+
+    private final Set<YearMonth> months = new HashSet<>();
+
+    private final Set<Long> changedIdxSet = new LinkedHashSet<>();
+
+    private final Set<Long> deletedIdxSet = new LinkedHashSet<>();
+
+    private CalendarChangedEvent(Long calendarIdx, CalendarItemType target, boolean allMonths) {
+        this.calendarIdx = calendarIdx;
+        this.target = target;
+        this.allMonths = allMonths;
+    }
+
+    // 시작 시각이 속한 달의 일정이 변경됨
+    public static CalendarChangedEvent schedules(Long calendarIdx, LocalDateTime... starts) {
+        return new CalendarChangedEvent(calendarIdx, CalendarItemType.SCHEDULE, false).addMonths(starts);
+    }
+
+    // 반복 일정처럼 여러 달에 걸친 변경
+    public static CalendarChangedEvent allSchedules(Long calendarIdx) {
+        return new CalendarChangedEvent(calendarIdx, CalendarItemType.SCHEDULE, true);
+    }
+
+    public static CalendarChangedEvent diaries(Long calendarIdx, LocalDate date) {
+        CalendarChangedEvent event = new CalendarChangedEvent(calendarIdx, CalendarItemType.DIARY, false);
+        event.months.add(YearMonth.from(date));
+        return event;
+    }
+
+    public static CalendarChangedEvent allDiaries(Long calendarIdx) {
+        return new CalendarChangedEvent(calendarIdx, CalendarItemType.DIARY, true);
+    }
+
+    public CalendarChangedEvent addMonths(LocalDateTime... starts) {
+        for (LocalDateTime start : starts) {
+            if (start != null) {
+                months.add(YearMonth.from(start));
+            }
+        }
+        return this;
+    }
+
+    // 생성/수정된 항목
+    public CalendarChangedEvent changed(Long... idxList) {
+        for (Long idx : idxList) {
+            if (idx != null) {
+                changedIdxSet.add(idx);
+                deletedIdxSet.remove(idx);
+            }
+        }
+        return this;
+    }
+
+    // 삭제된 항목
+    public CalendarChangedEvent deleted(Collection<Long> idxList) {
+        for (Long idx : idxList) {
+            changedIdxSet.remove(idx);
+            deletedIdxSet.add(idx);
+        }
+        return this;
+    }
+}
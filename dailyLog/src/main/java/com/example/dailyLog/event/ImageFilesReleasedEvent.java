@@ -0,0 +1,15 @@
+package com.example.dailyLog.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 일정/일기 이미지 행이 삭제되어 파일이 더 이상 참조되지 않을 수 있음 (커밋 후 파일 정리 대상)
+@Getter
+@AllArgsConstructor
+public class ImageFilesReleasedEvent {
+
+    private final List<String> imageUrls;
+
+}
@@ -12,6 +12,7 @@ public enum CommonErrorCode implements ErrorCode {
     JSON_PARSING_ERROR(HttpStatus.BAD_REQUEST, "요청 데이터의 형식이 잘못되었습니다."),
     EXTERNAL_API_ERROR(HttpStatus.BAD_GATEWAY, "외부 API 호출에 실패했습니다."),
     SERVER_TIMEOUT(HttpStatus.REQUEST_TIMEOUT, "서버 응답 시간이 초과되었습니다."),
+    TOO_MANY_CONNECTIONS(HttpStatus.SERVICE_UNAVAILABLE, "동시 연결 수가 너무 많습니다. 잠시 후 다시 시도해 주세요."),
     ACCESS_DENIED(HttpStatus.FORBIDDEN, "접근이 허용되지 않습니다."),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "내부 서버 오류가 발생했습니다."),
 
@@ -24,6 +25,8 @@ public enum CommonErrorCode implements ErrorCode {
     INVALID_DAY(HttpStatus.BAD_REQUEST, "해당 월의 잘못된 일(day) 범위입니다."),
     RESOURCE_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 리소스를 찾을 수 없습니다."),
     INVALID_TIME_FORMAT(HttpStatus.BAD_REQUEST, "잘못된 시간 형식입니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 페이지 커서입니다."),
+    INVALID_DATE_RANGE(HttpStatus.BAD_REQUEST, "잘못된 조회 기간입니다. 종료가 시작 이후여야 하며 최대 366일까지 조회할 수 있습니다."),
 
     ;
 
@@ -0,0 +1,9 @@
+package com.example.dailyLog.exception.scheduleException;
+
+import com.example.dailyLog.exception.commonException.error.BizException;
+
+public class InvalidOccurrenceException extends BizException {
+    public InvalidOccurrenceException(ScheduleErrorCode scheduleErrorCode) {
+        super(scheduleErrorCode);
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.dailyLog.exception.scheduleException;
+
+import com.example.dailyLog.exception.commonException.error.BizException;
+
+public class ScheduleConflictException extends BizException {
+    public ScheduleConflictException(ScheduleErrorCode scheduleErrorCode) {
+        super(scheduleErrorCode);
+    }
+}
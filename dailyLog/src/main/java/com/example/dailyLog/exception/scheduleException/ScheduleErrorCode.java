@@ -7,6 +7,7 @@ public enum ScheduleErrorCode implements ErrorCode {
 
     SCHEDULE_NOT_FOUND(HttpStatus.NOT_FOUND, "일정이 존재하지 않습니다."),
     DUPLICATE_SCHEDULE(HttpStatus.CONFLICT, "해당 시간에 중복 일정이 있습니다."),
+    INVALID_OCCURRENCE(HttpStatus.BAD_REQUEST, "반복 일정에 해당 회차가 없습니다."),
     ;
 
 
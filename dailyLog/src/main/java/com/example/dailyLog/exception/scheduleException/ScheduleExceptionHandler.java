@@ -27,4 +27,16 @@ public class ScheduleExceptionHandler {
     public ResponseEntity<ErrorResponse> handleScheduleNotFoundException(ScheduleNotFoundException e){
         return createErrorResponse(e.getErrorCode());
     }
+
+    // 겹치는 일정이 있을 때
+    @ExceptionHandler(ScheduleConflictException.class)
+    public ResponseEntity<ErrorResponse> handleScheduleConflictException(ScheduleConflictException e){
+        return createErrorResponse(e.getErrorCode());
+    }
+
+    // 반복 일정에 없는(이미 제외된) 회차를 지정했을 때
+    @ExceptionHandler(InvalidOccurrenceException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidOccurrenceException(InvalidOccurrenceException e){
+        return createErrorResponse(e.getErrorCode());
+    }
 }
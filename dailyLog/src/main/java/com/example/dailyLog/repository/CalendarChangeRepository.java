@@ -0,0 +1,30 @@
+package com.example.dailyLog.repository;
+
+import com.example.dailyLog.constant.CalendarItemType;
+import com.example.dailyLog.entity.CalendarChange;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface CalendarChangeRepository extends JpaRepository<CalendarChange, Long> {
+
+    // 기존 변경 기록 (항목당 한 행을 갱신하기 위해)
+    @Query("SELECT c FROM CalendarChange c WHERE c.calendarIdx = :calendarIdx AND c.itemType = :itemType AND c.itemIdx IN :itemIdxList")
+    List<CalendarChange> findByItems(@Param("calendarIdx") Long calendarIdx, @Param("itemType") CalendarItemType itemType, @Param("itemIdxList") Collection<Long> itemIdxList);
+
+    // (from, to] 버전 사이의 변경
+    @Query("SELECT c FROM CalendarChange c WHERE c.calendarIdx = :calendarIdx AND c.version > :fromVersion AND c.version <= :toVersion")
+    List<CalendarChange> findChanges(@Param("calendarIdx") Long calendarIdx, @Param("fromVersion") long fromVersion, @Param("toVersion") long toVersion);
+
+    // 기준 시각 이전의 삭제 기록 정리 (한 번에 limit 행씩 - 긴 트랜잭션/잠금을 피함)
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM calendar_change WHERE cc_deleted = TRUE AND cc_changed_at < :cutoff LIMIT :limit", nativeQuery = true)
+    int deleteTombstonesBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
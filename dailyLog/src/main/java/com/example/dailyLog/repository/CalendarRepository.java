@@ -2,7 +2,51 @@ package com.example.dailyLog.repository;
 
 import com.example.dailyLog.entity.Calendars;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 public interface CalendarRepository extends JpaRepository<Calendars, Long> {
 
+    // 캘린더 버전만 조회 (일정/일기 테이블은 조회하지 않음)
+    @Query("SELECT c.version FROM Calendars c WHERE c.idx = :calendarIdx")
+    Optional<Long> findVersionByIdx(@Param("calendarIdx") Long calendarIdx);
+
+    // (캘린더 버전, 동기화 가능한 최소 버전)
+    @Query("SELECT c.version, c.minSyncVersion FROM Calendars c WHERE c.idx = :calendarIdx")
+    List<Object[]> findSyncVersionsByIdx(@Param("calendarIdx") Long calendarIdx);
+
+    // 기준 시각 이전의 삭제 기록을 정리하기 전에 해당 캘린더들의 최소 동기화 버전을 정리될 기록의 버전까지 올림
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE calendars c JOIN (SELECT cal_idx, MAX(cc_version) AS max_version FROM calendar_change "
+            + "WHERE cc_deleted = TRUE AND cc_changed_at < :cutoff GROUP BY cal_idx) d ON d.cal_idx = c.cal_idx "
+            + "SET c.c_min_sync_version = GREATEST(c.c_min_sync_version, d.max_version)",
+            nativeQuery = true)
+    int raiseMinSyncVersions(@Param("cutoff") LocalDateTime cutoff);
+
+    // 캘린더 버전 증가
+    @Modifying
+    @Query("UPDATE Calendars c SET c.version = c.version + 1 WHERE c.idx = :calendarIdx")
+    int increaseVersion(@Param("calendarIdx") Long calendarIdx);
+
+    // 최장 일정 길이(분) 증가 - 읽고 쓰는 대신 한 문장으로 비교/갱신해 동시 쓰기에서도 큰 값이 남음
+    @Modifying
+    @Query(value = "UPDATE calendars SET c_max_span_minutes = GREATEST(c_max_span_minutes, :minutes) WHERE cal_idx = :calendarIdx",
+            nativeQuery = true)
+    int raiseMaxSpanMinutes(@Param("calendarIdx") Long calendarIdx, @Param("minutes") long minutes);
+
+    // 일정 길이가 지금 알고 있는 최장 길이보다 길 때만 갱신 (DB 값은 줄어들지 않으므로 짧으면 생략해도 안전)
+    default void extendMaxSpan(Calendars calendars, Duration span) {
+        long minutes = (span.getSeconds() + 59) / 60;
+        if (minutes > calendars.getMaxSpanMinutes()) {
+            raiseMaxSpanMinutes(calendars.getIdx(), minutes);
+        }
+    }
 }
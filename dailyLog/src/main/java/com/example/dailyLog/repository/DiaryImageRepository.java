@@ -3,10 +3,19 @@ package com.example.dailyLog.repository;
 import com.example.dailyLog.entity.Diary;
 import com.example.dailyLog.entity.DiaryImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface DiaryImageRepository extends JpaRepository<DiaryImage, Long> {
     void deleteByImgUrl(String imgUrl);
+    void deleteByDiaryAndImgUrl(Diary diary, String imgUrl);
+    boolean existsByImgUrl(String imgUrl);
+
+    // 여러 일기의 이미지 URL을 한 번에 조회 (diaryIdx, imgUrl)
+    @Query("SELECT i.diary.idx, i.imgUrl FROM DiaryImage i WHERE i.diary.idx IN :diaryIdxList ORDER BY i.idx")
+    List<Object[]> findImageUrlsByDiaryIdxIn(@Param("diaryIdxList") Collection<Long> diaryIdxList);
 
 }
@@ -1,12 +1,18 @@
 package com.example.dailyLog.repository;
 
 import com.example.dailyLog.constant.Category;
+import com.example.dailyLog.dto.response.DiaryResponseSyncDto;
 import com.example.dailyLog.entity.Calendars;
 import com.example.dailyLog.entity.Diary;
 import com.example.dailyLog.entity.Schedule;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface DiaryRepository extends JpaRepository<Diary, Long> {
@@ -16,6 +22,16 @@ public interface DiaryRepository extends JpaRepository<Diary, Long> {
     List<Diary> findByCalendarsIdxAndDate(Long calendarIdx, LocalDate date);
     List<Diary> findByCalendarsIdxAndDateBetween(Long calendarIdx, LocalDate start, LocalDate end);
 
+    // 전체 동기화 키셋 페이지 - ID 순으로 afterIdx 다음 일기
+    @Query("SELECT new com.example.dailyLog.dto.response.DiaryResponseSyncDto(d.idx, d.title, d.content, d.date, d.category) "
+            + "FROM Diary d WHERE d.calendars.idx = :calendarIdx AND d.idx > :afterIdx ORDER BY d.idx")
+    List<DiaryResponseSyncDto> findSyncPage(@Param("calendarIdx") Long calendarIdx, @Param("afterIdx") Long afterIdx, Limit limit);
+
+    // 변경분 동기화 - 변경된 일기만 동기화 DTO로 조회
+    @Query("SELECT new com.example.dailyLog.dto.response.DiaryResponseSyncDto(d.idx, d.title, d.content, d.date, d.category) "
+            + "FROM Diary d WHERE d.idx IN :idxList")
+    List<DiaryResponseSyncDto> findSyncRowsByIdxIn(@Param("idxList") Collection<Long> idxList);
+
     // 캘린더 일기 검색
 //    List<Diary> findByTitleContainingIgnoreCase(String title);
 //    List<Diary> findByContentContainingIgnoreCase(String content);
@@ -25,4 +25,9 @@ public interface FriendRepository extends JpaRepository<Friend, Long> {
     //친구 검색 관련
     @Query("SELECT f FROM Friend f WHERE (f.requester = :user OR f.receiver = :user) AND f.status = 'ACCEPTED'")
     List<Friend> findFriendsByUser(@Param("user") User user);
+
+    // 수락된 친구의 (유저 ID, 닉네임, 캘린더 ID) 를 한 번에 조회
+    @Query("SELECT u.idx, u.userName, u.calendars.idx FROM Friend f JOIN User u ON (u = f.requester OR u = f.receiver) "
+            + "WHERE (f.requester.idx = :userIdx OR f.receiver.idx = :userIdx) AND f.status = 'ACCEPTED' AND u.idx <> :userIdx")
+    List<Object[]> findFriendCalendarsByUserIdx(@Param("userIdx") Long userIdx);
 }
@@ -0,0 +1,73 @@
+package com.example.dailyLog.repository;
+
+import com.example.dailyLog.entity.ScheduleException;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ScheduleExceptionRepository extends JpaRepository<ScheduleException, Long> {
+
+    // 여러 반복 일정의 제외 회차를 한 번에 조회
+    List<ScheduleException> findByScheduleIdxIn(Collection<Long> scheduleIdxList);
+
+    // 조회 구간의 제외 회차만 (scheduleIdx, originalStart) - (s_idx, e_original_start) 유니크 인덱스 범위 스캔
+    @Query("SELECT e.schedule.idx, e.originalStart FROM ScheduleException e "
+            + "WHERE e.schedule.idx IN :scheduleIdxList AND e.originalStart >= :from AND e.originalStart < :to")
+    List<Object[]> findOriginalStartsInRange(@Param("scheduleIdxList") Collection<Long> scheduleIdxList,
+                                             @Param("from") LocalDateTime from,
+                                             @Param("to") LocalDateTime to);
+
+    // 회차 하나 제외 - 기존 제외 목록을 읽지 않고 한 번의 INSERT (이미 있으면 무시)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO schedule_exception (s_idx, e_original_start) VALUES (:scheduleIdx, :originalStart)",
+            nativeQuery = true)
+    int insertIgnore(@Param("scheduleIdx") Long scheduleIdx, @Param("originalStart") LocalDateTime originalStart);
+
+    // 반복 일정의 기준 시각 이후 제외 회차 삭제 (반복을 중간에서 자를 때)
+    @Modifying
+    @Query("DELETE FROM ScheduleException e WHERE e.schedule.idx = :scheduleIdx AND e.originalStart >= :start")
+    int deleteByScheduleIdxFrom(@Param("scheduleIdx") Long scheduleIdx, @Param("start") LocalDateTime start);
+
+    // 반복 일정의 제외 회차 전체 삭제 (반복 규칙 자체를 바꿀 때)
+    @Modifying
+    @Query("DELETE FROM ScheduleException e WHERE e.schedule.idx = :scheduleIdx")
+    int deleteAllByScheduleIdx(@Param("scheduleIdx") Long scheduleIdx);
+
+    // 반복 그룹에서 기준 시각 이후의 제외 회차 삭제
+    @Modifying
+    @Query("DELETE FROM ScheduleException e WHERE e.originalStart >= :start AND e.schedule.idx IN "
+            + "(SELECT s.idx FROM Schedule s WHERE s.calendars.idx = :calendarIdx AND s.repeatGroupId = :repeatGroupId)")
+    int deleteByRepeatGroupIdAfter(@Param("calendarIdx") Long calendarIdx, @Param("repeatGroupId") Long repeatGroupId,
+                                   @Param("start") LocalDateTime start);
+
+    // 반복 그룹 이동 시 제외 회차도 같은 만큼 이동
+    // (s_idx, e_original_start) 유니크 키는 행마다 검사되므로 이동 방향의 끝 회차부터 옮겨야 이웃 회차와 잠시라도 겹치지 않음
+    // (다중 테이블 UPDATE 는 ORDER BY 를 쓸 수 없어 단일 테이블 UPDATE + 서브쿼리)
+    @Modifying
+    @Query(value = "UPDATE schedule_exception SET e_original_start = DATE_ADD(e_original_start, INTERVAL :minutes MINUTE) "
+            + "WHERE s_idx IN (SELECT s.s_idx FROM schedule s WHERE s.cal_idx = :calendarIdx AND s.repeat_group_id = :repeatGroupId) "
+            + "ORDER BY e_original_start DESC",
+            nativeQuery = true)
+    int shiftLaterByRepeatGroupId(@Param("calendarIdx") Long calendarIdx, @Param("repeatGroupId") Long repeatGroupId,
+                                  @Param("minutes") long minutes);
+
+    @Modifying
+    @Query(value = "UPDATE schedule_exception SET e_original_start = DATE_ADD(e_original_start, INTERVAL :minutes MINUTE) "
+            + "WHERE s_idx IN (SELECT s.s_idx FROM schedule s WHERE s.cal_idx = :calendarIdx AND s.repeat_group_id = :repeatGroupId) "
+            + "ORDER BY e_original_start ASC",
+            nativeQuery = true)
+    int shiftEarlierByRepeatGroupId(@Param("calendarIdx") Long calendarIdx, @Param("repeatGroupId") Long repeatGroupId,
+                                    @Param("minutes") long minutes);
+
+    // 이동 방향에 맞는 순서로 제외 회차 이동
+    default int shiftByRepeatGroupId(Long calendarIdx, Long repeatGroupId, long minutes) {
+        return minutes >= 0
+                ? shiftLaterByRepeatGroupId(calendarIdx, repeatGroupId, minutes)
+                : shiftEarlierByRepeatGroupId(calendarIdx, repeatGroupId, minutes);
+    }
+}
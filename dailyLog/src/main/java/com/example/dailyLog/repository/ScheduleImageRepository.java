@@ -4,10 +4,38 @@ import com.example.dailyLog.entity.DiaryImage;
 import com.example.dailyLog.entity.Schedule;
 import com.example.dailyLog.entity.ScheduleImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface ScheduleImageRepository extends JpaRepository<ScheduleImage, Long> {
     List<ScheduleImage> findBySchedule(Schedule schedule);
     void deleteByImgUrl(String imgUrl);
+    void deleteByScheduleAndImgUrl(Schedule schedule, String imgUrl);
+    boolean existsByImgUrl(String imgUrl);
+
+    // 여러 일정의 이미지 URL을 한 번에 조회 (scheduleIdx, imgUrl)
+    @Query("SELECT i.schedule.idx, i.imgUrl FROM ScheduleImage i WHERE i.schedule.idx IN :scheduleIdxList ORDER BY i.idx")
+    List<Object[]> findImageUrlsByScheduleIdxIn(@Param("scheduleIdxList") Collection<Long> scheduleIdxList);
+
+    @Modifying
+    @Query("DELETE FROM ScheduleImage i WHERE i.schedule.idx IN :scheduleIdxList")
+    int deleteByScheduleIdxIn(@Param("scheduleIdxList") Collection<Long> scheduleIdxList);
+
+    // 반복 그룹에서 기준 시각 이후 시작하는 일정의 이미지 URL
+    @Query("SELECT i.imgUrl FROM ScheduleImage i WHERE i.schedule.calendars.idx = :calendarIdx "
+            + "AND i.schedule.repeatGroupId = :repeatGroupId AND i.schedule.start >= :start")
+    List<String> findImageUrlsByRepeatGroupIdAfter(@Param("calendarIdx") Long calendarIdx, @Param("repeatGroupId") Long repeatGroupId,
+                                                   @Param("start") LocalDateTime start);
+
+    @Modifying
+    @Query("DELETE FROM ScheduleImage i WHERE i.schedule.idx IN "
+            + "(SELECT s.idx FROM Schedule s WHERE s.calendars.idx = :calendarIdx AND s.repeatGroupId = :repeatGroupId AND s.start >= :start)")
+    int deleteByRepeatGroupIdAfter(@Param("calendarIdx") Long calendarIdx, @Param("repeatGroupId") Long repeatGroupId,
+                                   @Param("start") LocalDateTime start);
 
 }
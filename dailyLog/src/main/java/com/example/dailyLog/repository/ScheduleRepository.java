@@ -1,40 +1,155 @@
 package com.example.dailyLog.repository;
 
+import com.example.dailyLog.dto.response.ScheduleResponseMonthDto;
+import com.example.dailyLog.dto.response.ScheduleResponseSyncDto;
 import com.example.dailyLog.entity.Calendars;
 import com.example.dailyLog.entity.Schedule;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
 
-    // 월간 일정 조회
-    @Query("SELECT s FROM Schedule s WHERE s.calendars.idx = :calendarIdx AND s.start BETWEEN :start AND :end")
-    List<Schedule> findByCalendarsIdxAndStartBetween(@Param("calendarIdx") Long calendarIdx, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+    // 월간 단일 일정 조회 - 엔티티 대신 DTO 컬럼만 조회 (반복 일정은 조회 후 회차로 펼침)
+    @Query("SELECT new com.example.dailyLog.dto.response.ScheduleResponseMonthDto(s.idx, s.title, s.start, s.end, s.color) "
+            + "FROM Schedule s WHERE s.calendars.idx = :calendarIdx AND s.repeatType = 'NONE' "
+            + "AND s.start >= :start AND s.start < :end ORDER BY s.start")
+    List<ScheduleResponseMonthDto> findMonthScheduleViews(@Param("calendarIdx") Long calendarIdx, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
 
-    // 일간 일정 조회
-    @Query("SELECT s FROM Schedule s WHERE "
-            + "((s.start <= :end AND s.end >= :start) AND s.calendars.idx = :calendarIdx)")
+    // 여러 캘린더의 월간 단일 일정 (calendarIdx, idx, start, end, color) - 캘린더 수와 관계없이 한 번의 범위 조회
+    @Query("SELECT s.calendars.idx, s.idx, s.start, s.end, s.color FROM Schedule s "
+            + "WHERE s.calendars.idx IN :calendarIdxList AND s.repeatType = 'NONE' "
+            + "AND s.start >= :start AND s.start < :end ORDER BY s.start")
+    List<Object[]> findScheduleViewsInCalendars(@Param("calendarIdxList") Collection<Long> calendarIdxList, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // 일정 목록 키셋 페이지 - (start, idx) 가 커서보다 뒤인 단일 일정
+    @Query("SELECT new com.example.dailyLog.dto.response.ScheduleResponseMonthDto(s.idx, s.title, s.start, s.end, s.color) "
+            + "FROM Schedule s WHERE s.calendars.idx = :calendarIdx AND s.repeatType = 'NONE' "
+            + "AND (s.start > :start OR (s.start = :start AND s.idx > :idx)) ORDER BY s.start, s.idx")
+    List<ScheduleResponseMonthDto> findAgendaAfter(@Param("calendarIdx") Long calendarIdx, @Param("start") LocalDateTime start, @Param("idx") Long idx, Limit limit);
+
+    // 일정 목록 키셋 페이지 - (start, idx) 가 커서보다 앞인 단일 일정 (가까운 순)
+    @Query("SELECT new com.example.dailyLog.dto.response.ScheduleResponseMonthDto(s.idx, s.title, s.start, s.end, s.color) "
+            + "FROM Schedule s WHERE s.calendars.idx = :calendarIdx AND s.repeatType = 'NONE' "
+            + "AND (s.start < :start OR (s.start = :start AND s.idx < :idx)) ORDER BY s.start DESC, s.idx DESC")
+    List<ScheduleResponseMonthDto> findAgendaBefore(@Param("calendarIdx") Long calendarIdx, @Param("start") LocalDateTime start, @Param("idx") Long idx, Limit limit);
+
+    // 기준일 이후에도 회차가 남은 반복 일정이 있는지
+    @Query("SELECT COUNT(s) > 0 FROM Schedule s WHERE s.calendars.idx = :calendarIdx AND s.repeatType <> 'NONE' "
+            + "AND (s.repeatEndDate IS NULL OR s.repeatEndDate >= :date)")
+    boolean existsRecurringContinuingAfter(@Param("calendarIdx") Long calendarIdx, @Param("date") LocalDate date);
+
+    // 기준 시각 이전에 시작한 반복 일정이 있는지
+    @Query("SELECT COUNT(s) > 0 FROM Schedule s WHERE s.calendars.idx = :calendarIdx AND s.repeatType <> 'NONE' "
+            + "AND s.start < :start")
+    boolean existsRecurringStartingBefore(@Param("calendarIdx") Long calendarIdx, @Param("start") LocalDateTime start);
+
+    // 연간 단일 일정 조회 - 날짜별 색상만 (date, color)
+    @Query("SELECT DISTINCT cast(s.start as LocalDate), s.color FROM Schedule s "
+            + "WHERE s.calendars.idx = :calendarIdx AND s.repeatType = 'NONE' AND s.start >= :start AND s.start < :end")
+    List<Object[]> findYearScheduleColors(@Param("calendarIdx") Long calendarIdx, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // 기간 내 회차가 있을 수 있는 반복 일정 조회
+    @Query("SELECT s FROM Schedule s WHERE s.calendars.idx = :calendarIdx AND s.repeatType <> 'NONE' "
+            + "AND s.start < :end AND (s.repeatEndDate IS NULL OR s.repeatEndDate >= :startDate)")
+    List<Schedule> findRecurringSchedulesInRange(@Param("calendarIdx") Long calendarIdx, @Param("startDate") LocalDate startDate, @Param("end") LocalDateTime end);
+
+    // 여러 캘린더에서 기간 내 회차가 있을 수 있는 반복 일정 조회
+    @Query("SELECT s FROM Schedule s WHERE s.calendars.idx IN :calendarIdxList AND s.repeatType <> 'NONE' "
+            + "AND s.start < :end AND (s.repeatEndDate IS NULL OR s.repeatEndDate >= :startDate)")
+    List<Schedule> findRecurringSchedulesInCalendars(@Param("calendarIdxList") Collection<Long> calendarIdxList, @Param("startDate") LocalDate startDate, @Param("end") LocalDateTime end);
+
+    // 일간 단일 일정 조회
+    // 시작 시각을 [lowerBound, end] 로 한정해 인덱스 범위 스캔이 되도록 함 (lowerBound = 조회 시작 - 캘린더의 최장 일정 길이)
+    @Query("SELECT s FROM Schedule s WHERE s.calendars.idx = :calendarIdx AND s.repeatType = 'NONE' "
+            + "AND s.start >= :lowerBound AND s.start <= :end AND s.end >= :start")
     List<Schedule> findSchedulesInDay(
             @Param("start") LocalDateTime start,
             @Param("end") LocalDateTime end,
+            @Param("lowerBound") LocalDateTime lowerBound,
             @Param("calendarIdx") Long calendarIdx
     );
 
+    // [from, to) 와 겹치는 단일 일정 (lowerBound = from - 캘린더의 최장 일정 길이 로 시작 시각 범위를 한정)
+    @Query("SELECT s FROM Schedule s WHERE s.calendars.idx = :calendarIdx AND s.repeatType = 'NONE' "
+            + "AND s.start >= :lowerBound AND s.start < :to AND s.end > :from")
+    List<Schedule> findSchedulesOverlapping(
+            @Param("calendarIdx") Long calendarIdx,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("lowerBound") LocalDateTime lowerBound
+    );
+
     List<Schedule> findByStartBetween(LocalDateTime start, LocalDateTime end);
 
+    // 반복 그룹 조회/일괄 변경은 모두 캘린더로 한정 (그룹 ID 가 겹치거나 잘못 전달돼도 다른 캘린더의 일정을 건드리지 않음)
+
     // 특정 반복 그룹의 모든 일정 조회
-    @Query("SELECT s FROM Schedule s WHERE s.repeatGroupId = :repeatGroupId")
-    List<Schedule> findByRepeatGroupId(@Param("repeatGroupId") Long repeatGroupId);
+    @Query("SELECT s FROM Schedule s WHERE s.calendars.idx = :calendarIdx AND s.repeatGroupId = :repeatGroupId")
+    List<Schedule> findByRepeatGroupId(@Param("calendarIdx") Long calendarIdx, @Param("repeatGroupId") Long repeatGroupId);
 
-    // 특정 반복 그룹의 특정 날짜 이후 일정 삭제
+    // 반복 그룹의 일정 ID
+    @Query("SELECT s.idx FROM Schedule s WHERE s.calendars.idx = :calendarIdx AND s.repeatGroupId = :repeatGroupId")
+    List<Long> findIdxByRepeatGroupId(@Param("calendarIdx") Long calendarIdx, @Param("repeatGroupId") Long repeatGroupId);
+
+    // 반복 그룹의 일정 (scheduleIdx, start)
+    @Query("SELECT s.idx, s.start FROM Schedule s WHERE s.calendars.idx = :calendarIdx AND s.repeatGroupId = :repeatGroupId")
+    List<Object[]> findIdxAndStartByRepeatGroupId(@Param("calendarIdx") Long calendarIdx, @Param("repeatGroupId") Long repeatGroupId);
+
+    // 반복 그룹에서 분리된 회차(단일 일정) ID
+    @Query("SELECT s.idx FROM Schedule s WHERE s.calendars.idx = :calendarIdx AND s.repeatGroupId = :repeatGroupId AND s.repeatType = 'NONE'")
+    List<Long> findDetachedIdxByRepeatGroupId(@Param("calendarIdx") Long calendarIdx, @Param("repeatGroupId") Long repeatGroupId);
+
+    // 반복 그룹에서 기준 시각 이후 시작하는 분리된 회차 ID
+    @Query("SELECT s.idx FROM Schedule s WHERE s.calendars.idx = :calendarIdx AND s.repeatGroupId = :repeatGroupId "
+            + "AND s.repeatType = 'NONE' AND s.start >= :start")
+    List<Long> findDetachedIdxByRepeatGroupIdFrom(@Param("calendarIdx") Long calendarIdx, @Param("repeatGroupId") Long repeatGroupId,
+                                                  @Param("start") LocalDateTime start);
+
+    // 전체 동기화 키셋 페이지 - ID 순으로 afterIdx 다음 일정 (엔티티 대신 동기화 DTO로 바로 조회)
+    @Query("SELECT new com.example.dailyLog.dto.response.ScheduleResponseSyncDto(s.idx, s.title, s.content, s.start, s.end, "
+            + "s.location, s.color, s.repeatType, s.repeatEndDate, s.repeatInterval, s.repeatGroupId) "
+            + "FROM Schedule s WHERE s.calendars.idx = :calendarIdx AND s.idx > :afterIdx ORDER BY s.idx")
+    List<ScheduleResponseSyncDto> findSyncPage(@Param("calendarIdx") Long calendarIdx, @Param("afterIdx") Long afterIdx, Limit limit);
+
+    // 변경분 동기화 - 변경된 일정만 동기화 DTO로 조회
+    @Query("SELECT new com.example.dailyLog.dto.response.ScheduleResponseSyncDto(s.idx, s.title, s.content, s.start, s.end, "
+            + "s.location, s.color, s.repeatType, s.repeatEndDate, s.repeatInterval, s.repeatGroupId) "
+            + "FROM Schedule s WHERE s.idx IN :idxList")
+    List<ScheduleResponseSyncDto> findSyncRowsByIdxIn(@Param("idxList") Collection<Long> idxList);
+
+    // 반복 그룹의 첫 일정 시작 시각
+    @Query("SELECT MIN(s.start) FROM Schedule s WHERE s.calendars.idx = :calendarIdx AND s.repeatGroupId = :repeatGroupId")
+    LocalDateTime findFirstStartByRepeatGroupId(@Param("calendarIdx") Long calendarIdx, @Param("repeatGroupId") Long repeatGroupId);
+
+    // 반복 그룹에서 기준 시각 이전에 시작한 반복 일정을 기준 날짜 전날까지로 축소
     @Modifying
     @Transactional
-    @Query("DELETE FROM Schedule s WHERE s.repeatGroupId = :repeatGroupId AND s.start >= :start")
-    void deleteAfterDate(@Param("repeatGroupId") Long repeatGroupId, @Param("start") LocalDateTime start);
+    @Query("UPDATE Schedule s SET s.repeatEndDate = :repeatEndDate WHERE s.calendars.idx = :calendarIdx AND s.repeatGroupId = :repeatGroupId "
+            + "AND s.repeatType <> 'NONE' AND s.start < :start AND (s.repeatEndDate IS NULL OR s.repeatEndDate > :repeatEndDate)")
+    int truncateRepeatsBefore(@Param("calendarIdx") Long calendarIdx, @Param("repeatGroupId") Long repeatGroupId,
+                              @Param("start") LocalDateTime start, @Param("repeatEndDate") LocalDate repeatEndDate);
+
+    // 특정 반복 그룹의 특정 날짜 이후 일정 삭제 (이미지/제외 회차는 먼저 삭제해야 함)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Transactional
+    @Query("DELETE FROM Schedule s WHERE s.calendars.idx = :calendarIdx AND s.repeatGroupId = :repeatGroupId AND s.start >= :start")
+    int deleteAfterDate(@Param("calendarIdx") Long calendarIdx, @Param("repeatGroupId") Long repeatGroupId, @Param("start") LocalDateTime start);
+
+    // 반복 그룹 전체를 분 단위로 이동 (반복 종료 일자는 마지막 회차 시각을 함께 옮겨 다시 계산, 종료 일자를 먼저 갱신해야 이동 전 시작 시각을 사용함)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Transactional
+    @Query(value = "UPDATE schedule SET repeat_end_date = DATE(DATE_ADD(TIMESTAMP(repeat_end_date, TIME(s_start)), INTERVAL :minutes MINUTE)), "
+            + "s_start = DATE_ADD(s_start, INTERVAL :minutes MINUTE), s_end = DATE_ADD(s_end, INTERVAL :minutes MINUTE) "
+            + "WHERE cal_idx = :calendarIdx AND repeat_group_id = :repeatGroupId",
+            nativeQuery = true)
+    int shiftRepeatGroup(@Param("calendarIdx") Long calendarIdx, @Param("repeatGroupId") Long repeatGroupId, @Param("minutes") long minutes);
 }
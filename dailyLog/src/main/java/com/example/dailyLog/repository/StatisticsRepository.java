@@ -1,41 +1,69 @@
 package com.example.dailyLog.repository;
 
-import com.example.dailyLog.dto.response.StatisticsMonthDto;
-import com.example.dailyLog.entity.Diary;
+import com.example.dailyLog.constant.Category;
+import com.example.dailyLog.entity.DiaryStatistics;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.util.List;
 
-public interface StatisticsRepository extends JpaRepository<Diary, Long> {
+// 통계 조회는 일기 원본 대신 집계 테이블(diary_statistics)만 읽음 - (u_idx, ds_date, ds_category) 유니크 인덱스 범위 스캔
+public interface StatisticsRepository extends JpaRepository<DiaryStatistics, Long> {
 
-    @Query("SELECT d.category, COUNT(d) " +
-            "FROM Diary d JOIN d.calendars c JOIN c.user u " +
-            "WHERE u.idx = :userIdx " +
-            "GROUP BY d.category")
+    @Query("SELECT s.category, SUM(s.diaryCount) " +
+            "FROM DiaryStatistics s " +
+            "WHERE s.userIdx = :userIdx " +
+            "GROUP BY s.category")
     List<Object[]> findCategoryCountsAsObjectArray(@Param("userIdx") Long userIdx);
 
 
-    @Query("SELECT COUNT(d) FROM Diary d JOIN d.calendars c JOIN c.user u WHERE u.idx = :userIdx")
-    Long findTotalCountByUser(@Param("userIdx") Long userIdx);
-
-
-    @Query("SELECT FUNCTION('DAY', d.date) AS day, d.category, COUNT(d) " +
-            "FROM Diary d " +
-            "WHERE d.calendars.user.idx = :userIdx AND FUNCTION('YEAR', d.date) = :year AND FUNCTION('MONTH', d.date) = :month " +
-            "GROUP BY FUNCTION('DAY', d.date), d.category " +
-            "ORDER BY day")
-    List<Object[]> findDailyCategoryCountsByUserAndMonth(
+    // (날짜, 카테고리, 개수) - 조회 구간 [start, end)
+    @Query("SELECT s.date, s.category, s.diaryCount " +
+            "FROM DiaryStatistics s " +
+            "WHERE s.userIdx = :userIdx AND s.date >= :start AND s.date < :end " +
+            "ORDER BY s.date")
+    List<Object[]> findDailyCategoryCounts(
             @Param("userIdx") Long userIdx,
-            @Param("year") int year,
-            @Param("month") int month
+            @Param("start") LocalDate start,
+            @Param("end") LocalDate end
     );
 
 
-    @Query("SELECT FUNCTION('MONTH', d.date) AS month, d.category, COUNT(d) " +
-            "FROM Diary d WHERE d.calendars.user.idx = :userIdx AND FUNCTION('YEAR', d.date) = :year " +
-            "GROUP BY FUNCTION('MONTH', d.date), d.category ORDER BY month")
-    List<Object[]> findMonthlyCategoryCountsByUserAndYear(@Param("userIdx") Long userIdx, @Param("year") int year);
+    // 일기 수 증감 - 읽지 않고 한 번의 UPSERT (동시 입력에도 행 잠금으로 누락 없음)
+    @Modifying
+    @Query(value = "INSERT INTO diary_statistics (u_idx, ds_date, ds_category, ds_count) VALUES (:userIdx, :date, :category, :delta) "
+            + "ON DUPLICATE KEY UPDATE ds_count = ds_count + :delta",
+            nativeQuery = true)
+    int addCount(@Param("userIdx") Long userIdx, @Param("date") LocalDate date,
+                 @Param("category") String category, @Param("delta") long delta);
+
+    // 개수가 0 이 된 행 정리
+    @Modifying
+    @Query("DELETE FROM DiaryStatistics s WHERE s.userIdx = :userIdx AND s.date = :date "
+            + "AND s.category = :category AND s.diaryCount <= 0")
+    int deleteEmpty(@Param("userIdx") Long userIdx, @Param("date") LocalDate date,
+                    @Param("category") Category category);
+
+    @Modifying
+    @Query("DELETE FROM DiaryStatistics s WHERE s.userIdx = :userIdx")
+    int deleteByUserIdx(@Param("userIdx") Long userIdx);
+
+    @Modifying
+    @Query("DELETE FROM DiaryStatistics s")
+    int deleteAllRows();
+
+    // 일기 원본에서 다시 집계 (백필)
+    // (cal_idx, d_date, d_category) 인덱스 순서대로 먼저 묶은 뒤 사용자와 조인 - 일기 행마다 조인/임시 테이블 정렬 없음
+    @Modifying
+    @Query(value = "INSERT INTO diary_statistics (u_idx, ds_date, ds_category, ds_count) "
+            + "SELECT u.u_idx, g.d_date, g.d_category, g.diary_count "
+            + "FROM (SELECT d.cal_idx, d.d_date, d.d_category, COUNT(*) AS diary_count FROM diary d "
+            + "GROUP BY d.cal_idx, d.d_date, d.d_category) g "
+            + "JOIN `user` u ON u.cal_idx = g.cal_idx",
+            nativeQuery = true)
+    int insertFromDiaries();
 
 }
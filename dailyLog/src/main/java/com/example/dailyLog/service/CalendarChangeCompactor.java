@@ -0,0 +1,51 @@
+package com.example.dailyLog.service;
+
+import com.example.dailyLog.repository.CalendarChangeRepository;
+import com.example.dailyLog.repository.CalendarRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+// 동기화 변경 기록 정리 - 보관 기간이 지난 삭제 기록(삭제된 항목 행)을 지움
+// 지우기 전에 캘린더의 최소 동기화 버전을 지워질 기록의 버전까지 올려서, 그보다 오래된 토큰은 전체 동기화를 받게 함
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CalendarChangeCompactor {
+
+    private static final int DELETE_CHUNK_SIZE = 5_000;
+
+    private final CalendarRepository calendarRepository;
+    private final CalendarChangeRepository calendarChangeRepository;
+
+    @Value("${sync.tombstone-retention:30d}")
+    private Duration tombstoneRetention;
+
+    @Scheduled(cron = "${sync.compaction-cron:0 30 4 * * *}")
+    public void compact() {
+        int deleted = compact(LocalDateTime.now().minus(tombstoneRetention));
+        if (deleted > 0) {
+            log.info("동기화 삭제 기록 {}건을 정리했습니다.", deleted);
+        }
+    }
+
+    // cutoff 이전의 삭제 기록 정리 (최소 동기화 버전을 먼저 커밋해야 정리 도중의 동기화도 누락 없이 전체 동기화로 전환됨)
+    // 각 쿼리가 자기 트랜잭션으로 커밋되므로 여기서 트랜잭션을 묶지 않음
+    public int compact(LocalDateTime cutoff) {
+        calendarRepository.raiseMinSyncVersions(cutoff);
+
+        int total = 0;
+        while (true) {
+            int deleted = calendarChangeRepository.deleteTombstonesBefore(cutoff, DELETE_CHUNK_SIZE);
+            total += deleted;
+            if (deleted < DELETE_CHUNK_SIZE) {
+                return total;
+            }
+        }
+    }
+}
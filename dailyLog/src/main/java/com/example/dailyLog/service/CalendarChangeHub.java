@@ -0,0 +1,253 @@
+package com.example.dailyLog.service;
+
+import com.example.dailyLog.dto.response.CalendarChangePushDto;
+import com.example.dailyLog.exception.commonException.CommonErrorCode;
+import com.example.dailyLog.exception.commonException.error.BizException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 캘린더별 SSE 연결 관리
+// 연결은 비동기 서블릿 요청으로 유지되어 대기 중에는 스레드를 잡지 않고, 전송만 작은 스레드 풀에서 처리
+// 전송이 밀린 느린 클라이언트는 연결을 끊어 메모리가 쌓이지 않게 함 (클라이언트는 재연결 후 /sync 로 따라잡음)
+// 소켓 쓰기가 막힌 연결은 sendTimeout 이 지나면 전송 스레드를 인터럽트하고 끊어서 다른 연결의 전송이 멈추지 않게 함
+@Slf4j
+public class CalendarChangeHub {
+
+    private static final String CHANGE_EVENT = "calendar-change";
+
+    private final ExecutorService pushExecutor;
+    private final int maxConnections;
+    private final int maxPending;
+    private final long timeoutMillis;
+    private final long sendTimeoutNanos;
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+
+    public CalendarChangeHub(CalendarChangeRelay relay, ExecutorService pushExecutor, int maxConnections, int maxPending,
+                             Duration timeout, Duration sendTimeout) {
+        this.pushExecutor = pushExecutor;
+        this.maxConnections = maxConnections;
+        this.maxPending = maxPending;
+        this.timeoutMillis = timeout.toMillis();
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        relay.subscribe(this::dispatch);
+    }
+
+    public SseEmitter subscribe(Long calendarIdx) {
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            throw new BizException(CommonErrorCode.TOO_MANY_CONNECTIONS);
+        }
+
+        SseEmitter emitter = createEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(calendarIdx, emitter);
+        subscribers.compute(calendarIdx, (k, calendarSubscribers) -> {
+            Set<Subscriber> set = calendarSubscribers == null ? ConcurrentHashMap.newKeySet() : calendarSubscribers;
+            set.add(subscriber);
+            return set;
+        });
+        emitter.onCompletion(subscriber::remove);
+        emitter.onTimeout(subscriber::remove);
+        emitter.onError(e -> subscriber.remove());
+
+        // 프록시가 응답 헤더를 바로 내보내도록 첫 메시지 전송
+        subscriber.offer(SseEmitter.event().comment("connected"));
+        return emitter;
+    }
+
+    // 이 서버에 연결된 구독자에게 전달 (relay 가 모든 서버에서 호출)
+    public void dispatch(CalendarChangePushDto change) {
+        Set<Subscriber> calendarSubscribers = subscribers.get(change.getCalendarIdx());
+        if (calendarSubscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : calendarSubscribers) {
+            subscriber.offer(SseEmitter.event().name(CHANGE_EVENT).data(change, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    // 유휴 연결이 프록시/로드밸런서에서 끊기지 않도록 주기적으로 주석 전송
+    @Scheduled(fixedDelayString = "${sse.heartbeat-interval:25s}")
+    public void heartbeat() {
+        for (Set<Subscriber> calendarSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : calendarSubscribers) {
+                subscriber.offer(SseEmitter.event().comment("ping"));
+            }
+        }
+    }
+
+    // 전송 하나가 sendTimeout 을 넘긴 연결을 끊음 (막힌 쓰기는 전송 스레드 인터럽트로 풀어줌)
+    @Scheduled(fixedDelayString = "${sse.send-timeout:5s}")
+    public void closeStalledSubscribers() {
+        long now = System.nanoTime();
+        for (Set<Subscriber> calendarSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : calendarSubscribers) {
+                subscriber.interruptIfStalled(now);
+            }
+        }
+    }
+
+    public int getConnectionCount() {
+        return connections.get();
+    }
+
+    protected SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    // 서버 종료 시 모든 연결을 닫음 (클라이언트는 다른 서버로 재연결)
+    public void shutdown() {
+        for (Set<Subscriber> calendarSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : calendarSubscribers) {
+                subscriber.close();
+            }
+        }
+        pushExecutor.shutdown();
+    }
+
+
+    private final class Subscriber {
+
+        private final Long calendarIdx;
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean removed = new AtomicBoolean();
+        private final AtomicBoolean closing = new AtomicBoolean();
+
+        // 현재 전송 중인 스레드와 전송 시작 시각 (전송 중이 아니면 null)
+        private Thread sendingThread;
+        private long sendStartedAt;
+
+        private Subscriber(Long calendarIdx, SseEmitter emitter) {
+            this.calendarIdx = calendarIdx;
+            this.emitter = emitter;
+        }
+
+        private void offer(SseEmitter.SseEventBuilder event) {
+            if (removed.get()) {
+                return;
+            }
+            // 보내지 못한 메시지가 너무 많으면 느린 클라이언트로 보고 연결 종료
+            if (pending.incrementAndGet() > maxPending) {
+                log.debug("전송이 밀려 SSE 연결을 종료합니다: calendar {}", calendarIdx);
+                close();
+                return;
+            }
+            queue.add(event);
+            scheduleDrain();
+        }
+
+        // 연결마다 한 번에 하나의 전송 작업만 실행 (메시지 순서 유지)
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                pushExecutor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+                close();
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while (!removed.get() && (event = queue.poll()) != null) {
+                    pending.decrementAndGet();
+                    send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 연결을 끊었거나 연결 종료로 전송이 인터럽트됨
+                remove();
+                if (closing.get()) {
+                    emitter.completeWithError(e);
+                }
+                return;
+            } finally {
+                // 전송이 끝난 직후 도착한 인터럽트가 풀 스레드에 남지 않도록 정리
+                Thread.interrupted();
+                draining.set(false);
+            }
+            if (closing.get()) {
+                emitter.complete();
+                return;
+            }
+            if (!queue.isEmpty() && !removed.get()) {
+                scheduleDrain();
+            }
+        }
+
+        private void send(SseEmitter.SseEventBuilder event) throws IOException {
+            synchronized (this) {
+                if (removed.get()) {
+                    throw new IllegalStateException("SSE subscriber is closed");
+                }
+                sendingThread = Thread.currentThread();
+                sendStartedAt = System.nanoTime();
+            }
+            try {
+                emitter.send(event);
+            } finally {
+                synchronized (this) {
+                    sendingThread = null;
+                }
+            }
+        }
+
+        private void interruptIfStalled(long now) {
+            synchronized (this) {
+                if (sendingThread == null || now - sendStartedAt < sendTimeoutNanos) {
+                    return;
+                }
+            }
+            log.debug("SSE 전송 시간이 초과되어 연결을 종료합니다: calendar {}", calendarIdx);
+            close();
+        }
+
+        // 전송 중이면 전송 스레드를 인터럽트하고 그 스레드가 연결을 닫음
+        // (emitter 는 전송이 끝날 때까지 잠겨 있으므로 하트비트/알림 스레드에서 기다리지 않도록 함)
+        // 잠금 안에서 인터럽트하므로 이미 다른 연결을 전송 중인 스레드를 잘못 인터럽트하지 않음
+        private void close() {
+            closing.set(true);
+            synchronized (this) {
+                remove();
+                if (sendingThread != null) {
+                    sendingThread.interrupt();
+                    return;
+                }
+            }
+            emitter.complete();
+        }
+
+        private void remove() {
+            if (!removed.compareAndSet(false, true)) {
+                return;
+            }
+            queue.clear();
+            connections.decrementAndGet();
+            // 마지막 구독자가 나가면 캘린더 항목도 제거 (같은 키에 대한 subscribe 와 원자적으로 처리)
+            subscribers.computeIfPresent(calendarIdx, (k, calendarSubscribers) -> {
+                calendarSubscribers.remove(this);
+                return calendarSubscribers.isEmpty() ? null : calendarSubscribers;
+            });
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.dailyLog.service;
+
+import com.example.dailyLog.dto.response.CalendarChangePushDto;
+import com.example.dailyLog.event.CalendarChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+
+// 커밋된 변경만 실시간 알림으로 전달 (롤백된 변경은 알리지 않음)
+@Component
+@RequiredArgsConstructor
+public class CalendarChangePublisher {
+
+    private final CalendarChangeRelay calendarChangeRelay;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void publish(CalendarChangedEvent event) {
+        calendarChangeRelay.publish(new CalendarChangePushDto(event.getCalendarIdx(), event.getTarget(),
+                new ArrayList<>(event.getChangedIdxSet()), new ArrayList<>(event.getDeletedIdxSet())));
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.dailyLog.service;
+
+import com.example.dailyLog.dto.response.CalendarChangePushDto;
+
+import java.util.function.Consumer;
+
+// 변경 알림을 모든 서버 인스턴스에 전달 (서버가 여러 대면 메시지 브로커 등으로 구현한 빈으로 교체)
+public interface CalendarChangeRelay {
+
+    void publish(CalendarChangePushDto change);
+
+    void subscribe(Consumer<CalendarChangePushDto> listener);
+}
@@ -0,0 +1,8 @@
+package com.example.dailyLog.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+public interface CalendarExportService {
+
+    StreamingResponseBody exportIcs(Long calendarIdx, boolean includeDiaries);
+}
@@ -0,0 +1,188 @@
+package com.example.dailyLog.service;
+
+import com.example.dailyLog.constant.RepeatType;
+import com.example.dailyLog.exception.calendarsException.CalendarsErrorCode;
+import com.example.dailyLog.exception.calendarsException.CalendarsNotFoundException;
+import com.example.dailyLog.repository.CalendarRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+// 캘린더를 iCalendar(.ics)로 내보내기
+// 엔티티/리스트로 모으지 않고 JDBC 커서에서 한 행씩 읽어 바로 응답에 씀 (캘린더 크기와 무관하게 메모리 일정)
+@Service
+@RequiredArgsConstructor
+public class CalendarExportServiceImpl implements CalendarExportService {
+
+    private static final int FETCH_SIZE = 500;
+
+    // 제외 회차를 붙여 읽으므로 같은 일정의 행이 연속되도록 s_idx 순 정렬
+    private static final String SCHEDULE_SQL =
+            "SELECT s.s_idx, s.s_title, s.s_content, s.s_start, s.s_end, s.s_location, "
+                    + "s.repeat_type, s.repeat_interval, s.repeat_end_date, e.e_original_start "
+                    + "FROM schedule s LEFT JOIN schedule_exception e ON e.s_idx = s.s_idx "
+                    + "WHERE s.cal_idx = ? ORDER BY s.s_idx, e.e_original_start";
+
+    private static final String DIARY_SQL =
+            "SELECT d.d_idx, d.d_title, d.d_content, d.d_date, d.d_category FROM diary d WHERE d.cal_idx = ?";
+
+    private final CalendarRepository calendarRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+
+    @Override
+    public StreamingResponseBody exportIcs(Long calendarIdx, boolean includeDiaries) {
+        // 응답을 쓰기 시작하기 전에 캘린더 확인 (스트리밍 중에는 상태 코드를 바꿀 수 없음)
+        if (!calendarRepository.existsById(calendarIdx)) {
+            throw new CalendarsNotFoundException(CalendarsErrorCode.CALENDARS_NOT_FOUND);
+        }
+
+        return outputStream -> {
+            BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            IcsWriter ics = new IcsWriter(writer);
+            String dtStamp = IcsWriter.formatDateTime(LocalDateTime.now(ZoneOffset.UTC)) + "Z";
+
+            ics.line("BEGIN", "VCALENDAR");
+            ics.line("VERSION", "2.0");
+            ics.line("PRODID", "-//dailyLog//Calendar Export//KO");
+            ics.line("CALSCALE", "GREGORIAN");
+
+            try {
+                ScheduleEventWriter scheduleEventWriter = new ScheduleEventWriter(ics, dtStamp);
+                query(SCHEDULE_SQL, calendarIdx, scheduleEventWriter);
+                scheduleEventWriter.finish();
+
+                if (includeDiaries) {
+                    query(DIARY_SQL, calendarIdx, rs -> writeDiary(ics, dtStamp, rs));
+                }
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+
+            ics.line("END", "VCALENDAR");
+            writer.flush();
+        };
+    }
+
+
+    // 읽기 전용 forward-only 커서로 fetch size 만큼씩 받아옴
+    private void query(String sql, Long calendarIdx, RowCallbackHandler rowCallbackHandler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(FETCH_SIZE);
+            ps.setLong(1, calendarIdx);
+            return ps;
+        }, rowCallbackHandler);
+    }
+
+    // 일기는 하루 종일 일정으로 내보냄
+    private void writeDiary(IcsWriter ics, String dtStamp, ResultSet rs) throws SQLException {
+        try {
+            LocalDate date = rs.getDate("d_date").toLocalDate();
+            ics.line("BEGIN", "VEVENT");
+            ics.line("UID", "diary-" + rs.getLong("d_idx") + "@dailylog");
+            ics.line("DTSTAMP", dtStamp);
+            ics.date("DTSTART", date);
+            ics.date("DTEND", date.plusDays(1));
+            ics.text("SUMMARY", rs.getString("d_title"));
+            ics.text("DESCRIPTION", rs.getString("d_content"));
+            ics.text("CATEGORIES", rs.getString("d_category"));
+            ics.line("TRANSP", "TRANSPARENT");
+            ics.line("END", "VEVENT");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+
+    // 같은 일정의 행(제외 회차 수만큼)을 모아 VEVENT 하나로 출력 - 한 번에 일정 하나만 메모리에 둠
+    private static class ScheduleEventWriter implements RowCallbackHandler {
+
+        private final IcsWriter ics;
+        private final String dtStamp;
+
+        private Long idx;
+        private String title;
+        private String content;
+        private LocalDateTime start;
+        private LocalDateTime end;
+        private String location;
+        private RepeatType repeatType;
+        private int repeatInterval;
+        private LocalDate repeatEndDate;
+        private final List<LocalDateTime> exceptionStarts = new ArrayList<>();
+
+        private ScheduleEventWriter(IcsWriter ics, String dtStamp) {
+            this.ics = ics;
+            this.dtStamp = dtStamp;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long rowIdx = rs.getLong("s_idx");
+            if (idx == null || idx != rowIdx) {
+                finish();
+                idx = rowIdx;
+                title = rs.getString("s_title");
+                content = rs.getString("s_content");
+                start = rs.getTimestamp("s_start").toLocalDateTime();
+                end = rs.getTimestamp("s_end").toLocalDateTime();
+                location = rs.getString("s_location");
+                repeatType = RepeatType.valueOf(rs.getString("repeat_type"));
+                repeatInterval = rs.getInt("repeat_interval");
+                Date repeatEnd = rs.getDate("repeat_end_date");
+                repeatEndDate = repeatEnd == null ? null : repeatEnd.toLocalDate();
+                exceptionStarts.clear();
+            }
+            Timestamp exceptionStart = rs.getTimestamp("e_original_start");
+            if (exceptionStart != null) {
+                exceptionStarts.add(exceptionStart.toLocalDateTime());
+            }
+        }
+
+        private void finish() {
+            if (idx == null) {
+                return;
+            }
+            try {
+                ics.line("BEGIN", "VEVENT");
+                ics.line("UID", "schedule-" + idx + "@dailylog");
+                ics.line("DTSTAMP", dtStamp);
+                ics.dateTime("DTSTART", start);
+                ics.dateTime("DTEND", end);
+                ics.text("SUMMARY", title);
+                ics.text("DESCRIPTION", content);
+                ics.text("LOCATION", location);
+                if (repeatType != RepeatType.NONE) {
+                    // 반복 그룹은 규칙 한 건으로 저장되므로 RRULE + EXDATE 로 그대로 복원
+                    ics.line("RRULE", IcsWriter.recurrenceRule(repeatType, repeatInterval, start, repeatEndDate));
+                    for (LocalDateTime exceptionStart : exceptionStarts) {
+                        ics.dateTime("EXDATE", exceptionStart);
+                    }
+                }
+                ics.line("END", "VEVENT");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            idx = null;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.dailyLog.service;
+
+import com.example.dailyLog.dto.response.IcsImportResultDto;
+import org.springframework.web.multipart.MultipartFile;
+
+public interface CalendarImportService {
+
+    IcsImportResultDto importIcs(Long calendarIdx, MultipartFile icsFile);
+}
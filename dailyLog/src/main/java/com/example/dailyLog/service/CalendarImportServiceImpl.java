@@ -0,0 +1,425 @@
+package com.example.dailyLog.service;
+
+import com.example.dailyLog.constant.Color;
+import com.example.dailyLog.constant.RepeatType;
+import com.example.dailyLog.dto.response.IcsImportResultDto;
+import com.example.dailyLog.entity.Calendars;
+import com.example.dailyLog.entity.Schedule;
+import com.example.dailyLog.event.CalendarChangedEvent;
+import com.example.dailyLog.exception.calendarsException.CalendarsErrorCode;
+import com.example.dailyLog.exception.calendarsException.CalendarsNotFoundException;
+import com.example.dailyLog.repository.CalendarRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.service.spi.ServiceException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+// iCalendar(.ics) 가져오기
+// VEVENT 를 하나씩 읽어 CHUNK_SIZE 개마다 별도 트랜잭션으로 저장 (일정은 JPA 배치 INSERT, 제외 회차는 JDBC 배치)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CalendarImportServiceImpl implements CalendarImportService {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int MAX_TITLE_LENGTH = 50;
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final String INSERT_EXCEPTION_SQL = "INSERT IGNORE INTO schedule_exception (s_idx, e_original_start) VALUES (?, ?)";
+
+    private final CalendarRepository calendarRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SnowflakeIdGenerator snowflakeIdGenerator;
+
+
+    @Override
+    public IcsImportResultDto importIcs(Long calendarIdx, MultipartFile icsFile) {
+        if (!calendarRepository.existsById(calendarIdx)) {
+            throw new CalendarsNotFoundException(CalendarsErrorCode.CALENDARS_NOT_FOUND);
+        }
+
+        IcsImportResultDto result = new IcsImportResultDto();
+        // 반복 일정 UID -> (일정 idx, 반복 그룹) : RECURRENCE-ID 로 수정된 회차를 원래 반복 일정에 연결하기 위함
+        // 수정된 회차는 저장이 끝난 일정 엔티티 대신 연결에 필요한 값만 보관 (큰 파일에서 메모리가 늘지 않도록)
+        Map<String, long[]> recurringByUid = new HashMap<>();
+        List<OverrideLink> overrides = new ArrayList<>();
+
+        try (IcsReader reader = new IcsReader(icsFile.getInputStream())) {
+            List<ImportedEvent> chunk = new ArrayList<>(CHUNK_SIZE);
+            IcsReader.IcsEvent icsEvent;
+            while ((icsEvent = reader.next()) != null) {
+                result.countEvent();
+                // 잘못된 값 하나가 전체 가져오기를 중단시키지 않도록 일정 단위로 모든 변환 오류를 기록
+                try {
+                    chunk.add(toImportedEvent(result.getTotalEvents(), icsEvent));
+                } catch (RuntimeException e) {
+                    result.addError(result.getTotalEvents(), icsEvent.text("UID"), icsEvent.text("SUMMARY"), e.getMessage());
+                }
+
+                if (chunk.size() == CHUNK_SIZE) {
+                    saveChunk(calendarIdx, chunk, result, recurringByUid, overrides);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                saveChunk(calendarIdx, chunk, result, recurringByUid, overrides);
+            }
+        } catch (IOException e) {
+            throw new ServiceException("Failed to read ics file in CalendarImportService.importIcs", e);
+        }
+
+        linkOverrides(calendarIdx, recurringByUid, overrides);
+        log.info("iCalendar 가져오기 완료: calendar={}, total={}, imported={}, failed={}",
+                calendarIdx, result.getTotalEvents(), result.getImportedEvents(), result.getFailedEvents());
+        return result;
+    }
+
+
+    // 청크 하나를 한 트랜잭션으로 저장
+    // 실패하면 청크를 롤백하고 일정을 하나씩 다시 저장해서 실제로 실패한 일정만 오류로 기록
+    private void saveChunk(Long calendarIdx, List<ImportedEvent> chunk, IcsImportResultDto result,
+                           Map<String, long[]> recurringByUid, List<OverrideLink> overrides) {
+        try {
+            persistChunk(calendarIdx, chunk);
+        } catch (RuntimeException e) {
+            if (chunk.size() == 1) {
+                ImportedEvent event = chunk.get(0);
+                log.warn("iCalendar 일정 저장 실패: calendar={}, event={}", calendarIdx, event.eventNumber, e);
+                result.addError(event.eventNumber, event.uid, event.schedule.getTitle(), "Failed to save: " + e.getMessage());
+                return;
+            }
+            log.warn("iCalendar 가져오기 청크 저장 실패, 일정별로 다시 저장합니다: calendar={}, size={}", calendarIdx, chunk.size(), e);
+            for (ImportedEvent event : chunk) {
+                saveChunk(calendarIdx, List.of(event), result, recurringByUid, overrides);
+            }
+            return;
+        }
+
+        for (ImportedEvent event : chunk) {
+            if (event.schedule.getRepeatType() != RepeatType.NONE && event.uid != null) {
+                recurringByUid.put(event.uid, new long[]{event.schedule.getIdx(), event.schedule.getRepeatGroupId()});
+            }
+            if (event.recurrenceId != null && event.uid != null) {
+                overrides.add(new OverrideLink(event.uid, event.recurrenceId, event.schedule.getIdx()));
+            }
+        }
+        result.addImported(chunk.size());
+        if (chunk.size() > 1) {
+            log.info("iCalendar 가져오기 진행 중: calendar={}, processed={}, imported={}",
+                    calendarIdx, result.getTotalEvents(), result.getImportedEvents());
+        }
+    }
+
+    private void persistChunk(Long calendarIdx, List<ImportedEvent> chunk) {
+        // 롤백된 시도에서 할당된 ID 가 남아 있으면 persist 가 분리된 엔티티로 보므로 초기화
+        for (ImportedEvent event : chunk) {
+            event.schedule.setIdx(null);
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Calendars calendars = calendarRepository.findById(calendarIdx)
+                    .orElseThrow(() -> new CalendarsNotFoundException(CalendarsErrorCode.CALENDARS_NOT_FOUND));
+
+            Duration maxSpan = Duration.ZERO;
+            for (ImportedEvent event : chunk) {
+                event.schedule.setCalendars(calendars);
+                Duration span = Duration.between(event.schedule.getStart(), event.schedule.getEnd());
+                if (span.compareTo(maxSpan) > 0) {
+                    maxSpan = span;
+                }
+                entityManager.persist(event.schedule);
+            }
+            calendarRepository.extendMaxSpan(calendars, maxSpan);
+            // 제외 회차가 일정 행을 참조하므로 먼저 INSERT
+            entityManager.flush();
+
+            List<Object[]> exceptionRows = new ArrayList<>();
+            for (ImportedEvent event : chunk) {
+                for (LocalDateTime exceptionStart : event.exceptionStarts) {
+                    exceptionRows.add(new Object[]{event.schedule.getIdx(), Timestamp.valueOf(exceptionStart)});
+                }
+            }
+            if (!exceptionRows.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_EXCEPTION_SQL, exceptionRows);
+            }
+
+            eventPublisher.publishEvent(CalendarChangedEvent.allSchedules(calendarIdx)
+                    .changed(chunk.stream().map(event -> event.schedule.getIdx()).toArray(Long[]::new)));
+        });
+    }
+
+    // RECURRENCE-ID 로 수정된 회차: 원래 반복 일정에서 해당 회차를 제외하고 같은 반복 그룹으로 묶음
+    private void linkOverrides(Long calendarIdx, Map<String, long[]> recurringByUid, List<OverrideLink> overrides) {
+        List<Object[]> exceptionRows = new ArrayList<>();
+        List<Object[]> groupRows = new ArrayList<>();
+        CalendarChangedEvent changedEvent = CalendarChangedEvent.allSchedules(calendarIdx);
+        for (OverrideLink override : overrides) {
+            long[] master = recurringByUid.get(override.uid);
+            if (master == null) {
+                continue;
+            }
+            exceptionRows.add(new Object[]{master[0], Timestamp.valueOf(override.recurrenceId)});
+            groupRows.add(new Object[]{master[1], override.scheduleIdx});
+            changedEvent.changed(master[0], override.scheduleIdx);
+        }
+        if (exceptionRows.isEmpty()) {
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_EXCEPTION_SQL, exceptionRows);
+            jdbcTemplate.batchUpdate("UPDATE schedule SET repeat_group_id = ? WHERE s_idx = ?", groupRows);
+            eventPublisher.publishEvent(changedEvent);
+        });
+    }
+
+
+    ImportedEvent toImportedEvent(int eventNumber, IcsReader.IcsEvent icsEvent) {
+        IcsReader.IcsProperty dtStart = icsEvent.first("DTSTART");
+        if (dtStart == null) {
+            throw new IllegalArgumentException("DTSTART is missing");
+        }
+        boolean allDay = isDate(dtStart);
+        LocalDateTime start = parseDateTime(dtStart);
+        LocalDateTime end = parseEnd(icsEvent, start, allDay);
+        if (end.isBefore(start)) {
+            throw new IllegalArgumentException("DTEND is before DTSTART");
+        }
+
+        String title = icsEvent.text("SUMMARY");
+        if (title == null || title.isBlank()) {
+            title = "제목 없음";
+        } else if (title.length() > MAX_TITLE_LENGTH) {
+            title = title.substring(0, MAX_TITLE_LENGTH);
+        }
+
+        IcsReader.IcsProperty recurrenceIdProperty = icsEvent.first("RECURRENCE-ID");
+        IcsReader.IcsProperty rrule = recurrenceIdProperty == null ? icsEvent.first("RRULE") : null;
+
+        Schedule schedule = Schedule.builder()
+                .title(title)
+                .content(icsEvent.text("DESCRIPTION"))
+                .start(start)
+                .end(end)
+                .location(icsEvent.text("LOCATION"))
+                .color(Color.ORANGE)
+                .repeatType(RepeatType.NONE)
+                .repeatGroupId(snowflakeIdGenerator.nextId())
+                .scheduleImages(new ArrayList<>())
+                .build();
+
+        List<LocalDateTime> exceptionStarts = new ArrayList<>();
+        if (rrule != null) {
+            applyRecurrenceRule(schedule, rrule.value);
+            for (IcsReader.IcsProperty exDate : icsEvent.all("EXDATE")) {
+                for (String value : exDate.value.split(",")) {
+                    LocalDateTime exceptionStart = parseDateTime(value.trim(), exDate.param("TZID"), isDate(exDate));
+                    // 날짜만 있는 EXDATE 는 해당 날짜의 회차 시작 시각으로 맞춤
+                    exceptionStarts.add(isDate(exDate) ? exceptionStart.toLocalDate().atTime(start.toLocalTime()) : exceptionStart);
+                }
+            }
+        }
+
+        return new ImportedEvent(eventNumber, icsEvent.text("UID"), schedule,
+                recurrenceIdProperty == null ? null : parseDateTime(recurrenceIdProperty), exceptionStarts);
+    }
+
+    // RRULE 을 반복 규칙으로 변환 (DTSTART 와 다른 BYxxx 규칙처럼 표현할 수 없는 규칙은 오류)
+    private void applyRecurrenceRule(Schedule schedule, String rule) {
+        Map<String, String> parts = parseRuleParts(rule);
+
+        RepeatType repeatType;
+        try {
+            repeatType = RepeatType.valueOf(parts.getOrDefault("FREQ", "").toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported RRULE FREQ: " + parts.get("FREQ"));
+        }
+        if (repeatType == RepeatType.NONE) {
+            throw new IllegalArgumentException("Unsupported RRULE FREQ: " + parts.get("FREQ"));
+        }
+        // 29 ~ 31일 시작 반복: 말일로 당기는 규칙(내보내기와 같은 형태)만 그대로 표현 가능, 짧은 달을 건너뛰는 규칙은 오류
+        String monthEndParts = IcsWriter.monthEndParts(repeatType, schedule.getStart().toLocalDate());
+        Map<String, String> byParts = new HashMap<>();
+        parts.forEach((key, value) -> {
+            if (key.startsWith("BY")) {
+                byParts.put(key, value);
+            }
+        });
+        if (monthEndParts != null) {
+            if (!byParts.equals(parseRuleParts(monthEndParts))) {
+                throw new IllegalArgumentException("Unsupported RRULE: " + rule + " skips months without day " + schedule.getStart().getDayOfMonth());
+            }
+        } else {
+            for (Map.Entry<String, String> byPart : byParts.entrySet()) {
+                if (!isImpliedByStart(byPart.getKey(), byPart.getValue(), schedule.getStart())) {
+                    throw new IllegalArgumentException("Unsupported RRULE part: " + byPart.getKey() + "=" + byPart.getValue());
+                }
+            }
+        }
+
+        int interval = parts.containsKey("INTERVAL") ? Integer.parseInt(parts.get("INTERVAL")) : 1;
+        if (interval < 1) {
+            throw new IllegalArgumentException("Invalid RRULE INTERVAL: " + interval);
+        }
+
+        LocalDate repeatEndDate = null;
+        if (parts.containsKey("UNTIL")) {
+            String until = parts.get("UNTIL");
+            repeatEndDate = parseDateTime(until, null, until.length() == 8).toLocalDate();
+        } else if (parts.containsKey("COUNT")) {
+            int count = Integer.parseInt(parts.get("COUNT"));
+            if (count < 1) {
+                throw new IllegalArgumentException("Invalid RRULE COUNT: " + count);
+            }
+            repeatEndDate = repeatType.plus(schedule.getStart(), (long) (count - 1) * interval).toLocalDate();
+        }
+
+        schedule.setRepeatType(repeatType);
+        schedule.setRepeatInterval(interval);
+        schedule.setRepeatEndDate(repeatEndDate);
+    }
+
+    // "KEY=VALUE;KEY=VALUE" -> 대문자 키 맵
+    private static Map<String, String> parseRuleParts(String rule) {
+        Map<String, String> parts = new HashMap<>();
+        for (String part : rule.split(";")) {
+            int eq = part.indexOf('=');
+            if (eq > 0) {
+                parts.put(part.substring(0, eq).toUpperCase(Locale.ROOT), part.substring(eq + 1));
+            }
+        }
+        return parts;
+    }
+
+    // 시작일에서 이미 정해지는 BYxxx (예: 월요일 시작 + BYDAY=MO) 만 허용
+    private boolean isImpliedByStart(String key, String value, LocalDateTime start) {
+        switch (key) {
+            case "BYDAY":
+                return value.equalsIgnoreCase(start.getDayOfWeek().name().substring(0, 2));
+            case "BYMONTHDAY":
+                return value.equals(String.valueOf(start.getDayOfMonth()));
+            case "BYMONTH":
+                return value.equals(String.valueOf(start.getMonthValue()));
+            case "BYHOUR":
+                return value.equals(String.valueOf(start.getHour()));
+            case "BYMINUTE":
+                return value.equals(String.valueOf(start.getMinute()));
+            default:
+                return false;
+        }
+    }
+
+    // DTEND 가 없으면 DURATION, 둘 다 없으면 시작과 같은 시각 (하루 종일 일정은 그날 하루)
+    // 하루 종일 일정의 DTEND 는 다음 날 0시(포함하지 않음)이므로 전날 23:59 로 저장
+    private LocalDateTime parseEnd(IcsReader.IcsEvent icsEvent, LocalDateTime start, boolean allDay) {
+        IcsReader.IcsProperty dtEnd = icsEvent.first("DTEND");
+        LocalDateTime end;
+        if (dtEnd != null) {
+            end = parseDateTime(dtEnd);
+        } else if (icsEvent.first("DURATION") != null) {
+            end = start.plus(parseDuration(icsEvent.first("DURATION").value));
+        } else {
+            end = allDay ? start.plusDays(1) : start;
+        }
+        if (allDay && end.isAfter(start)) {
+            end = end.minusMinutes(1);
+        }
+        return end;
+    }
+
+    private Duration parseDuration(String value) {
+        String duration = value.trim().toUpperCase(Locale.ROOT);
+        boolean negative = duration.startsWith("-");
+        if (duration.startsWith("-") || duration.startsWith("+")) {
+            duration = duration.substring(1);
+        }
+        Duration parsed;
+        if (duration.endsWith("W")) {
+            if (duration.length() < 3 || duration.charAt(0) != 'P') {
+                throw new IllegalArgumentException("Invalid DURATION: " + value);
+            }
+            parsed = Duration.ofDays(7L * Long.parseLong(duration.substring(1, duration.length() - 1)));
+        } else {
+            try {
+                parsed = Duration.parse(duration);
+            } catch (DateTimeException e) {
+                throw new IllegalArgumentException("Invalid DURATION: " + value);
+            }
+        }
+        return negative ? parsed.negated() : parsed;
+    }
+
+    private boolean isDate(IcsReader.IcsProperty property) {
+        return "DATE".equalsIgnoreCase(property.param("VALUE")) || property.value.trim().length() == 8;
+    }
+
+    private LocalDateTime parseDateTime(IcsReader.IcsProperty property) {
+        return parseDateTime(property.value.trim(), property.param("TZID"), isDate(property));
+    }
+
+    // UTC(Z) 나 TZID 가 있는 시각은 서버 시간대의 로컬 시각으로, 시간대가 없으면 그대로 사용
+    private LocalDateTime parseDateTime(String value, String tzid, boolean date) {
+        if (value.length() < 8) {
+            throw new IllegalArgumentException("Invalid date: " + value);
+        }
+        if (date) {
+            return LocalDate.parse(value.substring(0, 8), DateTimeFormatter.BASIC_ISO_DATE).atStartOfDay();
+        }
+        boolean utc = value.endsWith("Z");
+        LocalDateTime dateTime = LocalDateTime.parse(utc ? value.substring(0, value.length() - 1) : value, DATE_TIME);
+        if (utc) {
+            return dateTime.atOffset(ZoneOffset.UTC).atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+        }
+        if (tzid != null) {
+            return dateTime.atZone(ZoneId.of(tzid)).withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+        }
+        return dateTime;
+    }
+
+
+    static class ImportedEvent {
+        final int eventNumber;
+        final String uid;
+        final Schedule schedule;
+        final LocalDateTime recurrenceId;
+        final List<LocalDateTime> exceptionStarts;
+
+        private ImportedEvent(int eventNumber, String uid, Schedule schedule, LocalDateTime recurrenceId, List<LocalDateTime> exceptionStarts) {
+            this.eventNumber = eventNumber;
+            this.uid = uid;
+            this.schedule = schedule;
+            this.recurrenceId = recurrenceId;
+            this.exceptionStarts = exceptionStarts;
+        }
+    }
+
+    private static class OverrideLink {
+        private final String uid;
+        private final LocalDateTime recurrenceId;
+        private final Long scheduleIdx;
+
+        private OverrideLink(String uid, LocalDateTime recurrenceId, Long scheduleIdx) {
+            this.uid = uid;
+            this.recurrenceId = recurrenceId;
+            this.scheduleIdx = scheduleIdx;
+        }
+    }
+}
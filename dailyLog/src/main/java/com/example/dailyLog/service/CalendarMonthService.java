@@ -0,0 +1,8 @@
+package com.example.dailyLog.service;
+
+import com.example.dailyLog.dto.response.CalendarMonthResponseDto;
+
+public interface CalendarMonthService {
+
+    CalendarMonthResponseDto findMonth(Long calendarIdx, long version, int year, int month, boolean includeHolidays);
+}
@@ -0,0 +1,66 @@
+package com.example.dailyLog.service;
+
+import com.example.dailyLog.dto.response.CalendarDayResponseDto;
+import com.example.dailyLog.dto.response.CalendarMonthResponseDto;
+import com.example.dailyLog.dto.response.DiaryResponseMonthDto;
+import com.example.dailyLog.dto.response.ScheduleResponseMonthDto;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// 홈 화면 월달력 (일정 + 일기)
+// 두 조회 모두 트랜잭션 없이 각자 커넥션을 빌려 쓰므로, 일기는 전용 풀에서 동시에 읽어 응답 시간을 긴 쪽 하나로 줄임
+// 요청 하나가 커넥션을 최대 2개 쓰므로 풀 스레드는 커넥션 풀의 절반, 큐가 차면 요청 스레드에서 직접 조회
+// (@Async 공용 풀과 분리해서 다른 비동기 작업 뒤에 밀려 대기하지 않도록 함)
+@Service
+public class CalendarMonthServiceImpl implements CalendarMonthService {
+
+    private final ScheduleService scheduleService;
+    private final DiaryService diaryService;
+    private final HolidayService holidayService;
+    private final ExecutorService monthQueryExecutor;
+
+    public CalendarMonthServiceImpl(ScheduleService scheduleService, DiaryService diaryService, HolidayService holidayService,
+                                    @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize,
+                                    @Value("${calendar-month.queue-capacity:16}") int queueCapacity) {
+        this.scheduleService = scheduleService;
+        this.diaryService = diaryService;
+        this.holidayService = holidayService;
+        int threads = Math.max(1, connectionPoolSize / 2);
+        this.monthQueryExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("dailylog-month-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        monthQueryExecutor.shutdown();
+    }
+
+    @Override
+    public CalendarMonthResponseDto findMonth(Long calendarIdx, long version, int year, int month, boolean includeHolidays) {
+        CompletableFuture<List<DiaryResponseMonthDto>> diaries =
+                CompletableFuture.supplyAsync(() -> diaryService.findAllMonthDiary(calendarIdx, version, year, month), monthQueryExecutor);
+
+        List<ScheduleResponseMonthDto> schedules = scheduleService.findAllMonthSchedule(calendarIdx, version, year, month);
+        // 음력/공휴일은 미리 계산된 표에서 읽으므로 추가 조회 없음
+        List<CalendarDayResponseDto> days = includeHolidays ? holidayService.findMonthDays(year, month) : null;
+        try {
+            return new CalendarMonthResponseDto(schedules, diaries.join(), days);
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.dailyLog.service;
+
+public interface CalendarVersionService {
+
+    long getVersion(Long calendarIdx);
+    String getETag(Long calendarIdx);
+    String getETag(Long calendarIdx, long version);
+}
@@ -0,0 +1,81 @@
+package com.example.dailyLog.service;
+
+import com.example.dailyLog.entity.CalendarChange;
+import com.example.dailyLog.event.CalendarChangedEvent;
+import com.example.dailyLog.exception.calendarsException.CalendarsErrorCode;
+import com.example.dailyLog.exception.calendarsException.CalendarsNotFoundException;
+import com.example.dailyLog.repository.CalendarChangeRepository;
+import com.example.dailyLog.repository.CalendarRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class CalendarVersionServiceImpl implements CalendarVersionService {
+
+    private final CalendarRepository calendarRepository;
+    private final CalendarChangeRepository calendarChangeRepository;
+
+    // 캘린더 버전 - 데이터보다 먼저 읽어야 함 (조회 중 변경이 커밋되면 다음 요청에서 다시 내려받게 됨)
+    @Override
+    public long getVersion(Long calendarIdx) {
+        return calendarRepository.findVersionByIdx(calendarIdx)
+                .orElseThrow(() -> new CalendarsNotFoundException(CalendarsErrorCode.CALENDARS_NOT_FOUND));
+    }
+
+    // 캘린더 조회 응답의 약한 ETag
+    @Override
+    public String getETag(Long calendarIdx) {
+        return getETag(calendarIdx, getVersion(calendarIdx));
+    }
+
+    @Override
+    public String getETag(Long calendarIdx, long version) {
+        return "W/\"" + calendarIdx + "-" + version + "\"";
+    }
+
+    // 변경과 같은 트랜잭션 안에서 버전 증가 (롤백되면 버전도 그대로)
+    // 캘린더 행 잠금이 커밋까지 유지되므로 같은 캘린더의 버전은 커밋 순서대로 증가함
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void increaseVersion(CalendarChangedEvent event) {
+        if (calendarRepository.increaseVersion(event.getCalendarIdx()) == 0) {
+            return;
+        }
+        if (event.getChangedIdxSet().isEmpty() && event.getDeletedIdxSet().isEmpty()) {
+            return;
+        }
+
+        // 변경된 항목을 새 버전으로 기록 (기존 기록은 갱신, 새 항목은 배치 INSERT)
+        long version = calendarRepository.findVersionByIdx(event.getCalendarIdx()).orElseThrow();
+        Set<Long> itemIdxSet = new HashSet<>(event.getChangedIdxSet());
+        itemIdxSet.addAll(event.getDeletedIdxSet());
+        Map<Long, CalendarChange> changeMap = calendarChangeRepository.findByItems(event.getCalendarIdx(), event.getTarget(), itemIdxSet)
+                .stream()
+                .collect(Collectors.toMap(CalendarChange::getItemIdx, Function.identity()));
+
+        LocalDateTime changedAt = LocalDateTime.now();
+        for (Long itemIdx : itemIdxSet) {
+            CalendarChange change = changeMap.get(itemIdx);
+            if (change == null) {
+                change = new CalendarChange();
+                change.setCalendarIdx(event.getCalendarIdx());
+                change.setItemType(event.getTarget());
+                change.setItemIdx(itemIdx);
+                changeMap.put(itemIdx, change);
+            }
+            change.setVersion(version);
+            change.setDeleted(event.getDeletedIdxSet().contains(itemIdx));
+            change.setChangedAt(changedAt);
+        }
+        calendarChangeRepository.saveAll(changeMap.values());
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.dailyLog.service;
+
+import com.example.dailyLog.constant.Category;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+// 구간(일/월)별 카테고리 일기 수 - long[구간][카테고리] 행렬로 집계하고 응답 만들 때만 EnumMap 생성
+public final class CategoryCountMatrix {
+
+    private static final Category[] CATEGORIES = Category.values();
+
+    private final long[][] counts;
+    private final long[] totals;
+
+    public CategoryCountMatrix(int buckets) {
+        this.counts = new long[buckets][CATEGORIES.length];
+        this.totals = new long[buckets];
+    }
+
+    public int buckets() {
+        return counts.length;
+    }
+
+    // bucket 은 0 부터 (일 - 1, 월 - 1)
+    public void add(int bucket, Category category, long count) {
+        counts[bucket][category.ordinal()] += count;
+        totals[bucket] += count;
+    }
+
+    public long count(int bucket, Category category) {
+        return counts[bucket][category.ordinal()];
+    }
+
+    public long total(int bucket) {
+        return totals[bucket];
+    }
+
+    // 구간 합계 대비 카테고리 비율(%) - includeEmpty 면 0 인 카테고리도 0.0 으로 포함
+    public Map<Category, Double> percentages(int bucket, boolean includeEmpty) {
+        Map<Category, Double> percentages = new EnumMap<>(Category.class);
+        long[] row = counts[bucket];
+        long total = totals[bucket];
+        for (int i = 0; i < row.length; i++) {
+            if (row[i] > 0 || includeEmpty) {
+                percentages.put(CATEGORIES[i], total > 0 ? (row[i] / (double) total) * 100 : 0.0);
+            }
+        }
+        return percentages;
+    }
+}
@@ -13,7 +13,7 @@ import java.util.List;
 
 public interface DiaryService {
 
-    List<DiaryResponseMonthDto> findAllMonthDiary(Long calendarIdx, int year, int month);
+    List<DiaryResponseMonthDto> findAllMonthDiary(Long calendarIdx, long version, int year, int month);
     List<DiaryResponseCategoryDto> findDiaryCategory(Long calendarIdx, String category);
 
     List<DiaryResponseDayListDto> findDiaryByDayList(Long calendarIdx, int year,int month, int day);
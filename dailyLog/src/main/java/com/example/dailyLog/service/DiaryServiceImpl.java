@@ -8,6 +8,8 @@ import com.example.dailyLog.dto.response.DiaryResponseDayDto;
 import com.example.dailyLog.dto.response.DiaryResponseDayListDto;
 import com.example.dailyLog.dto.response.DiaryResponseMonthDto;
 import com.example.dailyLog.entity.*;
+import com.example.dailyLog.event.CalendarChangedEvent;
+import com.example.dailyLog.event.ImageFilesReleasedEvent;
 import com.example.dailyLog.exception.calendarsException.CalendarsErrorCode;
 import com.example.dailyLog.exception.calendarsException.CalendarsNotFoundException;
 import com.example.dailyLog.exception.commonException.CommonErrorCode;
@@ -24,6 +26,7 @@ import com.example.dailyLog.repository.DiaryRepository;
 import com.example.dailyLog.repository.DiaryImageRepository;
 import lombok.RequiredArgsConstructor;
 import org.hibernate.service.spi.ServiceException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -42,12 +45,15 @@ public class DiaryServiceImpl implements DiaryService{
     private final DiaryImageRepository diaryImageRepository;
     private final ImageService imageService;
     private final FileService fileService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DiaryStatisticsService diaryStatisticsService;
+    private final MonthViewCache<List<DiaryResponseMonthDto>> diaryMonthViewCache;
 
 
     // 월달력 전체 일기 조회(마커)
-    @Transactional
+    // 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 조회
     @Override
-    public List<DiaryResponseMonthDto> findAllMonthDiary(Long calendarIdx, int year, int month){
+    public List<DiaryResponseMonthDto> findAllMonthDiary(Long calendarIdx, long version, int year, int month){
 
         // 유효성 검사
         if (month < 1 || month > 12) {
@@ -56,6 +62,12 @@ public class DiaryServiceImpl implements DiaryService{
         if (year < 1 || year > 9999) {
             throw new IllegalArgumentException("Year must be a positive number and within the range of valid years");
         }
+
+        return diaryMonthViewCache.get(calendarIdx, version, YearMonth.of(year, month),
+                () -> loadMonthDiaries(calendarIdx, year, month));
+    }
+
+    private List<DiaryResponseMonthDto> loadMonthDiaries(Long calendarIdx, int year, int month) {
         if (!calendarRepository.existsById(calendarIdx)) {
             throw new CalendarsNotFoundException(CalendarsErrorCode.CALENDARS_NOT_FOUND);
         }
@@ -71,7 +83,7 @@ public class DiaryServiceImpl implements DiaryService{
                                     .date(diary.getDate())
                                     .build())
                     .sorted(Comparator.comparing(DiaryResponseMonthDto::getDate))
-                    .collect(Collectors.toList());
+                    .collect(Collectors.toUnmodifiableList());
         } catch (Exception e) {
             throw new ServiceException("Failed to find diary in DiaryService.findAllMonthDiary", e);
         }
@@ -101,8 +113,14 @@ public class DiaryServiceImpl implements DiaryService{
         try {
             LocalDate date = LocalDate.of(year, month, day);
 
-            return diaryRepository.findByCalendarsIdxAndDate(calendarIdx, date)
-                    .stream()
+            List<Diary> diaries = diaryRepository.findByCalendarsIdxAndDate(calendarIdx, date);
+
+            // 이미지는 일기마다 지연 로딩하지 않고 한 번에 조회
+            Map<Long, List<String>> imageUrls = findImageUrls(diaries.stream()
+                    .map(Diary::getIdx)
+                    .collect(Collectors.toSet()));
+
+            return diaries.stream()
                     .map(diary -> {
                         return DiaryResponseDayListDto.builder()
                                 .idx(diary.getIdx())
@@ -110,9 +128,7 @@ public class DiaryServiceImpl implements DiaryService{
                                 .content(diary.getContent())
                                 .date(diary.getDate())
                                 .category(diary.getCategory())
-                                .images(diary.getDiaryImages().stream()
-                                    .map(DiaryImage::getImgUrl)
-                                    .collect(Collectors.toList()))
+                                .images(imageUrls.getOrDefault(diary.getIdx(), Collections.emptyList()))
                                 .build();
                     })
                     .sorted(Comparator.comparing(DiaryResponseDayListDto::getDate))
@@ -123,6 +139,19 @@ public class DiaryServiceImpl implements DiaryService{
     }
 
 
+    // 일기별 이미지 URL (한 번의 쿼리로 조회)
+    private Map<Long, List<String>> findImageUrls(Set<Long> diaryIdxSet) {
+        if (diaryIdxSet.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Long, List<String>> imageUrls = new HashMap<>();
+        for (Object[] row : diaryImageRepository.findImageUrlsByDiaryIdxIn(diaryIdxSet)) {
+            imageUrls.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add((String) row[1]);
+        }
+        return imageUrls;
+    }
+
+
     // 전체 및 카테고리별 전체 일기 조회
     @Transactional
     @Override
@@ -215,6 +244,8 @@ public class DiaryServiceImpl implements DiaryService{
                     .calendars(calendarIdx)
                     .build();
             diaryRepository.save(createDiary);
+            diaryStatisticsService.increase(userIdxOf(calendarIdx), createDiary.getDate(), createDiary.getCategory());
+            eventPublisher.publishEvent(CalendarChangedEvent.diaries(calendarIdx.getIdx(), createDiary.getDate()).changed(createDiary.getIdx()));
 
             for (MultipartFile file : imageFileList) {
                 if (!file.isEmpty()) {
@@ -251,18 +282,24 @@ public class DiaryServiceImpl implements DiaryService{
 //            if (diaryRequestUpdateDto.getDate() != null) {
 //                updateDiary.setDate(diaryRequestUpdateDto.getDate());
 //            }
-            if (diaryRequestUpdateDto.getCategory() != null) {
+            if (diaryRequestUpdateDto.getCategory() != null && diaryRequestUpdateDto.getCategory() != updateDiary.getCategory()) {
+                // 카테고리가 바뀌면 통계 집계도 옮김
+                Long userIdx = userIdxOf(updateDiary.getCalendars());
+                diaryStatisticsService.decrease(userIdx, updateDiary.getDate(), updateDiary.getCategory());
+                diaryStatisticsService.increase(userIdx, updateDiary.getDate(), diaryRequestUpdateDto.getCategory());
                 updateDiary.setCategory(diaryRequestUpdateDto.getCategory());
             }
             diaryRepository.save(updateDiary);
+            eventPublisher.publishEvent(CalendarChangedEvent.diaries(updateDiary.getCalendars().getIdx(), updateDiary.getDate()).changed(updateDiary.getIdx()));
 
     // 이미지 삭제
             List<String> deleteImageList = diaryRequestUpdateDto.getDeletedImageList();
             if (deleteImageList != null && !deleteImageList.isEmpty()) {
                 for (String imageUrl : deleteImageList) {
-                    fileService.deleteFile(imageUrl);
-                    diaryImageRepository.deleteByImgUrl(imageUrl);
+                    updateDiary.getDiaryImages().removeIf(image -> imageUrl.equals(image.getImgUrl()));
+                    diaryImageRepository.deleteByDiaryAndImgUrl(updateDiary, imageUrl);
                 }
+                eventPublisher.publishEvent(new ImageFilesReleasedEvent(deleteImageList));
             }
 
     //다이어리 이미지 추가
@@ -287,9 +324,21 @@ public class DiaryServiceImpl implements DiaryService{
         Diary diary = diaryRepository.findById(idx)
                 .orElseThrow(() -> new DiaryNotFoundException(DiaryErrorCode.DIARY_NOT_FOUND));
         try {
+            List<String> imageUrls = diary.getDiaryImages().stream()
+                    .map(DiaryImage::getImgUrl)
+                    .collect(Collectors.toList());
             diaryRepository.delete(diary);
+            diaryStatisticsService.decrease(userIdxOf(diary.getCalendars()), diary.getDate(), diary.getCategory());
+            eventPublisher.publishEvent(CalendarChangedEvent.diaries(diary.getCalendars().getIdx(), diary.getDate()).deleted(List.of(diary.getIdx())));
+            eventPublisher.publishEvent(new ImageFilesReleasedEvent(imageUrls));
         }catch (Exception e) {
             throw new ServiceException("Failed to delete diary in DiaryService.deleteDiary", e);
         }
     }
+
+
+    // 통계 집계는 사용자 단위
+    private Long userIdxOf(Calendars calendars) {
+        return calendars.getUser() == null ? null : calendars.getUser().getIdx();
+    }
 }
@@ -0,0 +1,24 @@
+package com.example.dailyLog.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 통계 집계 테이블 백필 - --statistics-rollup.rebuild-on-startup=true 로 실행했을 때만 동작
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "statistics-rollup.rebuild-on-startup", havingValue = "true")
+public class DiaryStatisticsRebuildRunner implements ApplicationRunner {
+
+    private final DiaryStatisticsService diaryStatisticsService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int rows = diaryStatisticsService.rebuildAll();
+        log.info("통계 집계 테이블을 재구축했습니다: {} 행", rows);
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.dailyLog.service;
+
+import com.example.dailyLog.constant.Category;
+
+import java.time.LocalDate;
+
+public interface DiaryStatisticsService {
+
+    void increase(Long userIdx, LocalDate date, Category category);
+
+    void decrease(Long userIdx, LocalDate date, Category category);
+
+    int rebuildAll();
+}
@@ -0,0 +1,47 @@
+package com.example.dailyLog.service;
+
+import com.example.dailyLog.constant.Category;
+import com.example.dailyLog.repository.StatisticsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+// 통계 집계 테이블 갱신 - 일기 쓰기 트랜잭션에 참여해 일기와 집계가 항상 함께 커밋/롤백됨
+@Service
+@RequiredArgsConstructor
+public class DiaryStatisticsServiceImpl implements DiaryStatisticsService {
+
+    private final StatisticsRepository statisticsRepository;
+
+
+    @Transactional
+    @Override
+    public void increase(Long userIdx, LocalDate date, Category category) {
+        if (userIdx == null) {
+            return;
+        }
+        statisticsRepository.addCount(userIdx, date, category.name(), 1L);
+    }
+
+
+    @Transactional
+    @Override
+    public void decrease(Long userIdx, LocalDate date, Category category) {
+        if (userIdx == null) {
+            return;
+        }
+        statisticsRepository.addCount(userIdx, date, category.name(), -1L);
+        statisticsRepository.deleteEmpty(userIdx, date, category);
+    }
+
+
+    // 일기 원본으로 집계 테이블 전체 재구축 (기존 데이터 백필, 집계 불일치 복구)
+    @Transactional
+    @Override
+    public int rebuildAll() {
+        statisticsRepository.deleteAllRows();
+        return statisticsRepository.insertFromDiaries();
+    }
+}
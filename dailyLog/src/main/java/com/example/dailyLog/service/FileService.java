@@ -1,6 +1,11 @@
 package com.example.dailyLog.service;
 
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
 public interface FileService {
     public String uploadFile(String uploadPath,String originalFileName,byte[] fileData) throws Exception;
+    public String uploadContentAddressedFile(String uploadPath,String originalFileName,byte[] fileData) throws Exception;
     public void deleteFile(String filePath) throws Exception;
+    public boolean deleteUnreferencedFile(String filePath, Duration gracePeriod, BooleanSupplier referenced);
 }
@@ -6,17 +6,117 @@ import org.springframework.stereotype.Service;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
 import java.util.UUID;
+import java.util.function.BooleanSupplier;
 
 @Service
 @Log
 public class FileServiceImpl implements FileService{
 
+    // 내용 주소 파일의 "존재 확인 → 재사용" 과 "참조 확인 → 삭제" 를 파일명(해시) 단위로 직렬화
+    private final Object[] contentLocks = new Object[64];
+
+    public FileServiceImpl() {
+        for (int i = 0; i < contentLocks.length; i++) {
+            contentLocks[i] = new Object();
+        }
+    }
+
     // 이미지 URL생성
     @Override
     public String uploadFile(String uploadPath
             ,String originalFileName,byte[] fileData){
 
+        validateUpload(uploadPath, originalFileName, fileData);
+
+        UUID uuid = UUID.randomUUID();
+        String extension = originalFileName.substring(originalFileName.lastIndexOf("."));
+        String savedFileName = uuid.toString() + extension;
+        String fileUploadFullUrl = uploadPath + "/" + savedFileName;
+
+        try (FileOutputStream fos = new FileOutputStream(fileUploadFullUrl)) {
+            fos.write(fileData);
+        } catch (IOException e) {
+            throw new FileWriteError(ImageErrorCode.FILE_WRITE_ERROR);
+        }
+        return savedFileName;
+    }
+
+
+    // 내용 해시(SHA-256)를 파일명으로 저장 - 같은 내용의 파일은 한 번만 기록하고 재사용
+    @Override
+    public String uploadContentAddressedFile(String uploadPath, String originalFileName, byte[] fileData) {
+
+        validateUpload(uploadPath, originalFileName, fileData);
+
+        String extension = originalFileName.substring(originalFileName.lastIndexOf(".")).toLowerCase();
+        String savedFileName = sha256(fileData) + extension;
+        File savedFile = new File(uploadPath, savedFileName);
+        synchronized (contentLock(savedFileName)) {
+            // 재사용 시 수정 시각을 갱신 - 참조 행이 커밋되기 전에 정리 작업이 파일을 지우지 않도록 유예 기간의 기준이 됨
+            if (savedFile.exists() && savedFile.setLastModified(System.currentTimeMillis())) {
+                log.info("이미 저장된 파일을 재사용합니다: " + savedFileName);
+                return savedFileName;
+            }
+            writeContentAddressedFile(uploadPath, savedFileName, savedFile, fileData);
+        }
+        return savedFileName;
+    }
+
+    // 참조가 없고 유예 기간 동안 재사용되지 않은 내용 주소 파일만 삭제
+    // false 반환 시 최근에 재사용된 파일이므로 유예 기간 이후 다시 확인해야 함
+    @Override
+    public boolean deleteUnreferencedFile(String filePath, Duration gracePeriod, BooleanSupplier referenced) {
+        File file = new File(filePath);
+        synchronized (contentLock(file.getName())) {
+            if (!file.exists()) {
+                return true;
+            }
+            if (file.lastModified() > System.currentTimeMillis() - gracePeriod.toMillis()) {
+                return false;
+            }
+            if (referenced.getAsBoolean()) {
+                return true;
+            }
+            if (file.delete()) {
+                log.info("파일을 삭제했습니다: " + filePath);
+            }
+            return true;
+        }
+    }
+
+    private Object contentLock(String fileName) {
+        return contentLocks[Math.floorMod(fileName.hashCode(), contentLocks.length)];
+    }
+
+    private void writeContentAddressedFile(String uploadPath, String savedFileName, File savedFile, byte[] fileData) {
+        // 임시 파일에 쓴 뒤 이동해서 동시 업로드에도 반쯤 쓰인 파일이 보이지 않도록 함
+        File tempFile = new File(uploadPath, savedFileName + "." + UUID.randomUUID() + ".tmp");
+        try (FileOutputStream fos = new FileOutputStream(tempFile)) {
+            fos.write(fileData);
+        } catch (IOException e) {
+            tempFile.delete();
+            throw new FileWriteError(ImageErrorCode.FILE_WRITE_ERROR);
+        }
+
+        try {
+            Files.move(tempFile.toPath(), savedFile.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            tempFile.delete();
+            if (!savedFile.exists()) {
+                throw new FileWriteError(ImageErrorCode.FILE_WRITE_ERROR);
+            }
+        }
+    }
+
+
+    private void validateUpload(String uploadPath, String originalFileName, byte[] fileData) {
         if (uploadPath == null || uploadPath.trim().isEmpty()) {
             throw new InvalidUploadPath(ImageErrorCode.INVALID_UPLOAD_PATH);
         }
@@ -33,18 +133,14 @@ public class FileServiceImpl implements FileService{
         if (!uploadDir.exists() && !uploadDir.mkdirs()) {
             throw new FailedDirectoryCreation(ImageErrorCode.FAILED_DIRECTORY_CREATION);
         }
+    }
 
-        UUID uuid = UUID.randomUUID();
-        String extension = originalFileName.substring(originalFileName.lastIndexOf("."));
-        String savedFileName = uuid.toString() + extension;
-        String fileUploadFullUrl = uploadPath + "/" + savedFileName;
-
-        try (FileOutputStream fos = new FileOutputStream(fileUploadFullUrl)) {
-            fos.write(fileData);
-        } catch (IOException e) {
-            throw new FileWriteError(ImageErrorCode.FILE_WRITE_ERROR);
+    private String sha256(byte[] fileData) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(fileData));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
         }
-        return savedFileName;
     }
 
 
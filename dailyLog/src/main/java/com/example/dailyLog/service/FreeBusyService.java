@@ -0,0 +1,15 @@
+package com.example.dailyLog.service;
+
+import com.example.dailyLog.dto.response.BusyIntervalDto;
+import com.example.dailyLog.dto.response.ScheduleResponseMonthDto;
+import com.example.dailyLog.entity.Schedule;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface FreeBusyService {
+
+    List<BusyIntervalDto> findBusy(Long calendarIdx, LocalDateTime from, LocalDateTime to);
+    List<ScheduleResponseMonthDto> findConflicts(Long calendarIdx, LocalDateTime start, LocalDateTime end, Long excludeScheduleIdx, LocalDateTime excludeOccurrenceStart);
+    List<ScheduleOccurrence> findConflicts(Long calendarIdx, Schedule candidate);
+}
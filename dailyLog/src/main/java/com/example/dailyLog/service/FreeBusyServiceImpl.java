@@ -0,0 +1,144 @@
+package com.example.dailyLog.service;
+
+import com.example.dailyLog.constant.RepeatType;
+import com.example.dailyLog.dto.response.BusyIntervalDto;
+import com.example.dailyLog.dto.response.ScheduleResponseMonthDto;
+import com.example.dailyLog.entity.Calendars;
+import com.example.dailyLog.entity.Schedule;
+import com.example.dailyLog.exception.calendarsException.CalendarsErrorCode;
+import com.example.dailyLog.exception.calendarsException.CalendarsNotFoundException;
+import com.example.dailyLog.exception.commonException.CommonErrorCode;
+import com.example.dailyLog.exception.commonException.error.BizException;
+import com.example.dailyLog.repository.CalendarRepository;
+import com.example.dailyLog.repository.ScheduleExceptionRepository;
+import com.example.dailyLog.repository.ScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+// 바쁜 시간대/겹침 계산 - 구간의 회차를 한 번에 읽어 정렬한 뒤 메모리에서 스윕
+@Service
+@RequiredArgsConstructor
+public class FreeBusyServiceImpl implements FreeBusyService {
+
+    // 한 번에 계산하는 최대 구간 (반복 일정을 펼치는 양을 제한)
+    private static final Duration MAX_WINDOW = Duration.ofDays(366);
+
+    private final CalendarRepository calendarRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final ScheduleExceptionRepository scheduleExceptionRepository;
+    private final ScheduleRecurrenceExpander scheduleRecurrenceExpander;
+
+
+    // [from, to) 의 바쁜 시간대 (겹치는 일정은 하나로 합침)
+    @Transactional(readOnly = true)
+    @Override
+    public List<BusyIntervalDto> findBusy(Long calendarIdx, LocalDateTime from, LocalDateTime to) {
+        validateWindow(from, to);
+        List<LocalDateTime[]> merged = IntervalSweep.merge(loadOccurrences(calendarIdx, from, to));
+
+        List<BusyIntervalDto> busy = new ArrayList<>(merged.size());
+        for (LocalDateTime[] interval : merged) {
+            // 조회 구간 밖으로 나간 부분은 잘라냄
+            LocalDateTime start = interval[0].isBefore(from) ? from : interval[0];
+            LocalDateTime end = interval[1].isAfter(to) ? to : interval[1];
+            busy.add(new BusyIntervalDto(start, end));
+        }
+        return busy;
+    }
+
+    // [start, end) 와 겹치는 기존 회차 (옮기는 일정 자신은 제외)
+    @Transactional(readOnly = true)
+    @Override
+    public List<ScheduleResponseMonthDto> findConflicts(Long calendarIdx, LocalDateTime start, LocalDateTime end,
+                                                        Long excludeScheduleIdx, LocalDateTime excludeOccurrenceStart) {
+        if (!end.isAfter(start)) {
+            return Collections.emptyList();
+        }
+        List<ScheduleOccurrence> existing = loadOccurrences(calendarIdx, start, end).stream()
+                .filter(occurrence -> !isExcluded(occurrence, excludeScheduleIdx, excludeOccurrenceStart))
+                .collect(Collectors.toList());
+        return IntervalSweep.conflicts(existing, List.of(new ScheduleOccurrence(null, start, end))).stream()
+                .map(occurrence -> ScheduleResponseMonthDto.builder()
+                        .idx(occurrence.getSchedule().getIdx())
+                        .title(occurrence.getSchedule().getTitle())
+                        .start(occurrence.getStart())
+                        .end(occurrence.getEnd())
+                        .color(occurrence.getSchedule().getColor())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    // 새 일정(반복 일정이면 모든 회차)과 겹치는 기존 회차
+    // 반복 종료일이 없으면 MAX_WINDOW 까지만 검사
+    @Transactional(readOnly = true)
+    @Override
+    public List<ScheduleOccurrence> findConflicts(Long calendarIdx, Schedule candidate) {
+        LocalDateTime from = candidate.getStart();
+        LocalDateTime to = from.plus(MAX_WINDOW);
+        if (candidate.getRepeatType() == RepeatType.NONE) {
+            to = candidate.getEnd().isAfter(from) ? candidate.getEnd() : from.plusNanos(1);
+        } else if (candidate.getRepeatEndDate() != null && candidate.getRepeatEndDate().plusDays(1).atStartOfDay().isBefore(to)) {
+            to = candidate.getRepeatEndDate().plusDays(1).atStartOfDay();
+        }
+
+        List<ScheduleOccurrence> candidates = scheduleRecurrenceExpander.expand(candidate, Collections.emptySet(), from, to);
+        if (candidates.isEmpty()) {
+            return Collections.emptyList();
+        }
+        LocalDateTime lastEnd = candidates.stream().map(ScheduleOccurrence::getEnd).max(Comparator.naturalOrder()).orElse(to);
+        return IntervalSweep.conflicts(loadOccurrences(calendarIdx, from, lastEnd.isAfter(to) ? lastEnd : to), candidates);
+    }
+
+
+    // [from, to) 와 겹치는 모든 회차를 시작 시각 순으로 (단일 일정 범위 쿼리 1번 + 반복 일정 쿼리 1번 + 제외 회차 쿼리 1번)
+    private List<ScheduleOccurrence> loadOccurrences(Long calendarIdx, LocalDateTime from, LocalDateTime to) {
+        Calendars calendars = calendarRepository.findById(calendarIdx)
+                .orElseThrow(() -> new CalendarsNotFoundException(CalendarsErrorCode.CALENDARS_NOT_FOUND));
+        LocalDateTime lowerBound = from.minusMinutes(calendars.getMaxSpanMinutes());
+
+        List<ScheduleOccurrence> occurrences = new ArrayList<>();
+        for (Schedule schedule : scheduleRepository.findSchedulesOverlapping(calendarIdx, from, to, lowerBound)) {
+            occurrences.add(new ScheduleOccurrence(schedule, schedule.getStart(), schedule.getEnd()));
+        }
+
+        List<Schedule> recurringSchedules = scheduleRepository.findRecurringSchedulesInRange(calendarIdx, lowerBound.toLocalDate(), to);
+        Map<Long, Set<LocalDateTime>> exceptions = new HashMap<>();
+        if (!recurringSchedules.isEmpty()) {
+            List<Long> recurringIdxList = recurringSchedules.stream().map(Schedule::getIdx).collect(Collectors.toList());
+            for (Object[] row : scheduleExceptionRepository.findOriginalStartsInRange(recurringIdxList, lowerBound, to)) {
+                exceptions.computeIfAbsent((Long) row[0], k -> new HashSet<>()).add((LocalDateTime) row[1]);
+            }
+        }
+        for (Schedule schedule : recurringSchedules) {
+            Duration duration = Duration.between(schedule.getStart(), schedule.getEnd());
+            for (ScheduleOccurrence occurrence : scheduleRecurrenceExpander.expand(schedule,
+                    exceptions.getOrDefault(schedule.getIdx(), Collections.emptySet()), from.minus(duration), to)) {
+                if (occurrence.getEnd().isAfter(from)) {
+                    occurrences.add(occurrence);
+                }
+            }
+        }
+
+        occurrences.sort(IntervalSweep.BY_START);
+        return occurrences;
+    }
+
+    private boolean isExcluded(ScheduleOccurrence occurrence, Long excludeScheduleIdx, LocalDateTime excludeOccurrenceStart) {
+        if (excludeScheduleIdx == null || !excludeScheduleIdx.equals(occurrence.getSchedule().getIdx())) {
+            return false;
+        }
+        return excludeOccurrenceStart == null || excludeOccurrenceStart.equals(occurrence.getStart());
+    }
+
+    private void validateWindow(LocalDateTime from, LocalDateTime to) {
+        if (!to.isAfter(from) || Duration.between(from, to).compareTo(MAX_WINDOW) > 0) {
+            throw new BizException(CommonErrorCode.INVALID_DATE_RANGE);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.dailyLog.service;
+
+import com.example.dailyLog.dto.response.CalendarDayResponseDto;
+
+import java.util.List;
+
+public interface HolidayService {
+
+    List<CalendarDayResponseDto> findMonthDays(int year, int month);
+
+    List<CalendarDayResponseDto> findYearHolidays(int year);
+}
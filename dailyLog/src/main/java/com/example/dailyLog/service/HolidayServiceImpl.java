@@ -0,0 +1,75 @@
+package com.example.dailyLog.service;
+
+import com.example.dailyLog.constant.KoreanHoliday;
+import com.example.dailyLog.dto.response.CalendarDayResponseDto;
+import com.example.dailyLog.exception.commonException.CommonErrorCode;
+import com.example.dailyLog.exception.commonException.error.InvalidMonth;
+import com.example.dailyLog.exception.commonException.error.InvalidYear;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 공휴일/음력 조회 - 시작 시 계산해 둔 표만 읽음 (DB, 외부 API 조회 없음)
+@Service
+@RequiredArgsConstructor
+public class HolidayServiceImpl implements HolidayService {
+
+    private final KoreanCalendarTable koreanCalendarTable;
+
+
+    // 월의 모든 날짜 (음력 + 공휴일)
+    @Override
+    public List<CalendarDayResponseDto> findMonthDays(int year, int month) {
+
+        if (month < 1 || month > 12) {
+            throw new InvalidMonth(CommonErrorCode.INVALID_MONTH);
+        }
+        if (!koreanCalendarTable.supports(year)) {
+            throw new InvalidYear(CommonErrorCode.INVALID_YEAR);
+        }
+
+        LocalDate date = LocalDate.of(year, month, 1);
+        List<CalendarDayResponseDto> days = new ArrayList<>(date.lengthOfMonth());
+        for (; date.getMonthValue() == month; date = date.plusDays(1)) {
+            days.add(toDto(date));
+        }
+        return days;
+    }
+
+
+    // 연도의 공휴일만
+    @Override
+    public List<CalendarDayResponseDto> findYearHolidays(int year) {
+
+        if (!koreanCalendarTable.supports(year)) {
+            throw new InvalidYear(CommonErrorCode.INVALID_YEAR);
+        }
+
+        List<CalendarDayResponseDto> holidays = new ArrayList<>();
+        for (LocalDate date = LocalDate.of(year, 1, 1); date.getYear() == year; date = date.plusDays(1)) {
+            if (koreanCalendarTable.holiday(date) != null) {
+                holidays.add(toDto(date));
+            }
+        }
+        return holidays;
+    }
+
+
+    private CalendarDayResponseDto toDto(LocalDate date) {
+        int lunarDate = koreanCalendarTable.lunarDate(date);
+        List<String> holidays = koreanCalendarTable.holidays(date).stream()
+                .map(KoreanHoliday::getTitle)
+                .collect(Collectors.toList());
+        return new CalendarDayResponseDto(
+                date,
+                KoreanCalendarTable.lunarMonth(lunarDate),
+                KoreanCalendarTable.lunarDay(lunarDate),
+                KoreanCalendarTable.isLeapMonth(lunarDate),
+                holidays.isEmpty() ? null : String.join(", ", holidays),
+                holidays);
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.dailyLog.service;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// RFC 5545 파일을 VEVENT 단위로 순차 읽기 (파일 전체를 메모리에 올리지 않음)
+class IcsReader implements Closeable {
+
+    // 한 줄(접힌 줄 포함)의 최대 길이 - 비정상 파일로 메모리가 늘어나지 않도록 제한
+    // 물리적인 줄도 읽는 중에 검사 (BufferedReader.readLine 은 줄 끝까지 전부 메모리에 올림)
+    static final int MAX_LINE_LENGTH = 1024 * 1024;
+    // VEVENT 하나에 담을 수 있는 최대 속성 수
+    static final int MAX_PROPERTIES_PER_EVENT = 1000;
+
+    private final BufferedReader reader;
+    private String pendingLine;
+    private boolean firstLine = true;
+
+    IcsReader(InputStream inputStream) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    }
+
+    // 다음 VEVENT (없으면 null) - VEVENT 안의 VALARM 등 하위 컴포넌트는 건너뜀
+    IcsEvent next() throws IOException {
+        String line;
+        while ((line = nextLine()) != null) {
+            if (!line.equalsIgnoreCase("BEGIN:VEVENT")) {
+                continue;
+            }
+            IcsEvent event = new IcsEvent();
+            int depth = 0;
+            while ((line = nextLine()) != null) {
+                String upper = line.toUpperCase(Locale.ROOT);
+                if (upper.startsWith("BEGIN:")) {
+                    depth++;
+                } else if (upper.startsWith("END:")) {
+                    if (depth == 0) {
+                        return event;
+                    }
+                    depth--;
+                } else if (depth == 0) {
+                    IcsProperty property = IcsProperty.parse(line);
+                    if (property != null) {
+                        if (event.properties.size() == MAX_PROPERTIES_PER_EVENT) {
+                            throw new IOException("Too many properties in VEVENT");
+                        }
+                        event.properties.add(property);
+                    }
+                }
+            }
+            throw new IOException("Unexpected end of file inside VEVENT");
+        }
+        return null;
+    }
+
+    // 접힌 줄(CRLF 뒤 공백/탭)을 이어 붙인 한 줄
+    private String nextLine() throws IOException {
+        String line = pendingLine != null ? pendingLine : readPhysicalLine();
+        pendingLine = null;
+        if (line == null) {
+            return null;
+        }
+        if (firstLine) {
+            firstLine = false;
+            if (!line.isEmpty() && line.charAt(0) == '\uFEFF') {
+                line = line.substring(1);
+            }
+        }
+
+        StringBuilder unfolded = null;
+        String next;
+        while ((next = readPhysicalLine()) != null && !next.isEmpty() && (next.charAt(0) == ' ' || next.charAt(0) == '\t')) {
+            if (unfolded == null) {
+                unfolded = new StringBuilder(line);
+            }
+            unfolded.append(next, 1, next.length());
+            if (unfolded.length() > MAX_LINE_LENGTH) {
+                throw new IOException("Content line is too long");
+            }
+        }
+        pendingLine = next;
+        return unfolded == null ? line : unfolded.toString();
+    }
+
+    // CRLF, LF, CR 로 끝나는 물리적인 한 줄 (파일 끝이면 null)
+    private String readPhysicalLine() throws IOException {
+        StringBuilder line = new StringBuilder();
+        int c;
+        while ((c = reader.read()) != -1) {
+            if (c == '\n') {
+                return line.toString();
+            }
+            if (c == '\r') {
+                reader.mark(1);
+                if (reader.read() != '\n') {
+                    reader.reset();
+                }
+                return line.toString();
+            }
+            if (line.length() == MAX_LINE_LENGTH) {
+                throw new IOException("Content line is too long");
+            }
+            line.append((char) c);
+        }
+        return line.length() == 0 ? null : line.toString();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+
+    static class IcsEvent {
+
+        private final List<IcsProperty> properties = new ArrayList<>();
+
+        IcsProperty first(String name) {
+            for (IcsProperty property : properties) {
+                if (property.name.equals(name)) {
+                    return property;
+                }
+            }
+            return null;
+        }
+
+        List<IcsProperty> all(String name) {
+            List<IcsProperty> matched = new ArrayList<>();
+            for (IcsProperty property : properties) {
+                if (property.name.equals(name)) {
+                    matched.add(property);
+                }
+            }
+            return matched;
+        }
+
+        String text(String name) {
+            IcsProperty property = first(name);
+            return property == null ? null : property.text();
+        }
+    }
+
+
+    static class IcsProperty {
+
+        final String name;
+        final Map<String, String> params;
+        final String value;
+
+        private IcsProperty(String name, Map<String, String> params, String value) {
+            this.name = name;
+            this.params = params;
+            this.value = value;
+        }
+
+        String param(String name) {
+            return params.get(name);
+        }
+
+        // TEXT 값 이스케이프 해제
+        String text() {
+            StringBuilder text = new StringBuilder(value.length());
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '\\' && i + 1 < value.length()) {
+                    char escaped = value.charAt(++i);
+                    text.append(escaped == 'n' || escaped == 'N' ? '\n' : escaped);
+                } else {
+                    text.append(c);
+                }
+            }
+            return text.toString();
+        }
+
+        // NAME;PARAM=VALUE;...:VALUE (따옴표 안의 ':' ';' 는 구분자가 아님)
+        static IcsProperty parse(String line) {
+            boolean quoted = false;
+            int valueStart = -1;
+            List<String> segments = new ArrayList<>();
+            int segmentStart = 0;
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (c == '"') {
+                    quoted = !quoted;
+                } else if (!quoted && c == ';') {
+                    segments.add(line.substring(segmentStart, i));
+                    segmentStart = i + 1;
+                } else if (!quoted && c == ':') {
+                    segments.add(line.substring(segmentStart, i));
+                    valueStart = i + 1;
+                    break;
+                }
+            }
+            if (valueStart < 0 || segments.isEmpty()) {
+                return null;
+            }
+
+            Map<String, String> params = new HashMap<>();
+            for (String segment : segments.subList(1, segments.size())) {
+                int eq = segment.indexOf('=');
+                if (eq > 0) {
+                    String paramValue = segment.substring(eq + 1);
+                    if (paramValue.length() >= 2 && paramValue.startsWith("\"") && paramValue.endsWith("\"")) {
+                        paramValue = paramValue.substring(1, paramValue.length() - 1);
+                    }
+                    params.put(segment.substring(0, eq).toUpperCase(Locale.ROOT), paramValue);
+                }
+            }
+            return new IcsProperty(segments.get(0).toUpperCase(Locale.ROOT), params, line.substring(valueStart));
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.dailyLog.service;
+
+import com.example.dailyLog.constant.RepeatType;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+// RFC 5545 콘텐츠 라인 출력 (CRLF, 75 옥텟 줄 접기, TEXT 이스케이프)
+class IcsWriter {
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private final Writer writer;
+
+    IcsWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    void line(String name, String value) throws IOException {
+        fold(name + ":" + value);
+    }
+
+    void text(String name, String value) throws IOException {
+        if (value != null && !value.isEmpty()) {
+            line(name, escape(value));
+        }
+    }
+
+    // 시간대 없는 로컬 시각 (floating time)
+    void dateTime(String name, LocalDateTime value) throws IOException {
+        line(name, DATE_TIME.format(value));
+    }
+
+    void date(String name, LocalDate value) throws IOException {
+        line(name + ";VALUE=DATE", DATE.format(value));
+    }
+
+    static String formatDateTime(LocalDateTime value) {
+        return DATE_TIME.format(value);
+    }
+
+    // 반복 규칙 RRULE 값 (반복 종료일은 그날 마지막 시각까지)
+    static String recurrenceRule(RepeatType repeatType, int repeatInterval, LocalDateTime start, LocalDate repeatEndDate) {
+        StringBuilder rule = new StringBuilder("FREQ=").append(repeatType.name())
+                .append(";INTERVAL=").append(Math.max(repeatInterval, 1));
+        String monthEndParts = monthEndParts(repeatType, start.toLocalDate());
+        if (monthEndParts != null) {
+            rule.append(';').append(monthEndParts);
+        }
+        if (repeatEndDate != null) {
+            rule.append(";UNTIL=").append(formatDateTime(repeatEndDate.atTime(23, 59, 59)));
+        }
+        return rule.toString();
+    }
+
+    // 29 ~ 31일에 시작한 매월(2월 29일 시작 매년) 반복은 그 날이 없는 달에 말일로 당겨짐 (ScheduleRecurrenceExpander)
+    // RFC 5545 는 그런 달을 건너뛰므로 "시작일까지의 날 중 마지막 날" 규칙을 덧붙임 - 해당 없으면 null
+    static String monthEndParts(RepeatType repeatType, LocalDate start) {
+        int day = start.getDayOfMonth();
+        if (repeatType == RepeatType.MONTHLY && day == 31) {
+            return "BYMONTHDAY=-1";
+        }
+        if (repeatType == RepeatType.MONTHLY && day >= 29) {
+            StringBuilder days = new StringBuilder("BYMONTHDAY=28");
+            for (int d = 29; d <= day; d++) {
+                days.append(',').append(d);
+            }
+            return days.append(";BYSETPOS=-1").toString();
+        }
+        if (repeatType == RepeatType.YEARLY && start.getMonthValue() == 2 && day == 29) {
+            return "BYMONTH=2;BYMONTHDAY=28,29;BYSETPOS=-1";
+        }
+        return null;
+    }
+
+    private static String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 16);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> escaped.append("\\\\");
+                case ';' -> escaped.append("\\;");
+                case ',' -> escaped.append("\\,");
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> { }
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    // 한 줄이 75 옥텟을 넘으면 멀티바이트 문자를 자르지 않고 "CRLF + 공백" 으로 이어 씀
+    private void fold(String contentLine) throws IOException {
+        int octets = 0;
+        for (int i = 0; i < contentLine.length(); ) {
+            int codePoint = contentLine.codePointAt(i);
+            int charCount = Character.charCount(codePoint);
+            int size = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+            if (octets + size > MAX_LINE_OCTETS) {
+                writer.write("\r\n ");
+                octets = 1;
+            }
+            writer.write(contentLine, i, charCount);
+            octets += size;
+            i += charCount;
+        }
+        writer.write("\r\n");
+    }
+}
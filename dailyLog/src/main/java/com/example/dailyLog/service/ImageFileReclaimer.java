@@ -0,0 +1,55 @@
+package com.example.dailyLog.service;
+
+import com.example.dailyLog.event.ImageFilesReleasedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+// 삭제된 이미지 행의 파일을 커밋 이후 비동기로 정리 (삭제 요청 응답 시간과 무관하게 처리)
+// 유예 기간 안에 재사용된 파일은 참조 행이 커밋될 때까지 기다렸다가 다시 확인
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageFileReclaimer {
+
+    private final ImageService imageService;
+    private final TaskScheduler taskScheduler;
+
+    @Value("${image-reclaim.grace-period:10m}")
+    private Duration gracePeriod;
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void reclaim(ImageFilesReleasedEvent event) {
+        reclaim(new LinkedHashSet<>(event.getImageUrls()));
+    }
+
+    private void reclaim(Collection<String> imageUrls) {
+        List<String> deferred = new ArrayList<>();
+        for (String imageUrl : imageUrls) {
+            try {
+                if (!imageService.releaseImage(imageUrl)) {
+                    deferred.add(imageUrl);
+                }
+            } catch (Exception e) {
+                log.warn("이미지 파일 정리에 실패했습니다: {}", imageUrl, e);
+            }
+        }
+        if (!deferred.isEmpty()) {
+            log.info("최근 재사용된 이미지 파일 {}개의 정리를 {} 뒤로 미룹니다.", deferred.size(), gracePeriod);
+            taskScheduler.schedule(() -> reclaim(deferred), Instant.now().plus(gracePeriod));
+        }
+    }
+}
@@ -9,4 +9,5 @@ public interface ImageService {
     ProfileImage saveProfileImage(MultipartFile imageFile, User user) throws Exception ;
     String getProfileImage(Long idx);
     ProfileImage saveProfileImageFromUrl(byte[] imageBytes, User user);
+    boolean releaseImage(String imageUrl) throws Exception;
 }
@@ -17,6 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Optional;
 
 @Service
@@ -31,6 +32,10 @@ public class ImageServiceImpl implements ImageService {
     @Value("${ProfileImgLocation}")
     private String profileImageLocation;
 
+    // 재사용된 파일을 삭제하지 않고 기다리는 시간 (업로드 트랜잭션이 참조 행을 커밋할 때까지의 여유)
+    @Value("${image-reclaim.grace-period:10m}")
+    private Duration reclaimGracePeriod;
+
     private final DiaryImageRepository diaryImageRepository;
     private final ScheduleImageRepository scheduleImageRepository;
     private final ProfileImageRepository profileImageRepository;
@@ -56,7 +61,7 @@ public class ImageServiceImpl implements ImageService {
 
         try {
             String oriImgName = imageFile.getOriginalFilename();
-            String savedFileName = fileService.uploadFile(imageLocation, oriImgName, imageFile.getBytes());
+            String savedFileName = fileService.uploadContentAddressedFile(imageLocation, oriImgName, imageFile.getBytes());
             String imageUrl = "/images/" + savedFileName;
 
             // Image 엔티티 생성 및 설정
@@ -80,7 +85,7 @@ public class ImageServiceImpl implements ImageService {
 
         try {
             String oriImgName = imageFile.getOriginalFilename();
-            String savedFileName = fileService.uploadFile(imageLocation, oriImgName, imageFile.getBytes());
+            String savedFileName = fileService.uploadContentAddressedFile(imageLocation, oriImgName, imageFile.getBytes());
             String imageUrl = "/images/" + savedFileName;
 
             // Image 엔티티 생성 및 설정
@@ -168,6 +173,15 @@ public class ImageServiceImpl implements ImageService {
         }
     }
 
+    // 일정/일기 이미지 파일은 내용 해시로 공유되므로 참조하는 행이 하나도 남지 않았을 때만 삭제
+    // 유예 기간 안에 재사용된 파일은 아직 커밋되지 않은 참조가 있을 수 있으므로 false 를 반환 (나중에 재시도)
+    @Override
+    public boolean releaseImage(String imageUrl) throws Exception {
+        String fileName = imageUrl.substring(imageUrl.lastIndexOf("/") + 1);
+        return fileService.deleteUnreferencedFile(imageLocation + "/" + fileName, reclaimGracePeriod,
+                () -> scheduleImageRepository.existsByImgUrl(imageUrl) || diaryImageRepository.existsByImgUrl(imageUrl));
+    }
+
     //프로필 이미지 반환 메서드
     @Transactional(readOnly = true)
     @Override
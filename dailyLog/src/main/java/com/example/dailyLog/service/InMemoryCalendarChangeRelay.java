@@ -0,0 +1,31 @@
+package com.example.dailyLog.service;
+
+import com.example.dailyLog.dto.response.CalendarChangePushDto;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+// 단일 서버(및 테스트)용 - 같은 JVM 의 구독자에게만 전달
+@Slf4j
+public class InMemoryCalendarChangeRelay implements CalendarChangeRelay {
+
+    private final List<Consumer<CalendarChangePushDto>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(CalendarChangePushDto change) {
+        for (Consumer<CalendarChangePushDto> listener : listeners) {
+            try {
+                listener.accept(change);
+            } catch (Exception e) {
+                log.warn("변경 알림 전달에 실패했습니다: calendar {}", change.getCalendarIdx(), e);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CalendarChangePushDto> listener) {
+        listeners.add(listener);
+    }
+}
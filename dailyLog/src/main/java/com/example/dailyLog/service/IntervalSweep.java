@@ -0,0 +1,83 @@
+package com.example.dailyLog.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+// 시작 시각 순으로 정렬된 회차 목록에 대한 구간 계산 (모든 구간은 [start, end) 로 취급)
+public final class IntervalSweep {
+
+    public static final Comparator<ScheduleOccurrence> BY_START = Comparator.comparing(ScheduleOccurrence::getStart)
+            .thenComparing(ScheduleOccurrence::getEnd);
+
+    private IntervalSweep() {
+    }
+
+    // 겹치거나 맞닿은 구간을 합친 바쁜 시간대 (정렬된 입력 한 번 순회)
+    public static List<LocalDateTime[]> merge(List<ScheduleOccurrence> sortedOccurrences) {
+        List<LocalDateTime[]> merged = new ArrayList<>();
+        LocalDateTime[] current = null;
+        for (ScheduleOccurrence occurrence : sortedOccurrences) {
+            if (current != null && !occurrence.getStart().isAfter(current[1])) {
+                if (occurrence.getEnd().isAfter(current[1])) {
+                    current[1] = occurrence.getEnd();
+                }
+                continue;
+            }
+            current = new LocalDateTime[]{occurrence.getStart(), occurrence.getEnd()};
+            merged.add(current);
+        }
+        return merged;
+    }
+
+    // 후보 구간과 겹치는 기존 회차 (두 목록 모두 시작 시각 순 정렬, 결과는 기존 회차의 시작 시각 순)
+    // 기존 회차는 자기 종료 시각 전에 시작한 후보 중 가장 늦게 끝나는 후보가 자기 시작 이후에 끝나면 겹침
+    // 후보 종료 시각의 누적 최댓값을 만들고 기존 회차마다 이분 탐색 - O(m + n log m), 오래 이어지는 기존 회차도 한 번만 봄
+    public static List<ScheduleOccurrence> conflicts(List<ScheduleOccurrence> sortedExisting, List<ScheduleOccurrence> sortedCandidates) {
+        List<ScheduleOccurrence> conflicts = new ArrayList<>();
+        int size = sortedCandidates.size();
+        if (size == 0) {
+            return conflicts;
+        }
+
+        LocalDateTime[] starts = new LocalDateTime[size];
+        LocalDateTime[] maxEnds = new LocalDateTime[size];
+        LocalDateTime maxEnd = null;
+        for (int i = 0; i < size; i++) {
+            ScheduleOccurrence candidate = sortedCandidates.get(i);
+            starts[i] = candidate.getStart();
+            if (maxEnd == null || candidate.getEnd().isAfter(maxEnd)) {
+                maxEnd = candidate.getEnd();
+            }
+            maxEnds[i] = maxEnd;
+        }
+
+        for (ScheduleOccurrence occurrence : sortedExisting) {
+            // 모든 후보가 끝난 뒤 시작하는 회차부터는 겹칠 수 없음
+            if (!occurrence.getStart().isBefore(maxEnd)) {
+                break;
+            }
+            int startedBefore = countStartsBefore(starts, occurrence.getEnd());
+            if (startedBefore > 0 && maxEnds[startedBefore - 1].isAfter(occurrence.getStart())) {
+                conflicts.add(occurrence);
+            }
+        }
+        return conflicts;
+    }
+
+    // 정렬된 시작 시각 중 time 보다 앞인 개수
+    private static int countStartsBefore(LocalDateTime[] sortedStarts, LocalDateTime time) {
+        int low = 0;
+        int high = sortedStarts.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedStarts[mid].isBefore(time)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,247 @@
+package com.example.dailyLog.service;
+
+import com.example.dailyLog.constant.KoreanHoliday;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
+// 음력 날짜/공휴일 표 - 시작 시 한 번 계산해 연도별 배열로 보관 (조회는 배열 인덱싱만, DB 조회 없음)
+@Component
+public class KoreanCalendarTable {
+
+    private static final KoreanHoliday[] HOLIDAYS = KoreanHoliday.values();
+
+    // 음력 날짜 비트 배치: 연도 << 10 | 윤달 << 9 | 월 << 5 | 일
+    private static final int LEAP_BIT = 1 << 9;
+
+    // 대체공휴일 적용 대상
+    private static final int SUNDAY_OR_OVERLAP = 1;   // 설날/추석 연휴 (일요일 또는 다른 공휴일과 겹칠 때)
+    private static final int WEEKEND_OR_OVERLAP = 2;  // 어린이날 등 (토/일요일 또는 다른 공휴일과 겹칠 때)
+    private static final long NATIONAL_DAY_SUBSTITUTE_FROM = LocalDate.of(2021, 8, 4).toEpochDay();
+    private static final long BUDDHA_CHRISTMAS_SUBSTITUTE_FROM = LocalDate.of(2023, 5, 4).toEpochDay();
+
+    private final int firstYear;
+    private final int lastYear;
+
+    private final int[][] lunarDates;  // [양력 연도][연중 일 - 1] = 음력 날짜
+    private final short[][] holidays;  // [양력 연도][연중 일 - 1] = 하위 바이트: 공휴일 순서 + 1 (0 이면 평일), 상위 바이트: 같은 날 겹친 두 번째 공휴일
+
+    // 음력 -> 양력 변환용: 달 시작일, 음력 연도별 1월 위치와 윤달
+    private final int[] monthStartEpochDays;
+    private final int[] firstMonthIndexes;
+    private final byte[] leapMonths;
+
+    public KoreanCalendarTable(@Value("${calendar-overlay.first-year:2000}") int firstYear,
+                               @Value("${calendar-overlay.last-year:2100}") int lastYear) {
+        // 공휴일 규칙과 ΔT 근사식이 맞는 범위만 허용
+        if (firstYear < 2000 || lastYear > 2149 || firstYear > lastYear) {
+            throw new IllegalArgumentException("Calendar overlay years must be within 2000 ~ 2149");
+        }
+        this.firstYear = firstYear;
+        this.lastYear = lastYear;
+
+        LunarCalendarCalculator.LunarMonths months = LunarCalendarCalculator.compute(firstYear, lastYear);
+        int years = lastYear - firstYear + 1;
+        monthStartEpochDays = new int[months.size()];
+        firstMonthIndexes = new int[years];
+        leapMonths = new byte[years];
+        for (int i = 0; i < months.size(); i++) {
+            monthStartEpochDays[i] = (int) months.startEpochDays[i];
+            int yearIndex = months.years[i] - firstYear;
+            if (yearIndex < 0 || yearIndex >= years) {
+                continue;
+            }
+            if (months.months[i] == 1 && !months.leaps[i]) {
+                firstMonthIndexes[yearIndex] = i;
+            }
+            if (months.leaps[i]) {
+                leapMonths[yearIndex] = (byte) months.months[i];
+            }
+        }
+
+        lunarDates = new int[years][];
+        holidays = new short[years][];
+        int monthIndex = 0;
+        for (int year = firstYear; year <= lastYear; year++) {
+            long firstDay = LocalDate.of(year, 1, 1).toEpochDay();
+            int[] yearDates = new int[LocalDate.of(year, 1, 1).lengthOfYear()];
+            for (int day = 0; day < yearDates.length; day++) {
+                long epochDay = firstDay + day;
+                while (monthIndex + 1 < monthStartEpochDays.length && monthStartEpochDays[monthIndex + 1] <= epochDay) {
+                    monthIndex++;
+                }
+                yearDates[day] = (months.years[monthIndex] << 10)
+                        | (months.leaps[monthIndex] ? LEAP_BIT : 0)
+                        | (months.months[monthIndex] << 5)
+                        | (int) (epochDay - monthStartEpochDays[monthIndex] + 1);
+            }
+            lunarDates[year - firstYear] = yearDates;
+            holidays[year - firstYear] = computeHolidays(year, firstDay, yearDates.length);
+        }
+    }
+
+    public boolean supports(int year) {
+        return year >= firstYear && year <= lastYear;
+    }
+
+    // 음력 날짜 (lunarYear / lunarMonth / lunarDay / isLeapMonth 로 해석)
+    public int lunarDate(LocalDate date) {
+        return lunarDates[date.getYear() - firstYear][date.getDayOfYear() - 1];
+    }
+
+    // 공휴일 (없으면 null, 겹친 날은 먼저 등록한 공휴일)
+    public KoreanHoliday holiday(LocalDate date) {
+        int code = holidays[date.getYear() - firstYear][date.getDayOfYear() - 1] & 0xFF;
+        return code == 0 ? null : HOLIDAYS[code - 1];
+    }
+
+    // 그 날의 공휴일 전체 (개천절 + 추석처럼 겹친 날은 둘 다)
+    public List<KoreanHoliday> holidays(LocalDate date) {
+        int code = holidays[date.getYear() - firstYear][date.getDayOfYear() - 1];
+        int first = code & 0xFF;
+        int second = (code >>> 8) & 0xFF;
+        if (first == 0) {
+            return List.of();
+        }
+        return second == 0 ? List.of(HOLIDAYS[first - 1]) : List.of(HOLIDAYS[first - 1], HOLIDAYS[second - 1]);
+    }
+
+    // 음력 -> 양력 (epochDay)
+    public long toSolarEpochDay(int lunarYear, int month, int day, boolean leap) {
+        if (!supports(lunarYear) || month < 1 || month > 12) {
+            throw new IllegalArgumentException("Unsupported lunar date");
+        }
+        int yearIndex = lunarYear - firstYear;
+        int leapMonth = leapMonths[yearIndex];
+        if (leap && leapMonth != month) {
+            throw new IllegalArgumentException("No leap month " + month + " in lunar year " + lunarYear);
+        }
+        int index = firstMonthIndexes[yearIndex] + month - 1 + (leapMonth != 0 && (leapMonth < month || leap) ? 1 : 0);
+        int length = monthStartEpochDays[index + 1] - monthStartEpochDays[index];
+        if (day < 1 || day > length) {
+            throw new IllegalArgumentException("Invalid lunar day " + day);
+        }
+        return monthStartEpochDays[index] + day - 1L;
+    }
+
+    public static int lunarYear(int lunarDate) {
+        return lunarDate >>> 10;
+    }
+
+    public static int lunarMonth(int lunarDate) {
+        return (lunarDate >>> 5) & 0xF;
+    }
+
+    public static int lunarDay(int lunarDate) {
+        return lunarDate & 0x1F;
+    }
+
+    public static boolean isLeapMonth(int lunarDate) {
+        return (lunarDate & LEAP_BIT) != 0;
+    }
+
+
+    private short[] computeHolidays(int year, long firstDay, int length) {
+        short[] table = new short[length];
+        int[] counts = new int[length];
+        int[] rules = new int[length];
+        HolidayWriter writer = new HolidayWriter(firstDay, table, counts, rules);
+
+        writer.add(LocalDate.of(year, 1, 1).toEpochDay(), KoreanHoliday.NEW_YEAR, 0);
+        writer.add(LocalDate.of(year, 3, 1).toEpochDay(), KoreanHoliday.SAMILJEOL, nationalDayRule(year, 3, 1));
+        if (year <= 2005) {
+            writer.add(LocalDate.of(year, 4, 5).toEpochDay(), KoreanHoliday.ARBOR_DAY, 0);
+        }
+        writer.add(LocalDate.of(year, 5, 5).toEpochDay(), KoreanHoliday.CHILDREN_DAY, year >= 2014 ? WEEKEND_OR_OVERLAP : 0);
+        writer.add(LocalDate.of(year, 6, 6).toEpochDay(), KoreanHoliday.MEMORIAL_DAY, 0);
+        if (year <= 2007) {
+            writer.add(LocalDate.of(year, 7, 17).toEpochDay(), KoreanHoliday.CONSTITUTION_DAY, 0);
+        }
+        writer.add(LocalDate.of(year, 8, 15).toEpochDay(), KoreanHoliday.LIBERATION_DAY, nationalDayRule(year, 8, 15));
+        writer.add(LocalDate.of(year, 10, 3).toEpochDay(), KoreanHoliday.FOUNDATION_DAY, nationalDayRule(year, 10, 3));
+        if (year >= 2013) {
+            writer.add(LocalDate.of(year, 10, 9).toEpochDay(), KoreanHoliday.HANGUL_DAY, nationalDayRule(year, 10, 9));
+        }
+        long christmas = LocalDate.of(year, 12, 25).toEpochDay();
+        writer.add(christmas, KoreanHoliday.CHRISTMAS, christmas >= BUDDHA_CHRISTMAS_SUBSTITUTE_FROM ? WEEKEND_OR_OVERLAP : 0);
+
+        int festivalRule = year >= 2014 ? SUNDAY_OR_OVERLAP : 0;
+        long seollal = toSolarEpochDay(year, 1, 1, false);
+        writer.add(seollal - 1, KoreanHoliday.SEOLLAL_EVE, festivalRule);
+        writer.add(seollal, KoreanHoliday.SEOLLAL, festivalRule);
+        writer.add(seollal + 1, KoreanHoliday.SEOLLAL_NEXT, festivalRule);
+        long buddhaBirthday = toSolarEpochDay(year, 4, 8, false);
+        writer.add(buddhaBirthday, KoreanHoliday.BUDDHA_BIRTHDAY, buddhaBirthday >= BUDDHA_CHRISTMAS_SUBSTITUTE_FROM ? WEEKEND_OR_OVERLAP : 0);
+        long chuseok = toSolarEpochDay(year, 8, 15, false);
+        writer.add(chuseok - 1, KoreanHoliday.CHUSEOK_EVE, festivalRule);
+        writer.add(chuseok, KoreanHoliday.CHUSEOK, festivalRule);
+        writer.add(chuseok + 1, KoreanHoliday.CHUSEOK_NEXT, festivalRule);
+
+        // 대체공휴일: 조건에 걸린 날마다 그 뒤의 첫 번째 평일(공휴일 아님)
+        for (int day = 0; day < length; day++) {
+            if (rules[day] == 0) {
+                continue;
+            }
+            DayOfWeek dayOfWeek = LocalDate.ofEpochDay(firstDay + day).getDayOfWeek();
+            boolean sunday = dayOfWeek == DayOfWeek.SUNDAY;
+            boolean weekend = sunday || dayOfWeek == DayOfWeek.SATURDAY;
+            boolean triggered = counts[day] >= 2
+                    || ((rules[day] & SUNDAY_OR_OVERLAP) != 0 && sunday)
+                    || ((rules[day] & WEEKEND_OR_OVERLAP) != 0 && weekend);
+            if (!triggered) {
+                continue;
+            }
+            int substitute = day + 1;
+            while (substitute < length && (table[substitute] != 0 || isWeekend(firstDay + substitute))) {
+                substitute++;
+            }
+            if (substitute < length) {
+                table[substitute] = (short) (KoreanHoliday.SUBSTITUTE.ordinal() + 1);
+            }
+        }
+        return table;
+    }
+
+    // 국경일 대체공휴일은 2021-08-04 시행분부터
+    private int nationalDayRule(int year, int month, int day) {
+        return LocalDate.of(year, month, day).toEpochDay() >= NATIONAL_DAY_SUBSTITUTE_FROM ? WEEKEND_OR_OVERLAP : 0;
+    }
+
+    private static boolean isWeekend(long epochDay) {
+        DayOfWeek dayOfWeek = LocalDate.ofEpochDay(epochDay).getDayOfWeek();
+        return dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY;
+    }
+
+    private static final class HolidayWriter {
+
+        private final long firstDay;
+        private final short[] table;
+        private final int[] counts;
+        private final int[] rules;
+
+        private HolidayWriter(long firstDay, short[] table, int[] counts, int[] rules) {
+            this.firstDay = firstDay;
+            this.table = table;
+            this.counts = counts;
+            this.rules = rules;
+        }
+
+        // 같은 날 공휴일이 겹치면 두 번째 이름은 상위 바이트에 기록 (양력 공휴일끼리, 음력 공휴일끼리는 겹치지 않으므로 최대 둘)
+        private void add(long epochDay, KoreanHoliday holiday, int rule) {
+            int day = (int) (epochDay - firstDay);
+            if (day < 0 || day >= table.length) {
+                return;
+            }
+            if (table[day] == 0) {
+                table[day] = (short) (holiday.ordinal() + 1);
+            } else if ((table[day] >>> 8) == 0) {
+                table[day] |= (short) ((holiday.ordinal() + 1) << 8);
+            }
+            counts[day]++;
+            rules[day] |= rule;
+        }
+    }
+}
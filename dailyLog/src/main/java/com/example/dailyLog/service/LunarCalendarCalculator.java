@@ -0,0 +1,229 @@
+package com.example.dailyLog.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// 한국 음력(KST 기준) 달 계산 - 합삭일과 중기(태양 황경 30도 배수)로 달의 시작일/윤달을 구함
+// 천문 식은 Meeus, Astronomical Algorithms (삭: 49장, 태양 황경: 25장 저정밀 식)
+final class LunarCalendarCalculator {
+
+    private static final double SYNODIC_MONTH = 29.530588861;
+    private static final double TROPICAL_YEAR = 365.2422;
+    private static final double KST_OFFSET_DAYS = 9.0 / 24;
+    private static final long JD_UNIX_EPOCH_DAY = 2440588; // floor(JD + 0.5) 의 1970-01-01
+
+    private LunarCalendarCalculator() {
+    }
+
+    // 음력 달 목록 (시작일 순) - 시작일은 epochDay, 월은 1 ~ 12
+    static final class LunarMonths {
+
+        final long[] startEpochDays;
+        final int[] years;
+        final int[] months;
+        final boolean[] leaps;
+
+        private LunarMonths(int size) {
+            startEpochDays = new long[size];
+            years = new int[size];
+            months = new int[size];
+            leaps = new boolean[size];
+        }
+
+        int size() {
+            return startEpochDays.length;
+        }
+    }
+
+    // firstYear-1 년 동지가 든 달부터 lastYear 년 동지가 든 달 직전까지 (firstYear ~ lastYear 양력 날짜를 모두 포함)
+    static LunarMonths compute(int firstYear, int lastYear) {
+        long[] newMoons = newMoonDays(firstYear - 2, lastYear + 1);
+        long[] principalTerms = principalTermDays(firstYear - 2, lastYear + 1);
+
+        List<long[]> months = new ArrayList<>(); // {시작일, 연도, 월, 윤달}
+        for (int year = firstYear - 1; year <= lastYear; year++) {
+            int from = monthIndexContaining(newMoons, solarTermDay(year, 270));
+            int to = monthIndexContaining(newMoons, solarTermDay(year + 1, 270));
+            // 동지 사이에 달이 13개면 중기가 없는 첫 달이 윤달
+            boolean leapYear = to - from == 13;
+            int month = 11;
+            int lunarYear = year;
+            for (int i = from; i < to; i++) {
+                boolean leap = false;
+                if (i > from) {
+                    if (leapYear && !hasPrincipalTerm(principalTerms, newMoons[i], newMoons[i + 1])) {
+                        leap = true;
+                        leapYear = false;
+                    } else {
+                        month = month % 12 + 1;
+                        if (month == 1) {
+                            lunarYear = year + 1;
+                        }
+                    }
+                }
+                months.add(new long[]{newMoons[i], lunarYear, month, leap ? 1 : 0});
+            }
+        }
+
+        LunarMonths result = new LunarMonths(months.size());
+        for (int i = 0; i < months.size(); i++) {
+            long[] month = months.get(i);
+            result.startEpochDays[i] = month[0];
+            result.years[i] = (int) month[1];
+            result.months[i] = (int) month[2];
+            result.leaps[i] = month[3] == 1;
+        }
+        return result;
+    }
+
+    // 해당 연도 태양 황경이 degrees 가 되는 날 (KST epochDay) - 270 이면 동지
+    static long solarTermDay(int year, int degrees) {
+        double jde = 2451623.81 + (year - 2000) * TROPICAL_YEAR + degrees / 360.0 * TROPICAL_YEAR;
+        for (int i = 0; i < 20; i++) {
+            double diff = normalizeDegrees(degrees - apparentSolarLongitude(jde));
+            jde += diff * TROPICAL_YEAR / 360;
+            if (Math.abs(diff) < 1e-7) {
+                break;
+            }
+        }
+        return toKstEpochDay(jde);
+    }
+
+    private static long[] newMoonDays(int fromYear, int toYear) {
+        int firstK = (int) Math.floor((fromYear - 2000) * 12.3685) - 1;
+        int lastK = (int) Math.ceil((toYear + 1 - 2000) * 12.3685) + 1;
+        long[] days = new long[lastK - firstK + 1];
+        for (int k = firstK; k <= lastK; k++) {
+            days[k - firstK] = toKstEpochDay(newMoonJde(k));
+        }
+        return days;
+    }
+
+    private static long[] principalTermDays(int fromYear, int toYear) {
+        long[] days = new long[(toYear - fromYear + 1) * 12];
+        int index = 0;
+        for (int year = fromYear; year <= toYear; year++) {
+            for (int degrees = 0; degrees < 360; degrees += 30) {
+                days[index++] = solarTermDay(year, degrees);
+            }
+        }
+        Arrays.sort(days);
+        return days;
+    }
+
+    // day 가 속한 달 (시작일이 day 이하인 마지막 합삭)
+    private static int monthIndexContaining(long[] newMoons, long day) {
+        int index = Arrays.binarySearch(newMoons, day);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    private static boolean hasPrincipalTerm(long[] principalTerms, long start, long end) {
+        int index = Arrays.binarySearch(principalTerms, start);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return index < principalTerms.length && principalTerms[index] < end;
+    }
+
+    private static long toKstEpochDay(double jde) {
+        double year = 2000 + (jde - 2451545.0) / 365.25;
+        double jd = jde - deltaTSeconds(year) / 86400;
+        return (long) Math.floor(jd + 0.5 + KST_OFFSET_DAYS) - JD_UNIX_EPOCH_DAY;
+    }
+
+    // 지구 자전 보정 ΔT = TT - UT (Espenak & Meeus 다항식)
+    private static double deltaTSeconds(double year) {
+        if (year < 1986) {
+            double t = year - 1975;
+            return 45.45 + 1.067 * t - t * t / 260 - t * t * t / 718;
+        }
+        if (year < 2005) {
+            double t = year - 2000;
+            return 63.86 + 0.3345 * t - 0.060374 * t * t + 0.0017275 * Math.pow(t, 3)
+                    + 0.000651814 * Math.pow(t, 4) + 0.00002373599 * Math.pow(t, 5);
+        }
+        if (year < 2050) {
+            double t = year - 2000;
+            return 62.92 + 0.32217 * t + 0.005589 * t * t;
+        }
+        double u = (year - 1820) / 100;
+        return -20 + 32 * u * u - 0.5628 * (2150 - year);
+    }
+
+    // k 번째 합삭 시각 (JDE, k = 0 은 2000-01-06)
+    private static double newMoonJde(int k) {
+        double t = k / 1236.85;
+        double t2 = t * t;
+        double t3 = t2 * t;
+        double t4 = t3 * t;
+        double jde = 2451550.09766 + SYNODIC_MONTH * k + 0.00015437 * t2 - 0.000000150 * t3 + 0.00000000073 * t4;
+        double e = 1 - 0.002516 * t - 0.0000074 * t2;
+        double m = Math.toRadians(2.5534 + 29.10535670 * k - 0.0000014 * t2 - 0.00000011 * t3);
+        double mp = Math.toRadians(201.5643 + 385.81693528 * k + 0.0107582 * t2 + 0.00001238 * t3 - 0.000000058 * t4);
+        double f = Math.toRadians(160.7108 + 390.67050284 * k - 0.0016118 * t2 - 0.00000227 * t3 + 0.000000011 * t4);
+        double omega = Math.toRadians(124.7746 - 1.56375588 * k + 0.0020672 * t2 + 0.00000215 * t3);
+
+        jde += -0.40720 * Math.sin(mp)
+                + 0.17241 * e * Math.sin(m)
+                + 0.01608 * Math.sin(2 * mp)
+                + 0.01039 * Math.sin(2 * f)
+                + 0.00739 * e * Math.sin(mp - m)
+                - 0.00514 * e * Math.sin(mp + m)
+                + 0.00208 * e * e * Math.sin(2 * m)
+                - 0.00111 * Math.sin(mp - 2 * f)
+                - 0.00057 * Math.sin(mp + 2 * f)
+                + 0.00056 * e * Math.sin(2 * mp + m)
+                - 0.00042 * Math.sin(3 * mp)
+                + 0.00042 * e * Math.sin(m + 2 * f)
+                + 0.00038 * e * Math.sin(m - 2 * f)
+                - 0.00024 * e * Math.sin(2 * mp - m)
+                - 0.00017 * Math.sin(omega)
+                - 0.00007 * Math.sin(mp + 2 * m)
+                + 0.00004 * Math.sin(2 * mp - 2 * f)
+                + 0.00004 * Math.sin(3 * m)
+                + 0.00003 * Math.sin(mp + m - 2 * f)
+                + 0.00003 * Math.sin(2 * mp + 2 * f)
+                - 0.00003 * Math.sin(mp + m + 2 * f)
+                + 0.00003 * Math.sin(mp - m + 2 * f)
+                - 0.00002 * Math.sin(mp - m - 2 * f)
+                - 0.00002 * Math.sin(3 * mp + m)
+                + 0.00002 * Math.sin(4 * mp);
+
+        // 행성 섭동 보정
+        double[][] planetary = {
+                {299.77, 0.107408, 0.000325}, {251.88, 0.016321, 0.000165}, {251.83, 26.651886, 0.000164},
+                {349.42, 36.412478, 0.000126}, {84.66, 18.206239, 0.000110}, {141.74, 53.303771, 0.000062},
+                {207.14, 2.453732, 0.000060}, {154.84, 7.306860, 0.000056}, {34.52, 27.261239, 0.000047},
+                {207.19, 0.121824, 0.000042}, {291.34, 1.844379, 0.000040}, {161.72, 24.198154, 0.000037},
+                {239.56, 25.513099, 0.000035}, {331.55, 3.592518, 0.000023}
+        };
+        for (int i = 0; i < planetary.length; i++) {
+            double argument = planetary[i][0] + planetary[i][1] * k - (i == 0 ? 0.009173 * t2 : 0);
+            jde += planetary[i][2] * Math.sin(Math.toRadians(argument));
+        }
+        return jde;
+    }
+
+    // 태양의 겉보기 황경 (도)
+    private static double apparentSolarLongitude(double jde) {
+        double t = (jde - 2451545.0) / 36525;
+        double l0 = 280.46646 + 36000.76983 * t + 0.0003032 * t * t;
+        double m = Math.toRadians(357.52911 + 35999.05029 * t - 0.0001537 * t * t);
+        double c = (1.914602 - 0.004817 * t - 0.000014 * t * t) * Math.sin(m)
+                + (0.019993 - 0.000101 * t) * Math.sin(2 * m)
+                + 0.000289 * Math.sin(3 * m);
+        double omega = Math.toRadians(125.04 - 1934.136 * t);
+        return normalizeDegrees(l0 + c - 0.00569 - 0.00478 * Math.sin(omega) + 180) + 180;
+    }
+
+    private static double normalizeDegrees(double degrees) {
+        double normalized = degrees % 360;
+        if (normalized >= 180) {
+            normalized -= 360;
+        } else if (normalized < -180) {
+            normalized += 360;
+        }
+        return normalized;
+    }
+}
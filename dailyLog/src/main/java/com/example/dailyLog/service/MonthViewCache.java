@@ -0,0 +1,138 @@
+package com.example.dailyLog.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// (캘린더, 캘린더 버전, 연, 월) 단위 월달력 조회 결과 캐시 - 최대 개수(LRU)와 유효 시간으로 제한
+// 버전이 키에 포함되므로 다른 서버에서 커밋된 변경도 다음 조회에서 새 키로 반영됨 (이 서버의 무효화는 메모리 정리용)
+public class MonthViewCache<V> {
+
+    private final int maxSize;
+    private final long ttlNanos;
+
+    // 접근 순서 LinkedHashMap 으로 가장 오래 사용하지 않은 항목부터 제거
+    private final LinkedHashMap<Key, Entry<V>> entries;
+
+    // 캘린더별 변경 세대 - 조회 중에 무효화가 일어나면 이전 데이터로 캐시를 채우지 않음
+    private final Map<Long, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public MonthViewCache(String name, int maxSize, Duration ttl, MeterRegistry meterRegistry) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry<V>> eldest) {
+                if (size() > MonthViewCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        FunctionCounter.builder("month_view_cache.requests", hits, LongAdder::sum)
+                .tags("cache", name, "result", "hit").register(meterRegistry);
+        FunctionCounter.builder("month_view_cache.requests", misses, LongAdder::sum)
+                .tags("cache", name, "result", "miss").register(meterRegistry);
+        FunctionCounter.builder("month_view_cache.evictions", evictions, LongAdder::sum)
+                .tags("cache", name).register(meterRegistry);
+        Gauge.builder("month_view_cache.size", this, MonthViewCache::size)
+                .tags("cache", name).register(meterRegistry);
+    }
+
+    public V get(Long calendarIdx, long version, YearMonth yearMonth, Supplier<V> loader) {
+        Key key = new Key(calendarIdx, version, yearMonth);
+        long now = System.nanoTime();
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && now - entry.createdAt < ttlNanos) {
+                hits.increment();
+                return entry.value;
+            }
+        }
+        misses.increment();
+
+        long generation = generation(calendarIdx).get();
+        V value = loader.get();
+        synchronized (entries) {
+            if (generation(calendarIdx).get() == generation) {
+                entries.put(key, new Entry<>(value, System.nanoTime()));
+            }
+        }
+        return value;
+    }
+
+    public void evictMonth(Long calendarIdx, YearMonth yearMonth) {
+        synchronized (entries) {
+            generation(calendarIdx).incrementAndGet();
+            entries.keySet().removeIf(key -> key.calendarIdx.equals(calendarIdx) && key.yearMonth.equals(yearMonth));
+        }
+    }
+
+    public void evictCalendar(Long calendarIdx) {
+        synchronized (entries) {
+            generation(calendarIdx).incrementAndGet();
+            entries.keySet().removeIf(key -> key.calendarIdx.equals(calendarIdx));
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private AtomicLong generation(Long calendarIdx) {
+        return generations.computeIfAbsent(calendarIdx, idx -> new AtomicLong());
+    }
+
+    private static final class Key {
+        private final Long calendarIdx;
+        private final long version;
+        private final YearMonth yearMonth;
+
+        private Key(Long calendarIdx, long version, YearMonth yearMonth) {
+            this.calendarIdx = calendarIdx;
+            this.version = version;
+            this.yearMonth = yearMonth;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return calendarIdx.equals(key.calendarIdx) && version == key.version && yearMonth.equals(key.yearMonth);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(calendarIdx, version, yearMonth);
+        }
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long createdAt;
+
+        private Entry(V value, long createdAt) {
+            this.value = value;
+            this.createdAt = createdAt;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.dailyLog.service;
+
+import com.example.dailyLog.constant.CalendarItemType;
+import com.example.dailyLog.dto.response.DiaryResponseMonthDto;
+import com.example.dailyLog.dto.response.ScheduleResponseMonthDto;
+import com.example.dailyLog.event.CalendarChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.YearMonth;
+import java.util.List;
+
+// 변경이 커밋된 뒤 해당 캘린더의 월달력 캐시를 비움 (커밋 전에 비우면 다른 요청이 이전 데이터로 다시 채울 수 있음)
+@Component
+@RequiredArgsConstructor
+public class MonthViewCacheInvalidator {
+
+    private final MonthViewCache<List<ScheduleResponseMonthDto>> scheduleMonthViewCache;
+    private final MonthViewCache<List<DiaryResponseMonthDto>> diaryMonthViewCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void evict(CalendarChangedEvent event) {
+        MonthViewCache<?> cache = event.getTarget() == CalendarItemType.SCHEDULE
+                ? scheduleMonthViewCache : diaryMonthViewCache;
+
+        if (event.isAllMonths()) {
+            cache.evictCalendar(event.getCalendarIdx());
+            return;
+        }
+        for (YearMonth month : event.getMonths()) {
+            cache.evictMonth(event.getCalendarIdx(), month);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.dailyLog.service;
+
+import com.example.dailyLog.dto.response.ScheduleAgendaResponseDto;
+
+import java.time.LocalDateTime;
+
+public interface ScheduleAgendaService {
+
+    ScheduleAgendaResponseDto findAgenda(Long calendarIdx, String cursor, LocalDateTime from, boolean backward, int size);
+}
@@ -0,0 +1,184 @@
+package com.example.dailyLog.service;
+
+import com.example.dailyLog.dto.response.ScheduleAgendaResponseDto;
+import com.example.dailyLog.dto.response.ScheduleResponseMonthDto;
+import com.example.dailyLog.entity.Schedule;
+import com.example.dailyLog.exception.calendarsException.CalendarsErrorCode;
+import com.example.dailyLog.exception.calendarsException.CalendarsNotFoundException;
+import com.example.dailyLog.exception.commonException.CommonErrorCode;
+import com.example.dailyLog.exception.commonException.error.BizException;
+import com.example.dailyLog.repository.CalendarRepository;
+import com.example.dailyLog.repository.ScheduleExceptionRepository;
+import com.example.dailyLog.repository.ScheduleRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.stream.Collectors;
+
+// 일정 목록(agenda) - (시작 시각, ID) 키셋 페이지
+// 단일 일정은 커서 위치부터 인덱스를 페이지 크기만큼만 읽으므로 얼마나 멀리 스크롤해도 비용이 같음
+// 반복 일정은 단일 일정 페이지가 끝나는 지점(최대 RECURRENCE_WINDOW)까지만 회차를 펼쳐 합침
+@Service
+@RequiredArgsConstructor
+public class ScheduleAgendaServiceImpl implements ScheduleAgendaService {
+
+    private static final int MAX_PAGE_SIZE = 200;
+
+    // 한 페이지에서 반복 회차를 펼치는 최대 구간
+    private static final Duration RECURRENCE_WINDOW = Duration.ofDays(366);
+
+    private static final Comparator<ScheduleResponseMonthDto> AGENDA_ORDER = Comparator.comparing(ScheduleResponseMonthDto::getStart)
+            .thenComparing(ScheduleResponseMonthDto::getIdx);
+
+    private final CalendarRepository calendarRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final ScheduleExceptionRepository scheduleExceptionRepository;
+    private final ScheduleRecurrenceExpander scheduleRecurrenceExpander;
+
+
+    // cursor 가 없으면 from(기본 현재 시각)부터: 정방향은 from 이후, 역방향(backward)은 from 이전
+    @Transactional(readOnly = true)
+    @Override
+    public ScheduleAgendaResponseDto findAgenda(Long calendarIdx, String cursor, LocalDateTime from, boolean backward, int size) {
+        if (!calendarRepository.existsById(calendarIdx)) {
+            throw new CalendarsNotFoundException(CalendarsErrorCode.CALENDARS_NOT_FOUND);
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        AgendaKey key = cursor != null && !cursor.isBlank()
+                ? decodeCursor(calendarIdx, cursor)
+                : new AgendaKey(from != null ? from : LocalDateTime.now(), Long.MIN_VALUE);
+
+        List<ScheduleResponseMonthDto> singles = backward
+                ? scheduleRepository.findAgendaBefore(calendarIdx, key.getStart(), key.getIdx(), Limit.of(pageSize))
+                : scheduleRepository.findAgendaAfter(calendarIdx, key.getStart(), key.getIdx(), Limit.of(pageSize));
+
+        // 반복 회차는 커서에서 RECURRENCE_WINDOW 까지만 펼침 (드문 단일 일정 사이가 멀어도 펼치는 양이 제한됨)
+        // 페이지가 그 안에서 찼으면 마지막 단일 일정 키까지만 (그 뒤의 단일 일정은 아직 읽지 않았으므로)
+        LocalDateTime windowLimit = backward ? key.getStart().minus(RECURRENCE_WINDOW) : key.getStart().plus(RECURRENCE_WINDOW);
+        AgendaKey bound = null;
+        boolean singlesTruncated = false;
+        if (singles.size() == pageSize) {
+            AgendaKey last = AgendaKey.of(singles.get(pageSize - 1));
+            if (backward ? !last.getStart().isBefore(windowLimit) : last.getStart().isBefore(windowLimit)) {
+                bound = last;
+            } else {
+                // 구간 밖의 단일 일정은 반복 회차와 합쳐 정렬할 수 없으므로 다음 페이지에서 다시 읽음
+                singles = singles.stream()
+                        .filter(single -> backward ? !single.getStart().isBefore(windowLimit) : single.getStart().isBefore(windowLimit))
+                        .collect(Collectors.toList());
+                singlesTruncated = true;
+            }
+        }
+        LocalDateTime windowStart;
+        LocalDateTime windowEnd;
+        if (backward) {
+            windowStart = bound != null ? bound.getStart() : windowLimit;
+            windowEnd = key.getStart().plusNanos(1);
+        } else {
+            windowStart = key.getStart();
+            windowEnd = bound != null ? bound.getStart().plusNanos(1) : windowLimit;
+        }
+
+        List<ScheduleResponseMonthDto> items = new ArrayList<>(singles);
+        for (ScheduleOccurrence occurrence : expandRecurringSchedules(calendarIdx, windowStart, windowEnd)) {
+            AgendaKey occurrenceKey = new AgendaKey(occurrence.getStart(), occurrence.getSchedule().getIdx());
+            if (occurrenceKey.follows(key, backward) && (bound == null || !occurrenceKey.follows(bound, backward))) {
+                items.add(ScheduleResponseMonthDto.builder()
+                        .idx(occurrence.getSchedule().getIdx())
+                        .title(occurrence.getSchedule().getTitle())
+                        .start(occurrence.getStart())
+                        .end(occurrence.getEnd())
+                        .color(occurrence.getSchedule().getColor())
+                        .build());
+            }
+        }
+        items.sort(backward ? AGENDA_ORDER.reversed() : AGENDA_ORDER);
+
+        List<ScheduleResponseMonthDto> page = new ArrayList<>(items.subList(0, Math.min(pageSize, items.size())));
+        String nextCursor = null;
+        if (bound != null || items.size() > pageSize) {
+            nextCursor = encodeCursor(calendarIdx, AgendaKey.of(page.get(page.size() - 1)));
+        } else if (singlesTruncated || (backward ? scheduleRepository.existsRecurringStartingBefore(calendarIdx, windowStart)
+                : scheduleRepository.existsRecurringContinuingAfter(calendarIdx, windowEnd.toLocalDate()))) {
+            // 펼친 구간 밖에 단일 일정이나 반복 회차가 남아 있음 - 구간 경계부터 이어서 조회
+            nextCursor = encodeCursor(calendarIdx, new AgendaKey(backward ? windowStart : windowEnd, Long.MIN_VALUE));
+        }
+
+        if (backward) {
+            Collections.reverse(page);
+        }
+        return new ScheduleAgendaResponseDto(page, nextCursor);
+    }
+
+
+    // [from, to) 에 시작하는 반복 일정 회차 (제외 회차는 한 번의 쿼리로 조회)
+    private List<ScheduleOccurrence> expandRecurringSchedules(Long calendarIdx, LocalDateTime from, LocalDateTime to) {
+        List<Schedule> recurringSchedules = scheduleRepository.findRecurringSchedulesInRange(calendarIdx, from.toLocalDate(), to);
+        if (recurringSchedules.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Long> recurringIdxList = recurringSchedules.stream().map(Schedule::getIdx).collect(Collectors.toList());
+        Map<Long, Set<LocalDateTime>> exceptions = new HashMap<>();
+        for (Object[] row : scheduleExceptionRepository.findOriginalStartsInRange(recurringIdxList, from, to)) {
+            exceptions.computeIfAbsent((Long) row[0], k -> new HashSet<>()).add((LocalDateTime) row[1]);
+        }
+
+        List<ScheduleOccurrence> occurrences = new ArrayList<>();
+        for (Schedule schedule : recurringSchedules) {
+            occurrences.addAll(scheduleRecurrenceExpander.expand(schedule,
+                    exceptions.getOrDefault(schedule.getIdx(), Collections.emptySet()), from, to));
+        }
+        return occurrences;
+    }
+
+    // 커서 = base64url("캘린더:ID:시작 시각") - 클라이언트는 내용을 해석하지 않음
+    private String encodeCursor(Long calendarIdx, AgendaKey key) {
+        String raw = calendarIdx + ":" + key.getIdx() + ":" + key.getStart();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private AgendaKey decodeCursor(Long calendarIdx, String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":", 3);
+            if (parts.length != 3 || !calendarIdx.equals(Long.valueOf(parts[0]))) {
+                throw new BizException(CommonErrorCode.INVALID_CURSOR);
+            }
+            return new AgendaKey(LocalDateTime.parse(parts[2]), Long.valueOf(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BizException(CommonErrorCode.INVALID_CURSOR);
+        }
+    }
+
+
+    @Getter
+    @AllArgsConstructor
+    private static final class AgendaKey {
+
+        private final LocalDateTime start;
+
+        private final Long idx;
+
+        private static AgendaKey of(ScheduleResponseMonthDto schedule) {
+            return new AgendaKey(schedule.getStart(), schedule.getIdx());
+        }
+
+        // 조회 방향으로 other 보다 뒤에 있는지
+        private boolean follows(AgendaKey other, boolean backward) {
+            int compare = start.compareTo(other.start);
+            if (compare == 0) {
+                compare = idx.compareTo(other.idx);
+            }
+            return backward ? compare < 0 : compare > 0;
+        }
+    }
+}
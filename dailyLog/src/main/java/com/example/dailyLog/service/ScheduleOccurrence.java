@@ -0,0 +1,20 @@
+package com.example.dailyLog.service;
+
+import com.example.dailyLog.entity.Schedule;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 일정의 실제 회차 (반복 일정은 조회 시점에 펼쳐서 생성)
+@Getter
+@AllArgsConstructor
+public class ScheduleOccurrence {
+
+    private final Schedule schedule;
+
+    private final LocalDateTime start;
+
+    private final LocalDateTime end;
+
+}
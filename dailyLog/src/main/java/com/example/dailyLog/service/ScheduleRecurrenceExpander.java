@@ -0,0 +1,59 @@
+package com.example.dailyLog.service;
+
+import com.example.dailyLog.constant.RepeatType;
+import com.example.dailyLog.entity.Schedule;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+@Component
+public class ScheduleRecurrenceExpander {
+
+    // [from, to) 구간에 시작하는 회차 목록 (제외 회차는 건너뜀)
+    public List<ScheduleOccurrence> expand(Schedule schedule, Set<LocalDateTime> exceptions, LocalDateTime from, LocalDateTime to) {
+        List<ScheduleOccurrence> occurrences = new ArrayList<>();
+        LocalDateTime start = schedule.getStart();
+        Duration duration = Duration.between(start, schedule.getEnd());
+        RepeatType repeatType = schedule.getRepeatType();
+
+        if (repeatType == null || repeatType == RepeatType.NONE) {
+            if (!start.isBefore(from) && start.isBefore(to)) {
+                occurrences.add(new ScheduleOccurrence(schedule, start, schedule.getEnd()));
+            }
+            return occurrences;
+        }
+
+        // 반복 종료일 당일에 시작하는 회차까지 포함
+        LocalDateTime limit = to;
+        if (schedule.getRepeatEndDate() != null) {
+            LocalDateTime repeatLimit = schedule.getRepeatEndDate().plusDays(1).atStartOfDay();
+            if (repeatLimit.isBefore(limit)) {
+                limit = repeatLimit;
+            }
+        }
+
+        int interval = Math.max(1, schedule.getRepeatInterval());
+
+        // 조회 구간 직전 회차로 바로 이동 (긴 반복도 구간 내 회차 수만큼만 계산)
+        long index = 0;
+        if (from.isAfter(start)) {
+            index = Math.max(0, repeatType.unitsBetween(start, from) / interval - 1);
+        }
+
+        while (true) {
+            LocalDateTime occurrenceStart = repeatType.plus(start, index * interval);
+            if (!occurrenceStart.isBefore(limit)) {
+                break;
+            }
+            if (!occurrenceStart.isBefore(from) && !exceptions.contains(occurrenceStart)) {
+                occurrences.add(new ScheduleOccurrence(schedule, occurrenceStart, occurrenceStart.plus(duration)));
+            }
+            index++;
+        }
+        return occurrences;
+    }
+}
@@ -1,26 +1,32 @@
 package com.example.dailyLog.service;
 
 import com.example.dailyLog.dto.request.ScheduleRequestInsertDto;
+import com.example.dailyLog.dto.request.ScheduleRequestMoveDto;
 import com.example.dailyLog.dto.request.ScheduleRequestUpdateDto;
 import com.example.dailyLog.dto.response.ScheduleResponseDayDto;
 import com.example.dailyLog.dto.response.ScheduleResponseMonthDto;
+import com.example.dailyLog.dto.response.ScheduleResponseOverlayDto;
 import com.example.dailyLog.dto.response.ScheduleResponseYearDto;
 import com.example.dailyLog.entity.Calendars;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ScheduleService {
 
     List<ScheduleResponseYearDto> findAllYearSchedule(Long calendarIdx, int year);
-    List<ScheduleResponseMonthDto> findAllMonthSchedule(Long calendarIdx, int year, int month);
+    List<ScheduleResponseMonthDto> findAllMonthSchedule(Long calendarIdx, long version, int year, int month);
+    List<ScheduleResponseOverlayDto> findFriendOverlaySchedule(Long userIdx, int year, int month);
     List<ScheduleResponseDayDto> findScheduleByDay(Long calendarIdx, int year, int month, int day);
     ScheduleResponseDayDto findScheduleByOne(Long scheduleIdx);
 
     void saveSchedule(ScheduleRequestInsertDto scheduleRequestInsertDto, List<MultipartFile> imageFileList);
     void updateSchedule(ScheduleRequestUpdateDto scheduleRequestUpdateDto,List<MultipartFile> imageFileList);
-    void deleteSchedule(Long scheduleId, boolean deleteAllRepeats, boolean deleteOnlyThis, boolean deleteAfter);
+    void deleteSchedule(Long scheduleId, boolean deleteAllRepeats, boolean deleteOnlyThis, boolean deleteAfter, LocalDateTime occurrenceStart);
 
     void updateScheduleDate(Long scheduleIdx, ScheduleRequestUpdateDto scheduleRequestUpdateDto);
+    void updateScheduleDates(List<ScheduleRequestMoveDto> scheduleRequestMoveDtoList);
+    void shiftRepeatGroup(Long calendarIdx, Long repeatGroupId, long deltaMinutes);
 }
\ No newline at end of file
@@ -1,41 +1,46 @@
 package com.example.dailyLog.service;
 
+import com.example.dailyLog.constant.Color;
 import com.example.dailyLog.constant.RepeatType;
 import com.example.dailyLog.dto.request.ScheduleRequestInsertDto;
+import com.example.dailyLog.dto.request.ScheduleRequestMoveDto;
 import com.example.dailyLog.dto.request.ScheduleRequestUpdateDto;
 import com.example.dailyLog.dto.response.ScheduleResponseDayDto;
 import com.example.dailyLog.dto.response.ScheduleResponseMonthDto;
+import com.example.dailyLog.dto.response.ScheduleResponseOverlayDto;
 import com.example.dailyLog.dto.response.ScheduleResponseYearDto;
 import com.example.dailyLog.entity.*;
+import com.example.dailyLog.event.CalendarChangedEvent;
+import com.example.dailyLog.event.ImageFilesReleasedEvent;
 import com.example.dailyLog.exception.calendarsException.CalendarsErrorCode;
 import com.example.dailyLog.exception.calendarsException.CalendarsNotFoundException;
 import com.example.dailyLog.exception.commonException.CommonErrorCode;
 import com.example.dailyLog.exception.commonException.error.InvalidDay;
 import com.example.dailyLog.exception.commonException.error.InvalidMonth;
 import com.example.dailyLog.exception.commonException.error.InvalidYear;
+import com.example.dailyLog.exception.scheduleException.InvalidOccurrenceException;
 import com.example.dailyLog.exception.scheduleException.ScheduleErrorCode;
+import com.example.dailyLog.exception.scheduleException.ScheduleConflictException;
 import com.example.dailyLog.exception.scheduleException.ScheduleNotFoundException;
 import com.example.dailyLog.repository.CalendarRepository;
+import com.example.dailyLog.repository.FriendRepository;
+import com.example.dailyLog.repository.ScheduleExceptionRepository;
 import com.example.dailyLog.repository.ScheduleImageRepository;
 import com.example.dailyLog.repository.ScheduleRepository;
 import lombok.RequiredArgsConstructor;
 import org.hibernate.service.spi.ServiceException;
-import org.springframework.scheduling.annotation.Async;
-import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.List;
-import java.util.concurrent.CompletableFuture;
+import java.util.*;
 import java.util.stream.Collectors;
 
-@EnableAsync
 @Service
 @RequiredArgsConstructor
 public class ScheduleServiceImpl implements ScheduleService {
@@ -45,45 +50,124 @@ public class ScheduleServiceImpl implements ScheduleService {
     private final ScheduleImageRepository scheduleImageRepository;
     private final ImageService imageService;
     private final FileService fileService;
-
-    // 월달력 전체 일정 조회
-    @Transactional
+    private final ScheduleExceptionRepository scheduleExceptionRepository;
+    private final ScheduleRecurrenceExpander scheduleRecurrenceExpander;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SnowflakeIdGenerator snowflakeIdGenerator;
+    private final FreeBusyService freeBusyService;
+    private final FriendRepository friendRepository;
+    private final MonthViewCache<List<ScheduleResponseMonthDto>> scheduleMonthViewCache;
+
+    // 월달력 전체 일정 조회 (version 은 먼저 읽은 캘린더 버전 - 캐시 키에 포함해 다른 서버의 변경도 반영)
+    // 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 조회 (각 쿼리는 리포지토리 트랜잭션에서 실행)
     @Override
-    public List<ScheduleResponseMonthDto> findAllMonthSchedule(Long calendarIdx, int year, int month) {
+    public List<ScheduleResponseMonthDto> findAllMonthSchedule(Long calendarIdx, long version, int year, int month) {
         if (month < 1 || month > 12) {
             throw new IllegalArgumentException("Month must be between 1 and 12");
         }
         if (year < 1 || year > 9999) {
             throw new IllegalArgumentException("Year must be a positive number and within the range of valid years");
         }
+
+        return scheduleMonthViewCache.get(calendarIdx, version, YearMonth.of(year, month),
+                () -> loadMonthSchedules(calendarIdx, year, month));
+    }
+
+    private List<ScheduleResponseMonthDto> loadMonthSchedules(Long calendarIdx, int year, int month) {
         if (!calendarRepository.existsById(calendarIdx)) {
             throw new CalendarsNotFoundException(CalendarsErrorCode.CALENDARS_NOT_FOUND);
         }
 
         try {
-            LocalDate startOfMonth = LocalDate.of(year, month, 1);
-            LocalDate endOfMonth = startOfMonth.withDayOfMonth(startOfMonth.lengthOfMonth());
-
-            List<Schedule> schedules = scheduleRepository.findByCalendarsIdxAndStartBetween(calendarIdx, startOfMonth.atStartOfDay(), endOfMonth.atTime(23, 59, 59));
-
-            return schedules.stream()
-                    .map(schedule -> ScheduleResponseMonthDto.builder()
-                            .idx(schedule.getIdx())
-                            .title(schedule.getTitle())
-                            .start(schedule.getStart())
-                            .end(schedule.getEnd())
-                            .color(schedule.getColor())
-                            .build())
-                    .sorted(Comparator.comparing(ScheduleResponseMonthDto::getStart))
-                    .collect(Collectors.toList());
+            LocalDateTime from = LocalDate.of(year, month, 1).atStartOfDay();
+            LocalDateTime to = from.plusMonths(1);
+
+            // 단일 일정은 필요한 컬럼만 인덱스 순서대로 조회
+            List<ScheduleResponseMonthDto> schedules = new ArrayList<>(scheduleRepository.findMonthScheduleViews(calendarIdx, from, to));
+
+            for (ScheduleOccurrence occurrence : expandRecurringSchedules(calendarIdx, from, to)) {
+                schedules.add(ScheduleResponseMonthDto.builder()
+                        .idx(occurrence.getSchedule().getIdx())
+                        .title(occurrence.getSchedule().getTitle())
+                        .start(occurrence.getStart())
+                        .end(occurrence.getEnd())
+                        .color(occurrence.getSchedule().getColor())
+                        .build());
+            }
+
+            // 이미 정렬된 두 구간을 이어 붙인 것이라 병합 수준의 비용으로 정렬됨
+            schedules.sort(Comparator.comparing(ScheduleResponseMonthDto::getStart));
+            return Collections.unmodifiableList(schedules);
         } catch (Exception e) {
             throw new ServiceException("Failed to find schedule in ScheduleService.findAllMonthSchedule", e);
         }
     }
 
 
-    // 연달력 전체 일정 조회
-    @Transactional
+    // 친구 일정 겹쳐보기 (월간)
+    // 친구 목록 1번 + 단일 일정 IN 조회 1번 + 반복 일정 IN 조회 1번 + 제외 회차 1번 (친구 수와 관계없이 쿼리 수 고정)
+    @Transactional(readOnly = true)
+    @Override
+    public List<ScheduleResponseOverlayDto> findFriendOverlaySchedule(Long userIdx, int year, int month) {
+        if (month < 1 || month > 12) {
+            throw new IllegalArgumentException("Month must be between 1 and 12");
+        }
+        if (year < 1 || year > 9999) {
+            throw new IllegalArgumentException("Year must be a positive number and within the range of valid years");
+        }
+
+        try {
+            // 캘린더 ID -> (친구 ID, 닉네임)
+            Map<Long, Object[]> friendByCalendar = new HashMap<>();
+            for (Object[] row : friendRepository.findFriendCalendarsByUserIdx(userIdx)) {
+                friendByCalendar.put((Long) row[2], row);
+            }
+            if (friendByCalendar.isEmpty()) {
+                return Collections.emptyList();
+            }
+
+            LocalDateTime from = LocalDate.of(year, month, 1).atStartOfDay();
+            LocalDateTime to = from.plusMonths(1);
+            Set<Long> calendarIdxSet = friendByCalendar.keySet();
+
+            List<ScheduleResponseOverlayDto> overlay = new ArrayList<>();
+            for (Object[] row : scheduleRepository.findScheduleViewsInCalendars(calendarIdxSet, from, to)) {
+                overlay.add(toOverlayDto(friendByCalendar.get((Long) row[0]), (Long) row[1], (LocalDateTime) row[2], (LocalDateTime) row[3], (Color) row[4]));
+            }
+
+            List<Schedule> recurringSchedules = scheduleRepository.findRecurringSchedulesInCalendars(calendarIdxSet, from.toLocalDate(), to);
+            Map<Long, Set<LocalDateTime>> exceptions = findExceptions(recurringSchedules, from, to);
+            for (Schedule schedule : recurringSchedules) {
+                Object[] friend = friendByCalendar.get(schedule.getCalendars().getIdx());
+                for (ScheduleOccurrence occurrence : scheduleRecurrenceExpander.expand(schedule,
+                        exceptions.getOrDefault(schedule.getIdx(), Collections.emptySet()), from, to)) {
+                    overlay.add(toOverlayDto(friend, schedule.getIdx(), occurrence.getStart(), occurrence.getEnd(), schedule.getColor()));
+                }
+            }
+
+            overlay.sort(Comparator.comparing(ScheduleResponseOverlayDto::getStart)
+                    .thenComparing(ScheduleResponseOverlayDto::getCalendarIdx));
+            return overlay;
+        } catch (Exception e) {
+            throw new ServiceException("Failed to find friend schedules in ScheduleService.findFriendOverlaySchedule", e);
+        }
+    }
+
+    private ScheduleResponseOverlayDto toOverlayDto(Object[] friend, Long scheduleIdx, LocalDateTime start, LocalDateTime end, Color color) {
+        return ScheduleResponseOverlayDto.builder()
+                .calendarIdx((Long) friend[2])
+                .userIdx((Long) friend[0])
+                .userName((String) friend[1])
+                .idx(scheduleIdx)
+                .start(start)
+                .end(end)
+                .color(color)
+                .build();
+    }
+
+
+    // 연달력 전체 일정 조회 (날짜별 일정 색상 집합)
+    @Transactional(readOnly = true)
     @Override
     public List<ScheduleResponseYearDto> findAllYearSchedule(Long calendarIdx, int year) {
         if (!calendarRepository.existsById(calendarIdx)) {
@@ -94,17 +178,23 @@ public class ScheduleServiceImpl implements ScheduleService {
         }
 
         try {
-            LocalDate startOfYear = LocalDate.of(year, 1, 1);
-            LocalDate endOfYear = LocalDate.of(year, 12, 31);
+            LocalDateTime from = LocalDate.of(year, 1, 1).atStartOfDay();
+            LocalDateTime to = from.plusYears(1);
 
-            List<Schedule> schedules = scheduleRepository.findByCalendarsIdxAndStartBetween(calendarIdx,startOfYear.atStartOfDay(), endOfYear.atTime(23, 59, 59));
+            Map<LocalDate, Set<Color>> colorsByDate = new TreeMap<>();
+            for (Object[] row : scheduleRepository.findYearScheduleColors(calendarIdx, from, to)) {
+                colorsByDate.computeIfAbsent((LocalDate) row[0], k -> EnumSet.noneOf(Color.class)).add((Color) row[1]);
+            }
+            for (ScheduleOccurrence occurrence : expandRecurringSchedules(calendarIdx, from, to)) {
+                colorsByDate.computeIfAbsent(occurrence.getStart().toLocalDate(), k -> EnumSet.noneOf(Color.class))
+                        .add(occurrence.getSchedule().getColor());
+            }
 
-            return schedules.stream()
-                    .map(schedule -> ScheduleResponseYearDto.builder()
-                            .start(schedule.getStart())
-                            .color(schedule.getColor())
+            return colorsByDate.entrySet().stream()
+                    .map(entry -> ScheduleResponseYearDto.builder()
+                            .date(entry.getKey())
+                            .colors(entry.getValue())
                             .build())
-                    .sorted(Comparator.comparing(ScheduleResponseYearDto::getStart))
                     .collect(Collectors.toList());
         } catch (Exception e) {
             throw new ServiceException("Failed to find schedule in ScheduleService.findAllYearSchedule", e);
@@ -116,9 +206,8 @@ public class ScheduleServiceImpl implements ScheduleService {
     @Transactional
     @Override
     public List<ScheduleResponseDayDto> findScheduleByDay(Long calendarIdx, int year, int month, int day) {
-        if (!calendarRepository.existsById(calendarIdx)) {
-            throw new CalendarsNotFoundException(CalendarsErrorCode.CALENDARS_NOT_FOUND);
-        }
+        Calendars calendars = calendarRepository.findById(calendarIdx)
+                .orElseThrow(() -> new CalendarsNotFoundException(CalendarsErrorCode.CALENDARS_NOT_FOUND));
         if (month < 1 || month > 12) {
             throw new InvalidMonth(CommonErrorCode.INVALID_MONTH);
         }
@@ -135,23 +224,48 @@ public class ScheduleServiceImpl implements ScheduleService {
             LocalDateTime startOfDay = date.atStartOfDay();
             LocalDateTime endOfDay = date.atTime(23, 59, 59);
 
-            List<Schedule> schedules = scheduleRepository.findSchedulesInDay(startOfDay, endOfDay, calendarIdx);
-
-            return schedules.stream()
-                    .map(schedule -> ScheduleResponseDayDto.builder()
-                            .idx(schedule.getIdx())
-                            .title(schedule.getTitle())
-                            .content(schedule.getContent())
-                            .start(schedule.getStart())
-                            .end(schedule.getEnd())
-                            .location(schedule.getLocation())
-                            .color(schedule.getColor())
-                            .repeatType(schedule.getRepeatType())
-                            .repeatEndDate(schedule.getRepeatEndDate())
-                            .images(schedule.getScheduleImages().stream()
-                                    .map(ScheduleImage::getImgUrl)
-                                    .collect(Collectors.toList()))
-                            .build())
+            // 이 날짜와 겹칠 수 있는 일정은 최장 일정 길이만큼 앞에서 시작한 일정까지
+            LocalDateTime lowerBound = startOfDay.minusMinutes(calendars.getMaxSpanMinutes());
+
+            List<ScheduleOccurrence> occurrences = new ArrayList<>();
+            for (Schedule schedule : scheduleRepository.findSchedulesInDay(startOfDay, endOfDay, lowerBound, calendarIdx)) {
+                occurrences.add(new ScheduleOccurrence(schedule, schedule.getStart(), schedule.getEnd()));
+            }
+
+            // 반복 일정은 전날부터 이어지는 회차까지 포함해서 펼침
+            List<Schedule> recurringSchedules = scheduleRepository.findRecurringSchedulesInRange(calendarIdx, lowerBound.toLocalDate(), date.plusDays(1).atStartOfDay());
+            Map<Long, Set<LocalDateTime>> exceptions = findExceptions(recurringSchedules, lowerBound, date.plusDays(1).atStartOfDay());
+            for (Schedule schedule : recurringSchedules) {
+                Duration duration = Duration.between(schedule.getStart(), schedule.getEnd());
+                scheduleRecurrenceExpander.expand(schedule, exceptions.getOrDefault(schedule.getIdx(), Collections.emptySet()),
+                                startOfDay.minus(duration), date.plusDays(1).atStartOfDay())
+                        .stream()
+                        .filter(occurrence -> !occurrence.getEnd().isBefore(startOfDay))
+                        .forEach(occurrences::add);
+            }
+
+            // 이미지는 일정마다 지연 로딩하지 않고 한 번에 조회
+            Map<Long, List<String>> imageUrls = findImageUrls(occurrences.stream()
+                    .map(occurrence -> occurrence.getSchedule().getIdx())
+                    .collect(Collectors.toSet()));
+
+            return occurrences.stream()
+                    .map(occurrence -> {
+                        Schedule schedule = occurrence.getSchedule();
+                        return ScheduleResponseDayDto.builder()
+                                .idx(schedule.getIdx())
+                                .title(schedule.getTitle())
+                                .content(schedule.getContent())
+                                .start(occurrence.getStart())
+                                .end(occurrence.getEnd())
+                                .location(schedule.getLocation())
+                                .color(schedule.getColor())
+                                .repeatType(schedule.getRepeatType())
+                                .repeatEndDate(schedule.getRepeatEndDate())
+                                .repeatInterval(schedule.getRepeatInterval())
+                                .images(imageUrls.getOrDefault(schedule.getIdx(), Collections.emptyList()))
+                                .build();
+                    })
                     .sorted(Comparator.comparing(ScheduleResponseDayDto::getStart))
                     .collect(Collectors.toList());
 
@@ -161,6 +275,48 @@ public class ScheduleServiceImpl implements ScheduleService {
     }
 
 
+    // 조회 구간 [from, to)에 시작하는 반복 일정 회차 (시작 시각 순)
+    private List<ScheduleOccurrence> expandRecurringSchedules(Long calendarIdx, LocalDateTime from, LocalDateTime to) {
+        List<ScheduleOccurrence> occurrences = new ArrayList<>();
+        List<Schedule> recurringSchedules = scheduleRepository.findRecurringSchedulesInRange(calendarIdx, from.toLocalDate(), to);
+        Map<Long, Set<LocalDateTime>> exceptions = findExceptions(recurringSchedules, from, to);
+        for (Schedule schedule : recurringSchedules) {
+            occurrences.addAll(scheduleRecurrenceExpander.expand(schedule,
+                    exceptions.getOrDefault(schedule.getIdx(), Collections.emptySet()), from, to));
+        }
+        occurrences.sort(Comparator.comparing(ScheduleOccurrence::getStart));
+        return occurrences;
+    }
+
+    // 일정별 이미지 URL (한 번의 쿼리로 조회)
+    private Map<Long, List<String>> findImageUrls(Set<Long> scheduleIdxSet) {
+        if (scheduleIdxSet.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Long, List<String>> imageUrls = new HashMap<>();
+        for (Object[] row : scheduleImageRepository.findImageUrlsByScheduleIdxIn(scheduleIdxSet)) {
+            imageUrls.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add((String) row[1]);
+        }
+        return imageUrls;
+    }
+
+    // 반복 일정별 [from, to) 구간의 제외 회차 (한 번의 쿼리로 조회, 구간 밖의 제외 회차는 읽지 않음)
+    private Map<Long, Set<LocalDateTime>> findExceptions(List<Schedule> recurringSchedules, LocalDateTime from, LocalDateTime to) {
+        if (recurringSchedules.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<Long> scheduleIdxList = recurringSchedules.stream()
+                .map(Schedule::getIdx)
+                .collect(Collectors.toList());
+
+        Map<Long, Set<LocalDateTime>> exceptions = new HashMap<>();
+        for (Object[] row : scheduleExceptionRepository.findOriginalStartsInRange(scheduleIdxList, from, to)) {
+            exceptions.computeIfAbsent((Long) row[0], k -> new HashSet<>()).add((LocalDateTime) row[1]);
+        }
+        return exceptions;
+    }
+
+
     // 일정 1개 조회
     @Transactional
     @Override
@@ -185,6 +341,7 @@ public class ScheduleServiceImpl implements ScheduleService {
                     .images(imageUrls)
                     .repeatType(schedule.getRepeatType())
                     .repeatEndDate(schedule.getRepeatEndDate())
+                    .repeatInterval(schedule.getRepeatInterval())
                     .build();
         } catch (Exception e) {
             throw new ServiceException("Failed to find schedule in ScheduleService.findScheduleByOne", e);
@@ -192,68 +349,50 @@ public class ScheduleServiceImpl implements ScheduleService {
     }
 
 
-    // 일정 입력
+    // 일정 입력 (반복 일정도 반복 규칙을 가진 한 건으로 저장)
     @Transactional
     @Override
     public void saveSchedule(ScheduleRequestInsertDto scheduleRequestInsertDto, List<MultipartFile> imageFileList) {
         Calendars calendarIdx = calendarRepository.findById(scheduleRequestInsertDto.getCalendarIdx())
                 .orElseThrow(() -> new CalendarsNotFoundException(CalendarsErrorCode.CALENDARS_NOT_FOUND));
 
-        try {
-            LocalDateTime currentStart = scheduleRequestInsertDto.getStart();
-            LocalDateTime currentEnd = scheduleRequestInsertDto.getEnd();
-            Long repeatGroupId = System.currentTimeMillis(); // 반복 그룹 ID 생성
-
-            do {
-                Schedule createSchedule = Schedule.builder()
-                        .title(scheduleRequestInsertDto.getTitle())
-                        .content(scheduleRequestInsertDto.getContent())
-                        .start(currentStart)
-                        .end(currentEnd)
-                        .location(scheduleRequestInsertDto.getLocation())
-                        .color(scheduleRequestInsertDto.getColor())
-                        .calendars(calendarIdx)
-                        .repeatType(scheduleRequestInsertDto.getRepeatType())
-                        .repeatEndDate(scheduleRequestInsertDto.getRepeatEndDate())
-                        .repeatGroupId(repeatGroupId)
-                        .build();
-                scheduleRepository.save(createSchedule);
-
-                // 이미지 저장 로직
-                for (MultipartFile file : imageFileList) {
-                    if (!file.isEmpty()) {
-                        ScheduleImage scheduleImage = imageService.saveScheduleImage(file, createSchedule);
-                        scheduleImage.setSchedule(createSchedule);
-                        scheduleImageRepository.save(scheduleImage);
-                    }
-                }
-
-                if (scheduleRequestInsertDto.getRepeatType() == RepeatType.NONE) {
-                    break; // 반복 없음 처리
-                }
+        RepeatType repeatType = scheduleRequestInsertDto.getRepeatType() == null ? RepeatType.NONE : scheduleRequestInsertDto.getRepeatType();
+        Schedule createSchedule = Schedule.builder()
+                .title(scheduleRequestInsertDto.getTitle())
+                .content(scheduleRequestInsertDto.getContent())
+                .start(scheduleRequestInsertDto.getStart())
+                .end(scheduleRequestInsertDto.getEnd())
+                .location(scheduleRequestInsertDto.getLocation())
+                .color(scheduleRequestInsertDto.getColor())
+                .calendars(calendarIdx)
+                .repeatType(repeatType)
+                .repeatEndDate(repeatType == RepeatType.NONE ? null : scheduleRequestInsertDto.getRepeatEndDate())
+                .repeatInterval(toRepeatInterval(scheduleRequestInsertDto.getRepeatInterval()))
+                .build();
+
+        // 겹치는 일정 거부 요청 시 (반복 일정은 모든 회차 검사)
+        if (scheduleRequestInsertDto.isRejectConflicts()
+                && !freeBusyService.findConflicts(calendarIdx.getIdx(), createSchedule).isEmpty()) {
+            throw new ScheduleConflictException(ScheduleErrorCode.DUPLICATE_SCHEDULE);
+        }
 
-                // 반복 일정일 경우 시작/종료 날짜 갱신
-                switch (scheduleRequestInsertDto.getRepeatType()) {
-                    case DAILY:
-                        currentStart = currentStart.plusDays(1);
-                        currentEnd = currentEnd.plusDays(1);
-                        break;
-                    case WEEKLY:
-                        currentStart = currentStart.plusWeeks(1);
-                        currentEnd = currentEnd.plusWeeks(1);
-                        break;
-                    case MONTHLY:
-                        currentStart = currentStart.plusMonths(1);
-                        currentEnd = currentEnd.plusMonths(1);
-                        break;
-                    case YEARLY:
-                        currentStart = currentStart.plusYears(1);
-                        currentEnd = currentEnd.plusYears(1);
-                        break;
-                    default:
-                        throw new IllegalArgumentException("Invalid repeat type");
+        try {
+            createSchedule.setRepeatGroupId(snowflakeIdGenerator.nextId()); // 반복 그룹 ID 생성
+            calendarRepository.extendMaxSpan(calendarIdx, Duration.between(createSchedule.getStart(), createSchedule.getEnd()));
+            scheduleRepository.save(createSchedule);
+            eventPublisher.publishEvent((repeatType == RepeatType.NONE
+                    ? CalendarChangedEvent.schedules(calendarIdx.getIdx(), createSchedule.getStart())
+                    : CalendarChangedEvent.allSchedules(calendarIdx.getIdx()))
+                    .changed(createSchedule.getIdx()));
+
+            // 이미지 저장 로직
+            for (MultipartFile file : imageFileList) {
+                if (!file.isEmpty()) {
+                    ScheduleImage scheduleImage = imageService.saveScheduleImage(file, createSchedule);
+                    scheduleImage.setSchedule(createSchedule);
+                    scheduleImageRepository.save(scheduleImage);
                 }
-            } while (!currentStart.toLocalDate().isAfter(scheduleRequestInsertDto.getRepeatEndDate()));
+            }
 
         } catch (Exception e) {
             throw new ServiceException("Failed to save schedule in ScheduleService.saveSchedule", e);
@@ -261,14 +400,6 @@ public class ScheduleServiceImpl implements ScheduleService {
     }
 
 
-    // 일정 수정을 위해 필요한 삭제 메서드 (별도의 비동기 트랜잭션으로 삭제 처리)
-    @Async
-    @Transactional
-    public CompletableFuture<Void> deleteExistingSchedules(Long repeatGroupId, LocalDateTime startDate) {
-        scheduleRepository.deleteAfterDate(repeatGroupId, startDate);
-        return CompletableFuture.completedFuture(null);
-    }
-
     // 일정 수정
     @Transactional
     @Override
@@ -280,102 +411,87 @@ public class ScheduleServiceImpl implements ScheduleService {
         Schedule updateSchedule = scheduleRepository.findById(scheduleRequestUpdateDto.getIdx())
                 .orElseThrow(() -> new ScheduleNotFoundException(ScheduleErrorCode.SCHEDULE_NOT_FOUND));
 
+        RepeatType repeatType = scheduleRequestUpdateDto.getRepeatType() == null ? RepeatType.NONE : scheduleRequestUpdateDto.getRepeatType();
+        LocalDateTime occurrenceStart = scheduleRequestUpdateDto.getOccurrenceStart() != null
+                ? scheduleRequestUpdateDto.getOccurrenceStart() : updateSchedule.getStart();
+
+        boolean isRepeatTypeChanged = !updateSchedule.getRepeatType().equals(repeatType);
+        LocalDate repeatEndDate = scheduleRequestUpdateDto.getRepeatEndDate();
+        boolean isRepeatEndDateChanged = (updateSchedule.getRepeatEndDate() == null && repeatEndDate != null) ||
+                (updateSchedule.getRepeatEndDate() != null && !updateSchedule.getRepeatEndDate().equals(repeatEndDate));
+        boolean isRepeatIntervalChanged = scheduleRequestUpdateDto.getRepeatInterval() != null
+                && updateSchedule.getRepeatInterval() != toRepeatInterval(scheduleRequestUpdateDto.getRepeatInterval());
+        boolean isRepeatRuleChanged = isRepeatTypeChanged || isRepeatEndDateChanged || isRepeatIntervalChanged;
+
+        // 회차만 분리해서 수정할 때는 실제 회차인지 먼저 확인
+        if (!isRepeatRuleChanged && isRecurring(updateSchedule)) {
+            requireOccurrence(updateSchedule, occurrenceStart);
+        }
+
         try {
-            boolean isRepeatTypeChanged = !updateSchedule.getRepeatType().equals(scheduleRequestUpdateDto.getRepeatType());
-            LocalDate repeatEndDate = scheduleRequestUpdateDto.getRepeatEndDate();
-            boolean isRepeatEndDateChanged = (updateSchedule.getRepeatEndDate() == null && repeatEndDate != null) ||
-                    (updateSchedule.getRepeatEndDate() != null && !updateSchedule.getRepeatEndDate().equals(repeatEndDate));
-
-            if (isRepeatTypeChanged || isRepeatEndDateChanged) {
-                // 기존 반복 일정 삭제 (비동기로 처리)
-                deleteExistingSchedules(updateSchedule.getRepeatGroupId(), updateSchedule.getStart())
-                        .thenRun(() -> {
-                            // 새로운 반복 일정 생성 로직
-                            if (scheduleRequestUpdateDto.getRepeatType() == RepeatType.NONE) {
-                                Long newRepeatGroupId = System.currentTimeMillis();
-
-                                // 반복 없음으로 변경하는 경우: 현재 일정만 생성
-                                Schedule newSchedule = Schedule.builder()
-                                        .title(scheduleRequestUpdateDto.getTitle())
-                                        .content(scheduleRequestUpdateDto.getContent())
-                                        .start(scheduleRequestUpdateDto.getStart())
-                                        .end(scheduleRequestUpdateDto.getEnd())
-                                        .location(scheduleRequestUpdateDto.getLocation())
-                                        .color(scheduleRequestUpdateDto.getColor())
-                                        .calendars(updateSchedule.getCalendars())
-                                        .repeatType(RepeatType.NONE)
-                                        .repeatEndDate(null)
-                                        .repeatGroupId(newRepeatGroupId)
-                                        .build();
-                                scheduleRepository.save(newSchedule);
-                            } else {
-                                // 반복 타입 변경 또는 종료 날짜 변경: 새로운 반복 일정 생성
-                                LocalDateTime currentStart = scheduleRequestUpdateDto.getStart();
-                                LocalDateTime currentEnd = scheduleRequestUpdateDto.getEnd();
-                                Long newRepeatGroupId = System.currentTimeMillis();
-                                do {
-                                    Schedule newSchedule = Schedule.builder()
-                                            .title(scheduleRequestUpdateDto.getTitle())
-                                            .content(scheduleRequestUpdateDto.getContent())
-                                            .start(currentStart)
-                                            .end(currentEnd)
-                                            .location(scheduleRequestUpdateDto.getLocation())
-                                            .color(scheduleRequestUpdateDto.getColor())
-                                            .calendars(updateSchedule.getCalendars())
-                                            .repeatType(scheduleRequestUpdateDto.getRepeatType())
-                                            .repeatEndDate(scheduleRequestUpdateDto.getRepeatEndDate())
-                                            .repeatGroupId(newRepeatGroupId)
-                                            .build();
-                                    scheduleRepository.save(newSchedule);
-
-                                    // 반복 설정에 따른 날짜 계산
-                                    switch (scheduleRequestUpdateDto.getRepeatType()) {
-                                        case DAILY:
-                                            currentStart = currentStart.plusDays(1);
-                                            currentEnd = currentEnd.plusDays(1);
-                                            break;
-                                        case WEEKLY:
-                                            currentStart = currentStart.plusDays(7);
-                                            currentEnd = currentEnd.plusDays(7);
-                                            break;
-                                        case MONTHLY:
-                                            currentStart = currentStart.plusMonths(1);
-                                            currentEnd = currentEnd.plusMonths(1);
-                                            break;
-                                        case YEARLY:
-                                            currentStart = currentStart.plusYears(1);
-                                            currentEnd = currentEnd.plusYears(1);
-                                            break;
-                                        default:
-                                            throw new IllegalArgumentException("Invalid repeat type");
-                                    }
-                                } while (!currentStart.toLocalDate().isAfter(scheduleRequestUpdateDto.getRepeatEndDate()));
-                            }
-                        });
+            LocalDateTime previousStart = isRecurring(updateSchedule) ? occurrenceStart : updateSchedule.getStart();
+
+            Schedule targetSchedule;
+            if (isRepeatRuleChanged) {
+                CalendarChangedEvent event = CalendarChangedEvent.allSchedules(updateSchedule.getCalendars().getIdx());
+                if (isRecurring(updateSchedule) && occurrenceStart.isAfter(updateSchedule.getStart())) {
+                    // 중간 회차부터 변경: 기존 반복은 직전 회차까지로 줄이고 새 반복 일정 생성 (이후 분리된 회차는 새 규칙으로 대체되므로 삭제)
+                    truncateSeries(updateSchedule, occurrenceStart);
+                    deleteDetachedOccurrences(scheduleRepository.findDetachedIdxByRepeatGroupIdFrom(
+                            updateSchedule.getCalendars().getIdx(), updateSchedule.getRepeatGroupId(), occurrenceStart), event);
+                    targetSchedule = Schedule.builder()
+                            .calendars(updateSchedule.getCalendars())
+                            .repeatGroupId(snowflakeIdGenerator.nextId())
+                            .scheduleImages(new ArrayList<>())
+                            .build();
+                } else if (isRecurring(updateSchedule)) {
+                    // 첫 회차부터 변경: 반복 규칙 자체를 수정 (제외 회차와 분리된 회차는 새 규칙으로 다시 펼쳐지므로 함께 삭제)
+                    targetSchedule = updateSchedule;
+                    scheduleExceptionRepository.deleteAllByScheduleIdx(targetSchedule.getIdx());
+                    deleteDetachedOccurrences(scheduleRepository.findDetachedIdxByRepeatGroupId(
+                            targetSchedule.getCalendars().getIdx(), targetSchedule.getRepeatGroupId()), event);
+                } else {
+                    // 단일 일정을 반복 일정으로 변경: 분리된 회차였다면 원래 그룹과 섞이지 않도록 새 그룹으로
+                    targetSchedule = updateSchedule;
+                    targetSchedule.setRepeatGroupId(snowflakeIdGenerator.nextId());
+                }
+                applyScheduleFields(targetSchedule, scheduleRequestUpdateDto);
+                targetSchedule.setRepeatType(repeatType);
+                targetSchedule.setRepeatEndDate(repeatType == RepeatType.NONE ? null : repeatEndDate);
+                targetSchedule.setRepeatInterval(toRepeatInterval(scheduleRequestUpdateDto.getRepeatInterval()));
+                scheduleRepository.save(targetSchedule);
+                eventPublisher.publishEvent(event.changed(updateSchedule.getIdx(), targetSchedule.getIdx()));
+            } else if (isRecurring(updateSchedule)) {
+                // 반복 설정이 변경되지 않은 경우: 현재 회차만 분리해서 수정
+                targetSchedule = detachOccurrence(updateSchedule, occurrenceStart);
+                applyScheduleFields(targetSchedule, scheduleRequestUpdateDto);
+                eventPublisher.publishEvent(CalendarChangedEvent.schedules(targetSchedule.getCalendars().getIdx(), previousStart, targetSchedule.getStart())
+                        .changed(updateSchedule.getIdx(), targetSchedule.getIdx()));
             } else {
-                // 반복 설정이 변경되지 않은 경우: 현재 일정만 수정
-                updateSchedule.setTitle(scheduleRequestUpdateDto.getTitle());
-                updateSchedule.setContent(scheduleRequestUpdateDto.getContent());
-                updateSchedule.setStart(scheduleRequestUpdateDto.getStart());
-                updateSchedule.setEnd(scheduleRequestUpdateDto.getEnd());
-                updateSchedule.setLocation(scheduleRequestUpdateDto.getLocation());
-                updateSchedule.setColor(scheduleRequestUpdateDto.getColor());
+                // 단일 일정 수정
+                targetSchedule = updateSchedule;
+                applyScheduleFields(targetSchedule, scheduleRequestUpdateDto);
+                eventPublisher.publishEvent(CalendarChangedEvent.schedules(targetSchedule.getCalendars().getIdx(), previousStart, targetSchedule.getStart())
+                        .changed(targetSchedule.getIdx()));
             }
 
-            // 이미지 삭제
+            calendarRepository.extendMaxSpan(targetSchedule.getCalendars(), Duration.between(targetSchedule.getStart(), targetSchedule.getEnd()));
+
+            // 이미지 삭제 (파일은 커밋 후 참조가 남지 않았을 때만 정리)
             List<String> deleteImageList = scheduleRequestUpdateDto.getDeletedImageList();
             if (deleteImageList != null && !deleteImageList.isEmpty()) {
                 for (String imageUrl : deleteImageList) {
-                    fileService.deleteFile(imageUrl);
-                    scheduleImageRepository.deleteByImgUrl(imageUrl);
+                    targetSchedule.getScheduleImages().removeIf(image -> imageUrl.equals(image.getImgUrl()));
+                    scheduleImageRepository.deleteByScheduleAndImgUrl(targetSchedule, imageUrl);
                 }
+                eventPublisher.publishEvent(new ImageFilesReleasedEvent(deleteImageList));
             }
 
             // 이미지 업데이트 로직
             for (MultipartFile file : imageFileList) {
                 if (!file.isEmpty()) {
-                    ScheduleImage scheduleImage = imageService.saveScheduleImage(file, updateSchedule);
-                    scheduleImage.setSchedule(updateSchedule);
+                    ScheduleImage scheduleImage = imageService.saveScheduleImage(file, targetSchedule);
+                    scheduleImage.setSchedule(targetSchedule);
                     scheduleImageRepository.save(scheduleImage);
                 }
             }
@@ -389,21 +505,44 @@ public class ScheduleServiceImpl implements ScheduleService {
     // 일정 삭제
     @Transactional
     @Override
-    public void deleteSchedule(Long scheduleId, boolean deleteAllRepeats, boolean deleteOnlyThis, boolean deleteAfter) {
+    public void deleteSchedule(Long scheduleId, boolean deleteAllRepeats, boolean deleteOnlyThis, boolean deleteAfter, LocalDateTime occurrenceStart) {
         Schedule schedule = scheduleRepository.findById(scheduleId)
                 .orElseThrow(() -> new ScheduleNotFoundException(ScheduleErrorCode.SCHEDULE_NOT_FOUND));
 
+        LocalDateTime targetStart = occurrenceStart != null ? occurrenceStart : schedule.getStart();
+        // 회차 하나 또는 이후 회차를 삭제할 때는 실제 회차인지 먼저 확인
+        // (규칙에 없는 시각으로 이후 삭제를 하면 반복 종료일이 시작일보다 앞설 수 있음)
+        if (!deleteAllRepeats && (deleteAfter || deleteOnlyThis) && isRecurring(schedule)) {
+            requireOccurrence(schedule, targetStart);
+        }
+
         try {
+            Long calendarIdx = schedule.getCalendars().getIdx();
+
             if (deleteAllRepeats) {
-                // 반복 일정 전체 삭제 로직
-                List<Schedule> repeatSchedules = scheduleRepository.findByRepeatGroupId(schedule.getRepeatGroupId());
-                scheduleRepository.deleteAll(repeatSchedules);
+                // 반복 일정 전체 삭제 로직 (분리된 회차 포함) = 그룹의 첫 일정부터 이후 모두 삭제
+                CalendarChangedEvent event = CalendarChangedEvent.allSchedules(calendarIdx);
+                deleteRepeatsAfter(calendarIdx, schedule.getRepeatGroupId(),
+                        scheduleRepository.findFirstStartByRepeatGroupId(calendarIdx, schedule.getRepeatGroupId()), event);
+                eventPublisher.publishEvent(event);
             } else if (deleteAfter) {
-                // 현재 일정 포함 이후 일정 모두 삭제 로직
-                scheduleRepository.deleteAfterDate(schedule.getRepeatGroupId(), schedule.getStart());
+                // 현재 회차 포함 이후 일정 모두 삭제 로직
+                CalendarChangedEvent event = CalendarChangedEvent.allSchedules(calendarIdx);
+                deleteRepeatsAfter(calendarIdx, schedule.getRepeatGroupId(), targetStart, event);
+                eventPublisher.publishEvent(event);
             } else if (deleteOnlyThis) {
-                // 현재 일정만 삭제 로직
-                scheduleRepository.delete(schedule);
+                // 현재 일정만 삭제 로직 (반복 일정은 해당 회차만 제외)
+                if (isRecurring(schedule)) {
+                    addException(schedule, targetStart);
+                    eventPublisher.publishEvent(CalendarChangedEvent.schedules(calendarIdx, targetStart).changed(schedule.getIdx()));
+                } else {
+                    List<String> imageUrls = schedule.getScheduleImages().stream()
+                            .map(ScheduleImage::getImgUrl)
+                            .collect(Collectors.toList());
+                    scheduleRepository.delete(schedule);
+                    eventPublisher.publishEvent(CalendarChangedEvent.schedules(calendarIdx, targetStart).deleted(List.of(schedule.getIdx())));
+                    eventPublisher.publishEvent(new ImageFilesReleasedEvent(imageUrls));
+                }
             }
         } catch (Exception e) {
             throw new ServiceException("Failed to delete schedule in ScheduleService.deleteSchedule", e);
@@ -417,14 +556,245 @@ public class ScheduleServiceImpl implements ScheduleService {
         Schedule schedule = scheduleRepository.findById(scheduleIdx)
                 .orElseThrow(() -> new ScheduleNotFoundException(ScheduleErrorCode.SCHEDULE_NOT_FOUND));
 
+        // 반복 일정은 옮기려는 회차가 실제 회차인지 먼저 확인
+        if (isRecurring(schedule)) {
+            requireOccurrence(schedule, scheduleRequestUpdateDto.getOccurrenceStart() != null
+                    ? scheduleRequestUpdateDto.getOccurrenceStart() : schedule.getStart());
+        }
+
+        // 겹치는 일정 거부 요청 시 (옮기는 일정/회차 자신은 제외)
+        if (scheduleRequestUpdateDto.isRejectConflicts()) {
+            LocalDateTime excludeOccurrenceStart = isRecurring(schedule)
+                    ? (scheduleRequestUpdateDto.getOccurrenceStart() != null ? scheduleRequestUpdateDto.getOccurrenceStart() : schedule.getStart())
+                    : null;
+            if (!freeBusyService.findConflicts(schedule.getCalendars().getIdx(), scheduleRequestUpdateDto.getStart(),
+                    scheduleRequestUpdateDto.getEnd(), schedule.getIdx(), excludeOccurrenceStart).isEmpty()) {
+                throw new ScheduleConflictException(ScheduleErrorCode.DUPLICATE_SCHEDULE);
+            }
+        }
+
         try {
+            Long originalIdx = schedule.getIdx();
+            LocalDateTime previousStart = schedule.getStart();
+
+            // 반복 일정은 옮긴 회차만 분리
+            if (isRecurring(schedule)) {
+                LocalDateTime occurrenceStart = scheduleRequestUpdateDto.getOccurrenceStart() != null
+                        ? scheduleRequestUpdateDto.getOccurrenceStart() : schedule.getStart();
+                previousStart = occurrenceStart;
+                schedule = detachOccurrence(schedule, occurrenceStart);
+            }
+
             // 시작 날짜 및 종료 날짜 업데이트
             schedule.setStart(scheduleRequestUpdateDto.getStart());
             schedule.setEnd(scheduleRequestUpdateDto.getEnd());
+            calendarRepository.extendMaxSpan(schedule.getCalendars(), Duration.between(schedule.getStart(), schedule.getEnd()));
             scheduleRepository.save(schedule); // 변경 사항 저장
+            eventPublisher.publishEvent(CalendarChangedEvent.schedules(schedule.getCalendars().getIdx(), previousStart, schedule.getStart())
+                    .changed(originalIdx, schedule.getIdx()));
         } catch (Exception e) {
             throw new ServiceException("Failed to update schedule date in ScheduleService.updateScheduleDate", e);
         }
     }
 
+
+    //드래그 앤 드랍 일괄 이동 (한 번의 IN 조회 후 변경 감지로 UPDATE 를 JDBC 배치로 전송)
+    @Transactional
+    @Override
+    public void updateScheduleDates(List<ScheduleRequestMoveDto> scheduleRequestMoveDtoList) {
+        Set<Long> scheduleIdxSet = scheduleRequestMoveDtoList.stream()
+                .map(ScheduleRequestMoveDto::getIdx)
+                .collect(Collectors.toSet());
+        Map<Long, Schedule> scheduleMap = scheduleRepository.findAllById(scheduleIdxSet).stream()
+                .collect(Collectors.toMap(Schedule::getIdx, schedule -> schedule));
+        if (scheduleMap.size() != scheduleIdxSet.size()) {
+            throw new ScheduleNotFoundException(ScheduleErrorCode.SCHEDULE_NOT_FOUND);
+        }
+
+        // 반복 일정은 옮기려는 회차가 실제 회차인지 먼저 확인 (같은 회차를 두 번 옮기는 요청도 거부)
+        Set<String> occurrenceKeys = new HashSet<>();
+        for (ScheduleRequestMoveDto move : scheduleRequestMoveDtoList) {
+            Schedule schedule = scheduleMap.get(move.getIdx());
+            if (!isRecurring(schedule)) {
+                continue;
+            }
+            LocalDateTime occurrenceStart = move.getOccurrenceStart() != null ? move.getOccurrenceStart() : schedule.getStart();
+            if (!occurrenceKeys.add(schedule.getIdx() + "@" + occurrenceStart)) {
+                throw new InvalidOccurrenceException(ScheduleErrorCode.INVALID_OCCURRENCE);
+            }
+            requireOccurrence(schedule, occurrenceStart);
+        }
+
+        try {
+            // 캘린더별 최장 일정 길이는 한 번만 갱신
+            Map<Calendars, Duration> maxSpanMap = new HashMap<>();
+            Map<Long, CalendarChangedEvent> eventMap = new HashMap<>();
+            for (ScheduleRequestMoveDto move : scheduleRequestMoveDtoList) {
+                Schedule schedule = scheduleMap.get(move.getIdx());
+                Long originalIdx = schedule.getIdx();
+                LocalDateTime previousStart = schedule.getStart();
+
+                // 반복 일정은 옮긴 회차만 분리
+                if (isRecurring(schedule)) {
+                    LocalDateTime occurrenceStart = move.getOccurrenceStart() != null
+                            ? move.getOccurrenceStart() : schedule.getStart();
+                    previousStart = occurrenceStart;
+                    schedule = detachOccurrence(schedule, occurrenceStart);
+                }
+
+                schedule.setStart(move.getStart());
+                schedule.setEnd(move.getEnd());
+                eventMap.computeIfAbsent(schedule.getCalendars().getIdx(), calendarIdx -> CalendarChangedEvent.schedules(calendarIdx))
+                        .addMonths(previousStart, move.getStart())
+                        .changed(originalIdx, schedule.getIdx());
+                maxSpanMap.merge(schedule.getCalendars(), Duration.between(move.getStart(), move.getEnd()),
+                        (a, b) -> a.compareTo(b) >= 0 ? a : b);
+            }
+            maxSpanMap.forEach(calendarRepository::extendMaxSpan);
+            eventMap.values().forEach(eventPublisher::publishEvent);
+        } catch (Exception e) {
+            throw new ServiceException("Failed to update schedule dates in ScheduleService.updateScheduleDates", e);
+        }
+    }
+
+
+    // 반복 그룹 전체 이동 (회차 수와 무관하게 벌크 UPDATE 두 번)
+    @Transactional
+    @Override
+    public void shiftRepeatGroup(Long calendarIdx, Long repeatGroupId, long deltaMinutes) {
+        List<Long> groupIdxList = scheduleRepository.findIdxByRepeatGroupId(calendarIdx, repeatGroupId);
+        if (groupIdxList.isEmpty()) {
+            throw new ScheduleNotFoundException(ScheduleErrorCode.SCHEDULE_NOT_FOUND);
+        }
+
+        try {
+            scheduleExceptionRepository.shiftByRepeatGroupId(calendarIdx, repeatGroupId, deltaMinutes);
+            scheduleRepository.shiftRepeatGroup(calendarIdx, repeatGroupId, deltaMinutes);
+            eventPublisher.publishEvent(CalendarChangedEvent.allSchedules(calendarIdx).changed(groupIdxList.toArray(Long[]::new)));
+        } catch (Exception e) {
+            throw new ServiceException("Failed to shift repeat group in ScheduleService.shiftRepeatGroup", e);
+        }
+    }
+
+
+    // 반복 그룹을 기준 시각부터 잘라내는 일괄 삭제 (그룹 길이와 무관하게 몇 개의 벌크 쿼리로 처리)
+    private void deleteRepeatsAfter(Long calendarIdx, Long repeatGroupId, LocalDateTime start, CalendarChangedEvent event) {
+        List<String> imageUrls = scheduleImageRepository.findImageUrlsByRepeatGroupIdAfter(calendarIdx, repeatGroupId, start);
+
+        // 삭제될 일정과 종료 일자가 줄어드는 반복 일정 기록 (동기화용)
+        List<Long> deletedIdxList = new ArrayList<>();
+        for (Object[] row : scheduleRepository.findIdxAndStartByRepeatGroupId(calendarIdx, repeatGroupId)) {
+            if (((LocalDateTime) row[1]).isBefore(start)) {
+                event.changed((Long) row[0]);
+            } else {
+                deletedIdxList.add((Long) row[0]);
+            }
+        }
+        event.deleted(deletedIdxList);
+
+        scheduleImageRepository.deleteByRepeatGroupIdAfter(calendarIdx, repeatGroupId, start);
+        scheduleExceptionRepository.deleteByRepeatGroupIdAfter(calendarIdx, repeatGroupId, start);
+        scheduleRepository.truncateRepeatsBefore(calendarIdx, repeatGroupId, start, start.toLocalDate().minusDays(1));
+        scheduleRepository.deleteAfterDate(calendarIdx, repeatGroupId, start);
+
+        // 파일은 커밋 이후 비동기로 정리
+        if (!imageUrls.isEmpty()) {
+            eventPublisher.publishEvent(new ImageFilesReleasedEvent(imageUrls));
+        }
+    }
+
+    // 분리된 회차 일괄 삭제 (이미지 행 먼저 삭제, 파일은 커밋 이후 정리)
+    private void deleteDetachedOccurrences(List<Long> detachedIdxList, CalendarChangedEvent event) {
+        if (detachedIdxList.isEmpty()) {
+            return;
+        }
+        List<String> imageUrls = scheduleImageRepository.findImageUrlsByScheduleIdxIn(detachedIdxList).stream()
+                .map(row -> (String) row[1])
+                .collect(Collectors.toList());
+
+        scheduleImageRepository.deleteByScheduleIdxIn(detachedIdxList);
+        scheduleRepository.deleteAllByIdInBatch(detachedIdxList);
+        event.deleted(detachedIdxList);
+
+        if (!imageUrls.isEmpty()) {
+            eventPublisher.publishEvent(new ImageFilesReleasedEvent(imageUrls));
+        }
+    }
+
+    private boolean isRecurring(Schedule schedule) {
+        return schedule.getRepeatType() != null && schedule.getRepeatType() != RepeatType.NONE;
+    }
+
+    private int toRepeatInterval(Integer repeatInterval) {
+        return repeatInterval == null || repeatInterval < 1 ? 1 : repeatInterval;
+    }
+
+    private void applyScheduleFields(Schedule schedule, ScheduleRequestUpdateDto scheduleRequestUpdateDto) {
+        schedule.setTitle(scheduleRequestUpdateDto.getTitle());
+        schedule.setContent(scheduleRequestUpdateDto.getContent());
+        schedule.setStart(scheduleRequestUpdateDto.getStart());
+        schedule.setEnd(scheduleRequestUpdateDto.getEnd());
+        schedule.setLocation(scheduleRequestUpdateDto.getLocation());
+        schedule.setColor(scheduleRequestUpdateDto.getColor());
+    }
+
+    // 분리/제외하려는 시각이 반복 규칙의 실제 회차이고 아직 제외되지 않았는지 확인 (잘못된 값으로 없는 회차를 제외하거나 유령 일정을 만들지 않도록)
+    private void requireOccurrence(Schedule series, LocalDateTime occurrenceStart) {
+        LocalDateTime to = occurrenceStart.plusNanos(1);
+        Set<LocalDateTime> exceptions = findExceptions(List.of(series), occurrenceStart, to)
+                .getOrDefault(series.getIdx(), Collections.emptySet());
+        if (scheduleRecurrenceExpander.expand(series, exceptions, occurrenceStart, to).isEmpty()) {
+            throw new InvalidOccurrenceException(ScheduleErrorCode.INVALID_OCCURRENCE);
+        }
+    }
+
+    // 반복 일정의 한 회차를 제외 처리 (반복 일정의 제외 회차 수와 무관하게 INSERT 한 번)
+    private void addException(Schedule series, LocalDateTime originalStart) {
+        scheduleExceptionRepository.insertIgnore(series.getIdx(), originalStart);
+    }
+
+    // 반복 일정의 한 회차를 같은 반복 그룹의 단일 일정으로 분리
+    private Schedule detachOccurrence(Schedule series, LocalDateTime occurrenceStart) {
+        addException(series, occurrenceStart);
+
+        Duration duration = Duration.between(series.getStart(), series.getEnd());
+        Schedule detachedSchedule = Schedule.builder()
+                .title(series.getTitle())
+                .content(series.getContent())
+                .start(occurrenceStart)
+                .end(occurrenceStart.plus(duration))
+                .location(series.getLocation())
+                .color(series.getColor())
+                .calendars(series.getCalendars())
+                .repeatType(RepeatType.NONE)
+                .repeatGroupId(series.getRepeatGroupId())
+                .scheduleImages(new ArrayList<>())
+                .build();
+        scheduleRepository.save(detachedSchedule);
+
+        // 이미지 파일은 그대로 두고 참조만 복사 (한 번에 배치 INSERT)
+        List<ScheduleImage> copiedImages = new ArrayList<>();
+        for (ScheduleImage image : series.getScheduleImages()) {
+            ScheduleImage copiedImage = new ScheduleImage();
+            copiedImage.setImgName(image.getImgName());
+            copiedImage.setOriImgName(image.getOriImgName());
+            copiedImage.setImgUrl(image.getImgUrl());
+            copiedImage.setSchedule(detachedSchedule);
+            copiedImages.add(copiedImage);
+        }
+        detachedSchedule.getScheduleImages().addAll(scheduleImageRepository.saveAll(copiedImages));
+        return detachedSchedule;
+    }
+
+    // 반복 일정을 해당 회차 직전까지로 축소 (첫 회차부터면 일정 자체 삭제)
+    private void truncateSeries(Schedule series, LocalDateTime occurrenceStart) {
+        if (!occurrenceStart.isAfter(series.getStart())) {
+            scheduleRepository.delete(series);
+            return;
+        }
+        series.setRepeatEndDate(occurrenceStart.toLocalDate().minusDays(1));
+        scheduleExceptionRepository.deleteByScheduleIdxFrom(series.getIdx(), occurrenceStart);
+        scheduleRepository.save(series);
+    }
+
 }
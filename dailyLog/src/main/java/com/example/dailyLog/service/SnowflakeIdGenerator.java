@@ -0,0 +1,67 @@
+package com.example.dailyLog.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 시각(41bit) + 노드(10bit) + 시퀀스(12bit) 로 구성된 64bit ID 발급기 (DB 조회 없이 여러 서버에서 중복되지 않음)
+@Component
+public class SnowflakeIdGenerator {
+
+    private static final long EPOCH = 1704067200000L; // 2024-01-01T00:00:00Z
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+
+    // 마지막으로 발급한 (시각 << SEQUENCE_BITS | 시퀀스)
+    private final AtomicLong lastState = new AtomicLong();
+
+    @Autowired
+    public SnowflakeIdGenerator(@Value("${id-generator.node-id:-1}") long nodeId,
+                                @Value("${id-generator.single-node:false}") boolean singleNode) {
+        this(resolveNodeId(nodeId, singleNode));
+    }
+
+    public SnowflakeIdGenerator(long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE_ID);
+        }
+        this.nodeId = nodeId;
+    }
+
+    public long nextId() {
+        while (true) {
+            long now = System.currentTimeMillis() - EPOCH;
+            long last = lastState.get();
+            // 같은 ms 이거나 시계가 뒤로 간 경우 시퀀스를 올리고, 시퀀스가 넘치면 다음 ms 를 미리 사용
+            long next = now > (last >>> SEQUENCE_BITS) ? now << SEQUENCE_BITS : last + 1;
+            if (lastState.compareAndSet(last, next)) {
+                long timestamp = next >>> SEQUENCE_BITS;
+                long sequence = next & SEQUENCE_MASK;
+                return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+            }
+        }
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+
+    // 노드 ID 설정이 없으면 단일 서버로 명시한 경우(id-generator.single-node=true)에만 0 번 사용
+    // 배포 형태를 추측하면 NODE_ID 없이 뜬 서버들이 같은 번호로 ID 를 발급할 수 있으므로 시작을 중단함
+    private static long resolveNodeId(long nodeId, boolean singleNode) {
+        if (nodeId >= 0) {
+            return nodeId;
+        }
+        if (singleNode) {
+            return 0;
+        }
+        throw new IllegalStateException("id-generator.node-id must be set to a unique value (0 ~ " + MAX_NODE_ID
+                + ") on each server, or id-generator.single-node=true when running a single server");
+    }
+}
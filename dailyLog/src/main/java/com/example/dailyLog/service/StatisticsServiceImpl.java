@@ -15,6 +15,7 @@ import com.example.dailyLog.repository.StatisticsRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -34,21 +35,23 @@ public class StatisticsServiceImpl implements StatisticsService{
             throw new UserNotFoundException(UserErrorCode.USER_NOT_FOUND);
         }
 
-        Long totalCount;
+        // 카테고리별 개수에서 전체 개수도 계산 (COUNT 쿼리 별도 실행 없음)
+        List<Object[]> categoryCounts;
         try {
-            totalCount = statisticsRepository.findTotalCountByUser(userIdx);
+            categoryCounts = statisticsRepository.findCategoryCountsAsObjectArray(userIdx);
         } catch (Exception e) {
             throw new DatabaseError(DiaryErrorCode.DATABASE_ERROR);
         }
+        long totalCount = categoryCounts.stream().mapToLong(row -> (Long) row[1]).sum();
 
-        if (totalCount == null || totalCount == 0) {
+        if (totalCount == 0) {
             return Arrays.stream(Category.values())
                     .map(category -> new StatisticsCategoryDto(category, 0L, 0.0))
                     .collect(Collectors.toList());
         }
 
         try {
-            return statisticsRepository.findCategoryCountsAsObjectArray(userIdx).stream()
+            return categoryCounts.stream()
                     .map(row -> {
                         Category category = (Category) row[0];
                         Long count = (Long) row[1];
@@ -80,68 +83,34 @@ public class StatisticsServiceImpl implements StatisticsService{
 
         int lastDayOfMonth = YearMonth.of(year, month).lengthOfMonth();
 
-        Map<Integer, Map<Category, Long>> dailyCategoryCounts = new HashMap<>();
-        for (int day = 1; day <= lastDayOfMonth; day++) {
-            Map<Category, Long> categoryMap = new HashMap<>();
-            for (Category category : Category.values()) {
-                categoryMap.put(category, 0L); // 각 카테고리별 기본값 0 설정
-            }
-            dailyCategoryCounts.put(day, categoryMap);
-        }
-
         List<Object[]> results;
         try {
-            results = statisticsRepository.findDailyCategoryCountsByUserAndMonth(userIdx, year, month);
+            LocalDate start = LocalDate.of(year, month, 1);
+            results = statisticsRepository.findDailyCategoryCounts(userIdx, start, start.plusMonths(1));
         } catch (Exception e) {
             throw new DatabaseError(DiaryErrorCode.DATABASE_ERROR); // 데이터베이스 에러 예외 처리
         }
 
-        if (results == null || results.isEmpty()) {
-            return generateDefaultMonthlyStatistics(year, month, dailyCategoryCounts);
-        }
-
+        // 일별 카테고리 개수 (행 없는 날/카테고리는 0)
+        CategoryCountMatrix dailyCategoryCounts = new CategoryCountMatrix(lastDayOfMonth);
         for (Object[] result : results) {
             if (result == null || result.length < 3 || result[0] == null || result[1] == null || result[2] == null) {
                 continue; // 쿼리 결과가 비정상인 경우 무시
             }
-            int day = (int) result[0];
-            Category category = (Category) result[1];
-            Long count = (Long) result[2];
-            dailyCategoryCounts.get(day).put(category, count);
+            int day = ((LocalDate) result[0]).getDayOfMonth();
+            dailyCategoryCounts.add(day - 1, (Category) result[1], (Long) result[2]);
         }
         return generateMonthlyStatisticsList(year, month, dailyCategoryCounts);
     }
 
 
-    // 기본값을 사용한 StatisticsMonthDto 리스트 생성 메서드
-    private List<StatisticsMonthDto> generateDefaultMonthlyStatistics(int year, int month, Map<Integer, Map<Category, Long>> dailyCategoryCounts) {
-        List<StatisticsMonthDto> statistics = new ArrayList<>();
-        final long[] cumulativeDiaryCount = {0}; // 누적 일기 개수를 배열로 선언
-
-        dailyCategoryCounts.forEach((day, categoryMap) -> {
-            long dailyDiaryCount = categoryMap.values().stream().mapToLong(Long::longValue).sum();
-            cumulativeDiaryCount[0] += dailyDiaryCount;
-
-            statistics.add(createStatisticsMonthDto(
-                    year,
-                    month,
-                    day,
-                    categoryMap,
-                    dailyDiaryCount,               // 일별 일기 개수
-                    cumulativeDiaryCount[0]        // 누적 일기 개수
-            ));
-        });
-        return statistics;
-    }
-
-    // 유효한 데이터로 StatisticsMonthDto 리스트 생성 메서드
-    private List<StatisticsMonthDto> generateMonthlyStatisticsList(int year, int month, Map<Integer, Map<Category, Long>> dailyCategoryCounts) {
-        List<StatisticsMonthDto> statistics = new ArrayList<>();
+    // StatisticsMonthDto 리스트 생성 메서드
+    private List<StatisticsMonthDto> generateMonthlyStatisticsList(int year, int month, CategoryCountMatrix dailyCategoryCounts) {
+        List<StatisticsMonthDto> statistics = new ArrayList<>(dailyCategoryCounts.buckets());
         long cumulativeDiaryCount = 0;
 
-        for (int day = 1; day <= YearMonth.of(year, month).lengthOfMonth(); day++) {
-            Map<Category, Long> categoryMap = dailyCategoryCounts.getOrDefault(day, Collections.emptyMap());
-            long dailyDiaryCount = categoryMap.values().stream().mapToLong(Long::longValue).sum();
+        for (int day = 1; day <= dailyCategoryCounts.buckets(); day++) {
+            long dailyDiaryCount = dailyCategoryCounts.total(day - 1);
             cumulativeDiaryCount += dailyDiaryCount;
 
             // createStatisticsMonthDto 메서드를 사용하여 StatisticsMonthDto 객체를 생성
@@ -149,7 +118,7 @@ public class StatisticsServiceImpl implements StatisticsService{
                     year,
                     month,
                     day,
-                    categoryMap,
+                    dailyCategoryCounts.percentages(day - 1, true), // 모든 카테고리 비율 (없으면 0.0)
                     dailyDiaryCount,
                     cumulativeDiaryCount
             ));
@@ -159,13 +128,8 @@ public class StatisticsServiceImpl implements StatisticsService{
 
 
     // StatisticsMonthDto 객체 생성 메서드
-    private StatisticsMonthDto createStatisticsMonthDto(int year, int month, int day, Map<Category, Long> categoryMap, long dailyDiaryCount, long cumulativeDiaryCount) {
+    private StatisticsMonthDto createStatisticsMonthDto(int year, int month, int day, Map<Category, Double> categoryPercentageMap, long dailyDiaryCount, long cumulativeDiaryCount) {
         double totalPercentage = cumulativeDiaryCount > 0 ? (cumulativeDiaryCount / 100.0) * 100 : 0.0;
-        Map<Category, Double> categoryPercentageMap = categoryMap.entrySet().stream()
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        entry -> dailyDiaryCount > 0 ? (entry.getValue() / (double) dailyDiaryCount) * 100 : 0.0
-                ));
 
         String date = String.format("%04d-%02d-%02d", year, month, day); // "YYYY-MM-DD" 형식으로 설정
 
@@ -178,15 +142,6 @@ public class StatisticsServiceImpl implements StatisticsService{
         );
     }
 
-    // 카테고리별 비율을 계산하는 메소드
-    private Map<Category, Double> categoryPercentageMap(Map<Category, Long> categoryMap, long dailyDiaryCount) {
-        return categoryMap.entrySet().stream()
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        entry -> dailyDiaryCount > 0 ? (entry.getValue() / (double) dailyDiaryCount) * 100 : 0.0
-                ));
-    }
-
 
 
     // 연 일기(전체) 작성률
@@ -200,41 +155,29 @@ public class StatisticsServiceImpl implements StatisticsService{
             throw new InvalidYear(CommonErrorCode.INVALID_YEAR);
         }
 
-        List<Object[]> results = statisticsRepository.findMonthlyCategoryCountsByUserAndYear(userIdx, year);
+        LocalDate start = LocalDate.of(year, 1, 1);
+        // 날짜 컬럼에 함수를 씌우지 않고 연도 구간의 일별 행을 읽어 월 단위로 합산
+        List<Object[]> results = statisticsRepository.findDailyCategoryCounts(userIdx, start, start.plusYears(1));
 
-        Map<Integer, Long> monthlyDiaryCounts = new HashMap<>(); // 월별 일기 작성 횟수
-        Map<Integer, Map<Category, Long>> categoryCountsMap = new HashMap<>(); // 카테고리 카운트를 위한 맵
-        Long totalDiaryCount = 0L; // 총 일기 작성 횟수
-        Long cumulativeCount = 0L; // 누적 카운트 초기화
+        // 월별 카테고리 개수
+        CategoryCountMatrix monthlyCategoryCounts = new CategoryCountMatrix(12);
+        long cumulativeCount = 0L; // 누적 카운트 초기화
 
         // 데이터 처리
         for (Object[] result : results) {
-            Integer month = (Integer) result[0];
-            Category category = (Category) result[1];
-            Long count = (Long) result[2];
-
-            monthlyDiaryCounts.put(month, monthlyDiaryCounts.getOrDefault(month, 0L) + count);
-            categoryCountsMap.computeIfAbsent(month, k -> new HashMap<>())
-                    .put(category, count); // 카운트 저장
+            int month = ((LocalDate) result[0]).getMonthValue();
+            monthlyCategoryCounts.add(month - 1, (Category) result[1], (Long) result[2]);
         }
 
-        List<StatisticsYearDto> statisticsList = new ArrayList<>();
+        List<StatisticsYearDto> statisticsList = new ArrayList<>(12);
 
         // 각 월별 통계 생성
         for (int month = 1; month <= 12; month++) {
-            Long monthCount = monthlyDiaryCounts.getOrDefault(month, 0L);
+            long monthCount = monthlyCategoryCounts.total(month - 1);
             cumulativeCount += monthCount; // 누적 카운트 계산
 
-            // 카테고리별 비율 계산
-            Map<Category, Double> categoryPercentageMap = new HashMap<>();
-            if (monthCount > 0) {
-                Map<Category, Long> categoryCounts = categoryCountsMap.getOrDefault(month, new HashMap<>());
-
-                for (Map.Entry<Category, Long> entry : categoryCounts.entrySet()) {
-                    // 비율 계산
-                    categoryPercentageMap.put(entry.getKey(), (entry.getValue() * 100.0) / monthCount);
-                }
-            }
+            // 카테고리별 비율 계산 (작성한 카테고리만)
+            Map<Category, Double> categoryPercentageMap = monthlyCategoryCounts.percentages(month - 1, false);
 
             // StatisticsYearDto 객체 생성
             StatisticsYearDto monthlyStats = new StatisticsYearDto(
@@ -0,0 +1,8 @@
+package com.example.dailyLog.service;
+
+import com.example.dailyLog.dto.response.SyncResponseDto;
+
+public interface SyncService {
+
+    SyncResponseDto sync(Long calendarIdx, String syncToken);
+}
@@ -0,0 +1,229 @@
+package com.example.dailyLog.service;
+
+import com.example.dailyLog.constant.CalendarItemType;
+import com.example.dailyLog.constant.RepeatType;
+import com.example.dailyLog.dto.response.DiaryResponseSyncDto;
+import com.example.dailyLog.dto.response.ScheduleResponseSyncDto;
+import com.example.dailyLog.dto.response.SyncResponseDto;
+import com.example.dailyLog.entity.CalendarChange;
+import com.example.dailyLog.entity.ScheduleException;
+import com.example.dailyLog.exception.calendarsException.CalendarsErrorCode;
+import com.example.dailyLog.exception.calendarsException.CalendarsNotFoundException;
+import com.example.dailyLog.repository.*;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.service.spi.ServiceException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class SyncServiceImpl implements SyncService {
+
+    private final CalendarRepository calendarRepository;
+    private final CalendarChangeRepository calendarChangeRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final ScheduleImageRepository scheduleImageRepository;
+    private final ScheduleExceptionRepository scheduleExceptionRepository;
+    private final DiaryRepository diaryRepository;
+    private final DiaryImageRepository diaryImageRepository;
+
+    private static final char PHASE_SCHEDULE = 'S';
+    private static final char PHASE_DIARY = 'D';
+
+    // 전체 동기화 한 번에 내려보내는 일정/일기 수
+    @Value("${sync.full-sync-page-size:500}")
+    private int fullSyncPageSize;
+
+
+    // 동기화 토큰 이후 변경된 일정/일기 조회 (토큰이 없거나 유효하지 않거나 정리된 기록보다 오래됐으면 전체 동기화)
+    @Transactional(readOnly = true)
+    @Override
+    public SyncResponseDto sync(Long calendarIdx, String syncToken) {
+        // 버전을 가장 먼저 읽어 이 트랜잭션의 스냅샷 기준으로 삼음 (이후 커밋된 변경은 다음 동기화에 다시 포함됨)
+        List<Object[]> versions = calendarRepository.findSyncVersionsByIdx(calendarIdx);
+        if (versions.isEmpty()) {
+            throw new CalendarsNotFoundException(CalendarsErrorCode.CALENDARS_NOT_FOUND);
+        }
+        long currentVersion = (Long) versions.get(0)[0];
+        long minSyncVersion = (Long) versions.get(0)[1];
+        SyncToken token = decodeToken(calendarIdx, syncToken);
+
+        try {
+            boolean stale = token == null || token.version > currentVersion || token.version < minSyncVersion;
+            if (!stale && token.phase != null) {
+                // 진행 중인 전체 동기화의 다음 페이지 (기준 버전은 첫 페이지의 버전 그대로)
+                return fullSyncPage(calendarIdx, token.version, token.phase, token.afterIdx, false);
+            }
+            if (stale) {
+                return fullSyncPage(calendarIdx, currentVersion, PHASE_SCHEDULE, 0L, true);
+            }
+
+            Set<Long> changedScheduleIdxSet = new HashSet<>();
+            Set<Long> deletedScheduleIdxSet = new HashSet<>();
+            Set<Long> changedDiaryIdxSet = new HashSet<>();
+            Set<Long> deletedDiaryIdxSet = new HashSet<>();
+            for (CalendarChange change : calendarChangeRepository.findChanges(calendarIdx, token.version, currentVersion)) {
+                boolean isSchedule = change.getItemType() == CalendarItemType.SCHEDULE;
+                if (change.isDeleted()) {
+                    (isSchedule ? deletedScheduleIdxSet : deletedDiaryIdxSet).add(change.getItemIdx());
+                } else {
+                    (isSchedule ? changedScheduleIdxSet : changedDiaryIdxSet).add(change.getItemIdx());
+                }
+            }
+
+            List<ScheduleResponseSyncDto> schedules = changedScheduleIdxSet.isEmpty()
+                    ? Collections.emptyList() : scheduleRepository.findSyncRowsByIdxIn(changedScheduleIdxSet);
+            List<DiaryResponseSyncDto> diaries = changedDiaryIdxSet.isEmpty()
+                    ? Collections.emptyList() : diaryRepository.findSyncRowsByIdxIn(changedDiaryIdxSet);
+
+            // 변경 기록 이후 삭제된 항목은 삭제로 내려줌
+            schedules.forEach(schedule -> changedScheduleIdxSet.remove(schedule.getIdx()));
+            deletedScheduleIdxSet.addAll(changedScheduleIdxSet);
+            diaries.forEach(diary -> changedDiaryIdxSet.remove(diary.getIdx()));
+            deletedDiaryIdxSet.addAll(changedDiaryIdxSet);
+
+            return SyncResponseDto.builder()
+                    .syncToken(encodeToken(calendarIdx, currentVersion))
+                    .fullSync(false)
+                    .hasMore(false)
+                    .schedules(fillSchedules(schedules))
+                    .deletedScheduleIdxList(new ArrayList<>(deletedScheduleIdxSet))
+                    .diaries(fillDiaries(diaries))
+                    .deletedDiaryIdxList(new ArrayList<>(deletedDiaryIdxSet))
+                    .build();
+        } catch (Exception e) {
+            throw new ServiceException("Failed to sync calendar in SyncService.sync", e);
+        }
+    }
+
+
+    // 전체 동기화 한 페이지 - 일정을 ID 순으로 모두 보낸 뒤 일기를 ID 순으로 보냄
+    // 페이지 사이에 바뀐 항목은 마지막 페이지의 토큰(첫 페이지 시점 버전)으로 받는 다음 변경분 동기화에 포함됨
+    private SyncResponseDto fullSyncPage(Long calendarIdx, long snapshotVersion, char phase, long afterIdx, boolean first) {
+        List<ScheduleResponseSyncDto> schedules = Collections.emptyList();
+        List<DiaryResponseSyncDto> diaries = Collections.emptyList();
+        String nextToken;
+
+        if (phase == PHASE_SCHEDULE) {
+            schedules = scheduleRepository.findSyncPage(calendarIdx, afterIdx, Limit.of(fullSyncPageSize));
+            nextToken = schedules.size() < fullSyncPageSize
+                    ? encodeToken(calendarIdx, snapshotVersion, PHASE_DIARY, 0L)
+                    : encodeToken(calendarIdx, snapshotVersion, PHASE_SCHEDULE, schedules.get(schedules.size() - 1).getIdx());
+        } else {
+            diaries = diaryRepository.findSyncPage(calendarIdx, afterIdx, Limit.of(fullSyncPageSize));
+            nextToken = diaries.size() < fullSyncPageSize
+                    ? encodeToken(calendarIdx, snapshotVersion)
+                    : encodeToken(calendarIdx, snapshotVersion, PHASE_DIARY, diaries.get(diaries.size() - 1).getIdx());
+        }
+
+        return SyncResponseDto.builder()
+                .syncToken(nextToken)
+                .fullSync(first)
+                .hasMore(phase == PHASE_SCHEDULE || diaries.size() >= fullSyncPageSize)
+                .schedules(fillSchedules(schedules))
+                .deletedScheduleIdxList(Collections.emptyList())
+                .diaries(fillDiaries(diaries))
+                .deletedDiaryIdxList(Collections.emptyList())
+                .build();
+    }
+
+    // 이미지와 제외 회차는 페이지마다 각각 한 번의 쿼리로 채움
+    private List<ScheduleResponseSyncDto> fillSchedules(List<ScheduleResponseSyncDto> schedules) {
+        if (schedules.isEmpty()) {
+            return schedules;
+        }
+        Set<Long> scheduleIdxSet = schedules.stream().map(ScheduleResponseSyncDto::getIdx).collect(Collectors.toSet());
+
+        Map<Long, List<String>> imageUrls = new HashMap<>();
+        for (Object[] row : scheduleImageRepository.findImageUrlsByScheduleIdxIn(scheduleIdxSet)) {
+            imageUrls.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add((String) row[1]);
+        }
+        Set<Long> recurringIdxSet = schedules.stream()
+                .filter(schedule -> schedule.getRepeatType() != RepeatType.NONE)
+                .map(ScheduleResponseSyncDto::getIdx)
+                .collect(Collectors.toSet());
+        Map<Long, List<LocalDateTime>> exceptionStarts = new HashMap<>();
+        if (!recurringIdxSet.isEmpty()) {
+            for (ScheduleException exception : scheduleExceptionRepository.findByScheduleIdxIn(recurringIdxSet)) {
+                exceptionStarts.computeIfAbsent(exception.getSchedule().getIdx(), k -> new ArrayList<>()).add(exception.getOriginalStart());
+            }
+        }
+
+        for (ScheduleResponseSyncDto schedule : schedules) {
+            schedule.setImages(imageUrls.getOrDefault(schedule.getIdx(), Collections.emptyList()));
+            schedule.setExceptionStarts(exceptionStarts.getOrDefault(schedule.getIdx(), Collections.emptyList()));
+        }
+        return schedules;
+    }
+
+    private List<DiaryResponseSyncDto> fillDiaries(List<DiaryResponseSyncDto> diaries) {
+        if (diaries.isEmpty()) {
+            return diaries;
+        }
+        Set<Long> diaryIdxSet = diaries.stream().map(DiaryResponseSyncDto::getIdx).collect(Collectors.toSet());
+        Map<Long, List<String>> imageUrls = new HashMap<>();
+        for (Object[] row : diaryImageRepository.findImageUrlsByDiaryIdxIn(diaryIdxSet)) {
+            imageUrls.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add((String) row[1]);
+        }
+
+        for (DiaryResponseSyncDto diary : diaries) {
+            diary.setImages(imageUrls.getOrDefault(diary.getIdx(), Collections.emptyList()));
+        }
+        return diaries;
+    }
+
+    // 토큰 = base64url("캘린더:버전") 또는 전체 동기화 중이면 base64url("캘린더:버전:S|D:마지막ID") - 클라이언트는 내용을 해석하지 않음
+    private String encodeToken(Long calendarIdx, long version) {
+        return encode(calendarIdx + ":" + version);
+    }
+
+    private String encodeToken(Long calendarIdx, long version, char phase, long afterIdx) {
+        return encode(calendarIdx + ":" + version + ":" + phase + ":" + afterIdx);
+    }
+
+    private String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private SyncToken decodeToken(Long calendarIdx, String syncToken) {
+        if (syncToken == null || syncToken.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(syncToken), StandardCharsets.UTF_8).split(":");
+            if ((parts.length != 2 && parts.length != 4) || !calendarIdx.equals(Long.valueOf(parts[0]))) {
+                return null;
+            }
+            long version = Long.parseLong(parts[1]);
+            if (parts.length == 2) {
+                return new SyncToken(version, null, 0L);
+            }
+            if (parts[2].length() != 1 || (parts[2].charAt(0) != PHASE_SCHEDULE && parts[2].charAt(0) != PHASE_DIARY)) {
+                return null;
+            }
+            return new SyncToken(version, parts[2].charAt(0), Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // phase 가 null 이면 일반 토큰, 아니면 전체 동기화 이어받기 위치
+    private static class SyncToken {
+        private final long version;
+        private final Character phase;
+        private final long afterIdx;
+
+        private SyncToken(long version, Character phase, long afterIdx) {
+            this.version = version;
+            this.phase = phase;
+            this.afterIdx = afterIdx;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.example.dailyLog.dto.request.UserRequestUpdateDto;
 import com.example.dailyLog.entity.Calendars;
 import com.example.dailyLog.entity.ProfileImage;
 import com.example.dailyLog.entity.User;
+import com.example.dailyLog.event.CalendarChangedEvent;
 import com.example.dailyLog.exception.commonException.CommonErrorCode;
 import com.example.dailyLog.exception.commonException.error.BizException;
 import com.example.dailyLog.exception.commonException.error.MyInternalServerError;
@@ -18,6 +19,7 @@ import com.example.dailyLog.exception.userException.UserNotFoundException;
 import com.example.dailyLog.exception.userException.ValidationError;
 import com.example.dailyLog.repository.CalendarRepository;
 import com.example.dailyLog.repository.ProfileImageRepository;
+import com.example.dailyLog.repository.StatisticsRepository;
 import com.example.dailyLog.repository.UserRepository;
 import com.example.dailyLog.security.CustomUserDetails;
 import com.example.dailyLog.security.providers.JwtTokenProvider;
@@ -28,6 +30,7 @@ import jakarta.validation.Valid;
 import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -48,11 +51,13 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final CalendarRepository calendarRepository;
     private final ProfileImageRepository profileImageRepository;
+    private final StatisticsRepository statisticsRepository;
     private final PasswordEncoder passwordEncoder;
     private final ImageService imageService;
     private final EntityManager entityManager;
     private final JwtTokenProvider jwtTokenProvider;
     private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 회원가입
     @Override
@@ -158,5 +163,12 @@ public class UserServiceImpl implements UserService {
         );
 
         userRepository.deleteById(user.getIdx());
+        statisticsRepository.deleteByUserIdx(user.getIdx());
+
+        // 삭제된 캘린더의 월달력 캐시 정리
+        if (user.getCalendars() != null) {
+            eventPublisher.publishEvent(CalendarChangedEvent.allSchedules(user.getCalendars().getIdx()));
+            eventPublisher.publishEvent(CalendarChangedEvent.allDiaries(user.getCalendars().getIdx()));
+        }
     }
 }
@@ -3,7 +3,7 @@ package com.example.dailyLog;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "id-generator.single-node=true")
 class DailyLogApplicationTests {
 
 	@Test
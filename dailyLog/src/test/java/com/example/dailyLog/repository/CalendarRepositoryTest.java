@@ -0,0 +1,76 @@
+package com.example.dailyLog.repository;
+
+import com.example.dailyLog.constant.CalendarItemType;
+import com.example.dailyLog.entity.CalendarChange;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class CalendarRepositoryTest {
+
+    @Container
+    @ServiceConnection
+    static MariaDBContainer<?> mariaDB = new MariaDBContainer<>("mariadb:11.4");
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private CalendarRepository calendarRepository;
+
+    @Autowired
+    private CalendarChangeRepository calendarChangeRepository;
+
+    @Test
+    void maxSpanNeverShrinks() {
+        // 먼저 커밋된 긴 일정(600분)을 나중의 짧은 일정(30분)이 덮어쓰지 않아야 함
+        calendarRepository.raiseMaxSpanMinutes(1L, 600);
+        calendarRepository.raiseMaxSpanMinutes(1L, 30);
+        entityManager.clear();
+
+        assertEquals(600, calendarRepository.findById(1L).orElseThrow().getMaxSpanMinutes());
+    }
+
+    @Test
+    void compactionRaisesMinSyncVersionBeforeDeletingTombstones() {
+        LocalDateTime cutoff = LocalDateTime.of(2024, 6, 1, 0, 0);
+        change(1L, 10L, 3L, true, cutoff.minusDays(1));   // 정리 대상
+        change(1L, 11L, 5L, false, cutoff.minusDays(1));  // 살아있는 항목은 남김
+        change(1L, 12L, 7L, true, cutoff.plusDays(1));    // 보관 기간 안의 삭제 기록은 남김
+        change(2L, 13L, 4L, true, cutoff.minusDays(1));
+
+        calendarRepository.raiseMinSyncVersions(cutoff);
+        assertEquals(2, calendarChangeRepository.deleteTombstonesBefore(cutoff, 100));
+        entityManager.clear();
+
+        assertEquals(3L, calendarRepository.findSyncVersionsByIdx(1L).get(0)[1]);
+        assertEquals(4L, calendarRepository.findSyncVersionsByIdx(2L).get(0)[1]);
+        assertEquals(List.of(11L, 12L), calendarChangeRepository.findChanges(1L, 0L, 10L).stream()
+                .map(CalendarChange::getItemIdx).sorted().toList());
+    }
+
+    private void change(Long calendarIdx, Long itemIdx, long version, boolean deleted, LocalDateTime changedAt) {
+        CalendarChange change = new CalendarChange();
+        change.setCalendarIdx(calendarIdx);
+        change.setItemType(CalendarItemType.DIARY);
+        change.setItemIdx(itemIdx);
+        change.setVersion(version);
+        change.setDeleted(deleted);
+        change.setChangedAt(changedAt);
+        entityManager.persistAndFlush(change);
+    }
+}
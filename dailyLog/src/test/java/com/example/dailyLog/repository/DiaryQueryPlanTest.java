@@ -0,0 +1,106 @@
+package com.example.dailyLog.repository;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 일기/통계 조회 인덱스 회귀 테스트 - 대량 데이터에서 리포지토리가 만든 SQL 이 인덱스 범위 스캔으로 실행되는지 EXPLAIN 으로 확인
+@DataJpaTest(properties = SqlCaptureInspector.PROPERTY)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DiaryQueryPlanTest {
+
+    @Container
+    @ServiceConnection
+    static MariaDBContainer<?> mariaDB = new MariaDBContainer<>("mariadb:11.4");
+
+    private static final int ROWS = 2_000_000;
+    private static final LocalDate MONTH_START = LocalDate.of(2024, 3, 1);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DiaryRepository diaryRepository;
+
+    @Autowired
+    private StatisticsRepository statisticsRepository;
+
+    @BeforeAll
+    void seed() {
+        // 캘린더 5개 x 20000일(1990 ~ 2044) 에 하루 20개씩 - MariaDB 시퀀스 엔진으로 한 번에 생성
+        jdbcTemplate.update("INSERT INTO diary (d_idx, d_title, d_date, d_category, cal_idx) "
+                + "SELECT seq, CONCAT('diary ', seq), DATE('1990-01-01') + INTERVAL (seq % 20000) DAY, "
+                + "ELT(1 + (seq DIV 3) % 5, 'DAILY', 'GROWTH', 'EXERCISE', 'TRIP', 'ETC'), 1 + (seq DIV 20000) % 5 "
+                + "FROM seq_1_to_" + ROWS);
+        // 집계 테이블은 재구축과 같은 방식으로 채움 (사용자/날짜/카테고리별 한 행)
+        jdbcTemplate.update("INSERT INTO diary_statistics (u_idx, ds_date, ds_category, ds_count) "
+                + "SELECT u.u_idx, d.d_date, d.d_category, COUNT(*) FROM diary d JOIN `user` u ON u.cal_idx = d.cal_idx "
+                + "GROUP BY u.u_idx, d.d_date, d.d_category");
+        jdbcTemplate.execute("ANALYZE TABLE diary, diary_statistics");
+    }
+
+    @Test
+    void monthDiaryRangeUsesCalendarDateIndex() {
+        String sql = SqlCaptureInspector.captureSelect(() ->
+                diaryRepository.findByCalendarsIdxAndDateBetween(3L, MONTH_START, MONTH_START.plusMonths(1).minusDays(1)));
+
+        Map<String, Object> plan = explain(sql, 3L, MONTH_START, MONTH_START.plusMonths(1).minusDays(1));
+
+        assertEquals("idx_diary_cal_date_category", plan.get("key"), plan.toString());
+        assertEquals("range", plan.get("type"), plan.toString());
+        assertFalse(extra(plan).contains("filesort"), plan.toString());
+        assertTrue(((Number) plan.get("rows")).longValue() < 10_000, plan.toString());
+    }
+
+    @Test
+    void dayDiaryLookupUsesCalendarDateIndex() {
+        String sql = SqlCaptureInspector.captureSelect(() -> diaryRepository.findByCalendarsIdxAndDate(3L, MONTH_START));
+
+        Map<String, Object> plan = explain(sql, 3L, MONTH_START);
+
+        assertEquals("idx_diary_cal_date_category", plan.get("key"), plan.toString());
+        assertTrue(((Number) plan.get("rows")).longValue() < 1_000, plan.toString());
+    }
+
+    @Test
+    void statisticsRangeUsesUniqueUserDateCategoryKey() {
+        LocalDate end = MONTH_START.plusMonths(1);
+        String sql = SqlCaptureInspector.captureSelect(() -> statisticsRepository.findDailyCategoryCounts(3L, MONTH_START, end));
+
+        Map<String, Object> plan = explain(sql, 3L, MONTH_START, end);
+
+        assertEquals("uk_diary_statistics_user_date_category", plan.get("key"), plan.toString());
+        assertEquals("range", plan.get("type"), plan.toString());
+        assertFalse(extra(plan).contains("filesort"), plan.toString());
+        assertTrue(((Number) plan.get("rows")).longValue() < 1_000, plan.toString());
+    }
+
+    // 생성된 SQL 의 ? 자리에 나오는 순서대로 값을 넣어 실행 계획 조회
+    private Map<String, Object> explain(String sql, Object... args) {
+        return jdbcTemplate.queryForList("EXPLAIN " + sql, args).get(0);
+    }
+
+    private String extra(Map<String, Object> plan) {
+        return String.valueOf(plan.get("Extra"));
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.dailyLog.repository;
+
+import com.example.dailyLog.constant.Color;
+import com.example.dailyLog.constant.RepeatType;
+import com.example.dailyLog.entity.Calendars;
+import com.example.dailyLog.entity.Schedule;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class ScheduleExceptionRepositoryTest {
+
+    @Container
+    @ServiceConnection
+    static MariaDBContainer<?> mariaDB = new MariaDBContainer<>("mariadb:11.4");
+
+    private static final LocalDateTime FIRST = LocalDateTime.of(2024, 1, 1, 10, 0);
+    private static final long WEEK_MINUTES = 7 * 24 * 60;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ScheduleExceptionRepository scheduleExceptionRepository;
+
+    @Test
+    void shiftsAdjacentExceptionsWithoutDuplicateKey() {
+        Schedule series = weeklySeries(100L);
+        scheduleExceptionRepository.insertIgnore(series.getIdx(), FIRST.plusWeeks(1));
+        scheduleExceptionRepository.insertIgnore(series.getIdx(), FIRST.plusWeeks(2));
+        scheduleExceptionRepository.insertIgnore(series.getIdx(), FIRST.plusWeeks(3));
+
+        // 한 주 뒤로: 1주차 제외 회차가 아직 옮겨지지 않은 2주차 자리와 겹치지 않아야 함
+        assertEquals(3, scheduleExceptionRepository.shiftByRepeatGroupId(1L, 100L, WEEK_MINUTES));
+        assertEquals(Set.of(FIRST.plusWeeks(2), FIRST.plusWeeks(3), FIRST.plusWeeks(4)), exceptionStarts(series));
+
+        // 한 주 앞으로 되돌리기
+        assertEquals(3, scheduleExceptionRepository.shiftByRepeatGroupId(1L, 100L, -WEEK_MINUTES));
+        assertEquals(Set.of(FIRST.plusWeeks(1), FIRST.plusWeeks(2), FIRST.plusWeeks(3)), exceptionStarts(series));
+    }
+
+    @Test
+    void shiftsOnlyTheGivenRepeatGroup() {
+        Schedule series = weeklySeries(200L);
+        Schedule other = weeklySeries(300L);
+        scheduleExceptionRepository.insertIgnore(series.getIdx(), FIRST.plusWeeks(1));
+        scheduleExceptionRepository.insertIgnore(other.getIdx(), FIRST.plusWeeks(1));
+
+        scheduleExceptionRepository.shiftByRepeatGroupId(1L, 200L, 60);
+
+        assertEquals(Set.of(FIRST.plusWeeks(1).plusHours(1)), exceptionStarts(series));
+        assertEquals(Set.of(FIRST.plusWeeks(1)), exceptionStarts(other));
+    }
+
+    @Test
+    void shiftsOnlyTheGivenCalendar() {
+        Schedule series = weeklySeries(1L, 400L);
+        Schedule otherCalendar = weeklySeries(2L, 400L);
+        scheduleExceptionRepository.insertIgnore(series.getIdx(), FIRST.plusWeeks(1));
+        scheduleExceptionRepository.insertIgnore(otherCalendar.getIdx(), FIRST.plusWeeks(1));
+
+        assertEquals(1, scheduleExceptionRepository.shiftByRepeatGroupId(1L, 400L, 60));
+
+        assertEquals(Set.of(FIRST.plusWeeks(1).plusHours(1)), exceptionStarts(series));
+        assertEquals(Set.of(FIRST.plusWeeks(1)), exceptionStarts(otherCalendar));
+    }
+
+    private Schedule weeklySeries(Long repeatGroupId) {
+        return weeklySeries(1L, repeatGroupId);
+    }
+
+    private Schedule weeklySeries(Long calendarIdx, Long repeatGroupId) {
+        Schedule series = Schedule.builder()
+                .title("weekly")
+                .start(FIRST)
+                .end(FIRST.plusHours(1))
+                .color(Color.ORANGE)
+                .repeatType(RepeatType.WEEKLY)
+                .repeatInterval(1)
+                .repeatGroupId(repeatGroupId)
+                .calendars(entityManager.find(Calendars.class, calendarIdx))
+                .scheduleImages(new ArrayList<>())
+                .build();
+        entityManager.persistAndFlush(series);
+        return series;
+    }
+
+    private Set<LocalDateTime> exceptionStarts(Schedule series) {
+        entityManager.clear();
+        List<Object[]> rows = scheduleExceptionRepository.findOriginalStartsInRange(
+                List.of(series.getIdx()), FIRST, FIRST.plusYears(1));
+        return rows.stream().map(row -> (LocalDateTime) row[1]).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.dailyLog.repository;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 일정 조회 인덱스 회귀 테스트 - 대량 데이터에서 리포지토리가 만든 SQL 이 인덱스 범위 스캔으로 실행되는지 EXPLAIN 으로 확인
+// JPQL 을 고쳐 시작 시각 하한이나 커버링 컬럼이 빠지면 실행 계획이 바뀌어 실패함
+@DataJpaTest(properties = SqlCaptureInspector.PROPERTY)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ScheduleQueryPlanTest {
+
+    @Container
+    @ServiceConnection
+    static MariaDBContainer<?> mariaDB = new MariaDBContainer<>("mariadb:11.4");
+
+    private static final int ROWS = 4_000_000;
+    private static final LocalDateTime MONTH_START = LocalDateTime.of(2024, 3, 1, 0, 0);
+    private static final LocalDateTime DAY_START = LocalDateTime.of(2024, 3, 15, 0, 0);
+    private static final long MAX_SPAN_MINUTES = 61 * 60;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @BeforeAll
+    void seed() {
+        // 캘린더 5개에 5분 간격 일정 (최장 61시간, 50개 중 1개는 주간 반복) - MariaDB 시퀀스 엔진으로 한 번에 생성
+        jdbcTemplate.update("INSERT INTO schedule (s_idx, s_title, s_start, s_end, s_color, repeat_type, repeat_interval, repeat_group_id, cal_idx) "
+                + "SELECT seq, CONCAT('schedule ', seq), "
+                + "TIMESTAMP('2020-01-01') + INTERVAL (seq * 5) MINUTE, "
+                + "TIMESTAMP('2020-01-01') + INTERVAL (seq * 5 + 60 + (seq % 7) * 600) MINUTE, "
+                + "'ORANGE', IF(seq % 50 = 0, 'WEEKLY', 'NONE'), 1, seq, 1 + seq % 5 "
+                + "FROM seq_1_to_" + ROWS);
+        jdbcTemplate.execute("ANALYZE TABLE schedule");
+    }
+
+    @Test
+    void monthViewReadsCoveringIndexInOrder() {
+        LocalDateTime end = MONTH_START.plusMonths(1);
+        String sql = SqlCaptureInspector.captureSelect(() -> scheduleRepository.findMonthScheduleViews(3L, MONTH_START, end));
+
+        Map<String, Object> plan = explain(sql, 3L, MONTH_START, end);
+
+        assertEquals("idx_schedule_cal_type_start_cover", plan.get("key"), plan.toString());
+        assertEquals("range", plan.get("type"), plan.toString());
+        assertTrue(extra(plan).contains("Using index"), plan.toString());
+        assertFalse(extra(plan).contains("filesort"), plan.toString());
+    }
+
+    @Test
+    void dayViewUsesBoundedStartRange() {
+        // lowerBound = 조회 시작 - 최장 일정 길이 로 시작 시각 범위를 한정한 겹침 조회
+        LocalDateTime end = DAY_START.withHour(23).withMinute(59).withSecond(59);
+        LocalDateTime lowerBound = DAY_START.minusMinutes(MAX_SPAN_MINUTES);
+        String sql = SqlCaptureInspector.captureSelect(() -> scheduleRepository.findSchedulesInDay(DAY_START, end, lowerBound, 3L));
+
+        // 생성된 SQL 의 ? 순서: cal_idx, s_start 하한, s_start 상한, s_end 하한
+        Map<String, Object> plan = explain(sql, 3L, lowerBound, end, DAY_START);
+
+        assertEquals("range", plan.get("type"), plan.toString());
+        assertTrue(String.valueOf(plan.get("key")).startsWith("idx_schedule_cal_type_start"), plan.toString());
+        assertTrue(((Number) plan.get("rows")).longValue() < 2_000, plan.toString());
+    }
+
+    @Test
+    void recurringLookupDoesNotScanSingles() {
+        LocalDateTime end = MONTH_START.plusMonths(1);
+        String sql = SqlCaptureInspector.captureSelect(() ->
+                scheduleRepository.findRecurringSchedulesInRange(3L, MONTH_START.toLocalDate(), end));
+
+        // 생성된 SQL 의 ? 순서: cal_idx, s_start 상한, repeat_end_date 하한
+        Map<String, Object> plan = explain(sql, 3L, end, MONTH_START.toLocalDate());
+
+        assertEquals("range", plan.get("type"), plan.toString());
+        assertTrue(String.valueOf(plan.get("key")).startsWith("idx_schedule_cal_type_start"), plan.toString());
+    }
+
+    private Map<String, Object> explain(String sql, Object... args) {
+        return jdbcTemplate.queryForList("EXPLAIN " + sql, args).get(0);
+    }
+
+    private String extra(Map<String, Object> plan) {
+        return String.valueOf(plan.get("Extra"));
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.dailyLog.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Hibernate 가 실제로 실행하는 SQL 기록 - EXPLAIN 회귀 테스트가 손으로 옮긴 SQL 대신 리포지토리가 만든 SQL 을 검사하도록
+// 사용: @DataJpaTest(properties = SqlCaptureInspector.PROPERTY)
+public class SqlCaptureInspector implements StatementInspector {
+
+    public static final String PROPERTY =
+            "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.example.dailyLog.repository.SqlCaptureInspector";
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    // call 이 처음 실행한 SELECT 문 (이후의 즉시 로딩 조회는 제외)
+    public static String captureSelect(Runnable call) {
+        STATEMENTS.clear();
+        call.run();
+        return STATEMENTS.stream()
+                .map(String::trim)
+                .filter(sql -> sql.toLowerCase(Locale.ROOT).startsWith("select"))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No SELECT statement was executed"));
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.dailyLog.service;
+
+import com.example.dailyLog.constant.CalendarItemType;
+import com.example.dailyLog.dto.response.CalendarChangePushDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CalendarChangeHubTest {
+
+    private static final Duration SEND_TIMEOUT = Duration.ofMillis(100);
+
+    private final InMemoryCalendarChangeRelay relay = new InMemoryCalendarChangeRelay();
+    // 전송 스레드 하나 - 막힌 연결이 풀을 붙잡으면 다른 연결도 전송되지 않음
+    private final ExecutorService pushExecutor = Executors.newSingleThreadExecutor();
+
+    private RecordingEmitter nextEmitter;
+
+    private final CalendarChangeHub hub = new CalendarChangeHub(relay, pushExecutor, 100, 64, Duration.ofMinutes(30), SEND_TIMEOUT) {
+        @Override
+        protected SseEmitter createEmitter(long timeoutMillis) {
+            return nextEmitter;
+        }
+    };
+
+    @AfterEach
+    void tearDown() {
+        pushExecutor.shutdownNow();
+    }
+
+    @Test
+    void changeIsPushedOnlyToSubscribersOfThatCalendar() throws InterruptedException {
+        RecordingEmitter first = subscribe(1L, new RecordingEmitter(false));
+        RecordingEmitter other = subscribe(2L, new RecordingEmitter(false));
+
+        relay.publish(new CalendarChangePushDto(1L, CalendarItemType.SCHEDULE, List.of(10L), List.of()));
+
+        // 연결 직후 주석 + 변경 알림
+        awaitTrue(() -> first.sent.get() == 2);
+        awaitTrue(() -> other.sent.get() == 1);
+        Thread.sleep(50);
+        assertEquals(1, other.sent.get());
+    }
+
+    @Test
+    void stalledSubscriberIsClosedAndOthersKeepReceiving() throws InterruptedException {
+        RecordingEmitter stalled = subscribe(1L, new RecordingEmitter(true));
+        assertTrue(stalled.entered.await(5, TimeUnit.SECONDS));
+        RecordingEmitter healthy = subscribe(1L, new RecordingEmitter(false));
+        assertEquals(0, healthy.sent.get());
+
+        Thread.sleep(SEND_TIMEOUT.toMillis() * 2);
+        hub.closeStalledSubscribers();
+
+        awaitTrue(() -> stalled.completedWithError);
+        assertEquals(1, hub.getConnectionCount());
+
+        relay.publish(new CalendarChangePushDto(1L, CalendarItemType.DIARY, List.of(), List.of(20L)));
+        awaitTrue(() -> healthy.sent.get() == 2);
+        assertEquals(0, stalled.sent.get());
+    }
+
+    @Test
+    void subscriberWithinSendTimeoutIsKept() throws InterruptedException {
+        RecordingEmitter slow = subscribe(1L, new RecordingEmitter(true));
+        assertTrue(slow.entered.await(5, TimeUnit.SECONDS));
+
+        hub.closeStalledSubscribers();
+        slow.release.countDown();
+
+        awaitTrue(() -> slow.sent.get() == 1);
+        assertEquals(1, hub.getConnectionCount());
+    }
+
+    private RecordingEmitter subscribe(Long calendarIdx, RecordingEmitter emitter) {
+        nextEmitter = emitter;
+        hub.subscribe(calendarIdx);
+        return emitter;
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met within 5s");
+            Thread.sleep(10);
+        }
+    }
+
+    // 응답 대신 전송 횟수를 기록 (block 이면 release 될 때까지 쓰기가 막힌 클라이언트처럼 대기)
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final boolean block;
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final AtomicInteger sent = new AtomicInteger();
+        private volatile boolean completedWithError;
+
+        private RecordingEmitter(boolean block) {
+            this.block = block;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            entered.countDown();
+            if (block) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new IOException("write interrupted", e);
+                }
+            }
+            sent.incrementAndGet();
+        }
+
+        @Override
+        public void complete() {
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            completedWithError = true;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.dailyLog.service;
+
+import com.example.dailyLog.constant.RepeatType;
+import com.example.dailyLog.entity.Schedule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// VEVENT -> 일정 변환 단위 테스트 (저장 경로는 쓰지 않으므로 저장소/트랜잭션은 비워 둠)
+class CalendarImportServiceImplTest {
+
+    private CalendarImportServiceImpl importService;
+
+    @BeforeEach
+    void setUp() {
+        importService = new CalendarImportServiceImpl(null, null, null, null, null, new SnowflakeIdGenerator(1));
+    }
+
+    @Test
+    void keepsFloatingTimeAsIs() throws IOException {
+        Schedule schedule = convert("DTSTART:20240301T090000", "DTEND:20240301T100000").schedule;
+
+        assertEquals(LocalDateTime.of(2024, 3, 1, 9, 0), schedule.getStart());
+        assertEquals(LocalDateTime.of(2024, 3, 1, 10, 0), schedule.getEnd());
+        assertEquals(RepeatType.NONE, schedule.getRepeatType());
+    }
+
+    @Test
+    void convertsUtcAndTzidToServerZone() throws IOException {
+        Schedule schedule = convert("DTSTART:20240301T000000Z", "DTEND;TZID=America/New_York:20240301T090000").schedule;
+
+        assertEquals(LocalDateTime.of(2024, 3, 1, 0, 0).atOffset(ZoneOffset.UTC)
+                .atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime(), schedule.getStart());
+        assertEquals(LocalDateTime.of(2024, 3, 1, 9, 0).atZone(ZoneId.of("America/New_York"))
+                .withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime(), schedule.getEnd());
+    }
+
+    @Test
+    void storesAllDayEndAsLastMinuteOfPreviousDay() throws IOException {
+        Schedule schedule = convert("DTSTART;VALUE=DATE:20240301", "DTEND;VALUE=DATE:20240303").schedule;
+
+        assertEquals(LocalDateTime.of(2024, 3, 1, 0, 0), schedule.getStart());
+        assertEquals(LocalDateTime.of(2024, 3, 2, 23, 59), schedule.getEnd());
+    }
+
+    @Test
+    void readsExdatesIncludingDateOnlyValues() throws IOException {
+        CalendarImportServiceImpl.ImportedEvent event = convert("DTSTART:20240301T090000", "RRULE:FREQ=DAILY",
+                "EXDATE:20240303T090000,20240305T090000", "EXDATE;VALUE=DATE:20240307");
+
+        assertEquals(RepeatType.DAILY, event.schedule.getRepeatType());
+        assertEquals(List.of(LocalDateTime.of(2024, 3, 3, 9, 0), LocalDateTime.of(2024, 3, 5, 9, 0),
+                LocalDateTime.of(2024, 3, 7, 9, 0)), event.exceptionStarts);
+    }
+
+    @Test
+    void convertsCountToRepeatEndDate() throws IOException {
+        Schedule schedule = convert("DTSTART:20240301T090000", "RRULE:FREQ=WEEKLY;INTERVAL=2;COUNT=3").schedule;
+
+        assertEquals(RepeatType.WEEKLY, schedule.getRepeatType());
+        assertEquals(2, schedule.getRepeatInterval());
+        assertEquals(LocalDate.of(2024, 3, 29), schedule.getRepeatEndDate());
+    }
+
+    @Test
+    void convertsUntilToRepeatEndDate() throws IOException {
+        assertEquals(LocalDate.of(2024, 3, 10),
+                convert("DTSTART:20240301T090000", "RRULE:FREQ=DAILY;UNTIL=20240310").schedule.getRepeatEndDate());
+        assertEquals(LocalDate.of(2024, 12, 31),
+                convert("DTSTART:20240301T090000", "RRULE:FREQ=MONTHLY;UNTIL=20241231T235959").schedule.getRepeatEndDate());
+    }
+
+    @Test
+    void acceptsByPartsImpliedByStart() throws IOException {
+        // 2024-03-01 은 금요일
+        Schedule schedule = convert("DTSTART:20240301T090000", "RRULE:FREQ=WEEKLY;BYDAY=FR").schedule;
+
+        assertEquals(RepeatType.WEEKLY, schedule.getRepeatType());
+    }
+
+    @Test
+    void rejectsByPartsThatChangeOccurrences() {
+        assertThrows(IllegalArgumentException.class, () -> convert("DTSTART:20240301T090000", "RRULE:FREQ=WEEKLY;BYDAY=MO,WE"));
+        assertThrows(IllegalArgumentException.class, () -> convert("DTSTART:20240301T090000", "RRULE:FREQ=MONTHLY;BYMONTHDAY=15"));
+        assertThrows(IllegalArgumentException.class, () -> convert("DTSTART:20240301T090000", "RRULE:FREQ=MONTHLY;BYDAY=1FR;BYSETPOS=1"));
+        assertThrows(IllegalArgumentException.class, () -> convert("DTSTART:20240301T090000", "RRULE:FREQ=HOURLY"));
+    }
+
+    @Test
+    void acceptsOnlyMonthEndFormForLateStartDays() throws IOException {
+        assertEquals(RepeatType.MONTHLY,
+                convert("DTSTART:20240131T090000", "RRULE:FREQ=MONTHLY;BYMONTHDAY=-1").schedule.getRepeatType());
+        assertEquals(RepeatType.MONTHLY,
+                convert("DTSTART:20240130T090000", "RRULE:FREQ=MONTHLY;BYMONTHDAY=28,29,30;BYSETPOS=-1").schedule.getRepeatType());
+        // 짧은 달을 건너뛰는 규칙은 말일로 당기는 반복으로 표현할 수 없음
+        assertThrows(IllegalArgumentException.class, () -> convert("DTSTART:20240131T090000", "RRULE:FREQ=MONTHLY"));
+        assertThrows(IllegalArgumentException.class, () -> convert("DTSTART:20240229T090000", "RRULE:FREQ=YEARLY"));
+    }
+
+    @Test
+    void keepsRecurrenceIdAndIgnoresRuleOfModifiedOccurrence() throws IOException {
+        CalendarImportServiceImpl.ImportedEvent event = convert("UID:series-1", "DTSTART:20240305T100000",
+                "RECURRENCE-ID:20240305T090000", "RRULE:FREQ=DAILY");
+
+        assertEquals("series-1", event.uid);
+        assertEquals(LocalDateTime.of(2024, 3, 5, 9, 0), event.recurrenceId);
+        assertEquals(RepeatType.NONE, event.schedule.getRepeatType());
+    }
+
+    @Test
+    void rejectsEndBeforeStartAndMissingStart() {
+        assertThrows(IllegalArgumentException.class, () -> convert("DTSTART:20240301T090000", "DTEND:20240301T080000"));
+        assertThrows(IllegalArgumentException.class, () -> convert("SUMMARY:no start"));
+    }
+
+    private CalendarImportServiceImpl.ImportedEvent convert(String... properties) throws IOException {
+        String ics = "BEGIN:VEVENT\r\n" + String.join("\r\n", properties) + "\r\nEND:VEVENT\r\n";
+        try (IcsReader reader = new IcsReader(new ByteArrayInputStream(ics.getBytes(StandardCharsets.UTF_8)))) {
+            return importService.toImportedEvent(1, reader.next());
+        }
+    }
+}
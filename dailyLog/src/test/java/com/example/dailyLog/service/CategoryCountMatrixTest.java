@@ -0,0 +1,43 @@
+package com.example.dailyLog.service;
+
+import com.example.dailyLog.constant.Category;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CategoryCountMatrixTest {
+
+    @Test
+    void accumulatesCountsAndTotalsPerBucket() {
+        CategoryCountMatrix matrix = new CategoryCountMatrix(31);
+        matrix.add(0, Category.DAILY, 2);
+        matrix.add(0, Category.TRIP, 1);
+        matrix.add(0, Category.DAILY, 1);
+        matrix.add(30, Category.ETC, 4);
+
+        assertEquals(3, matrix.count(0, Category.DAILY));
+        assertEquals(4, matrix.total(0));
+        assertEquals(0, matrix.total(15));
+        assertEquals(4, matrix.total(30));
+    }
+
+    @Test
+    void percentagesIncludeEmptyCategoriesOnlyWhenAsked() {
+        CategoryCountMatrix matrix = new CategoryCountMatrix(12);
+        matrix.add(2, Category.GROWTH, 1);
+        matrix.add(2, Category.EXERCISE, 3);
+
+        Map<Category, Double> all = matrix.percentages(2, true);
+        assertEquals(Category.values().length, all.size());
+        assertEquals(25.0, all.get(Category.GROWTH));
+        assertEquals(75.0, all.get(Category.EXERCISE));
+        assertEquals(0.0, all.get(Category.DAILY));
+
+        assertEquals(2, matrix.percentages(2, false).size());
+        assertTrue(matrix.percentages(5, false).isEmpty());
+        assertEquals(0.0, matrix.percentages(5, true).get(Category.TRIP));
+    }
+}
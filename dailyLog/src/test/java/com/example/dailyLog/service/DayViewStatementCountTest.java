@@ -0,0 +1,183 @@
+package com.example.dailyLog.service;
+
+import com.example.dailyLog.constant.Category;
+import com.example.dailyLog.constant.Color;
+import com.example.dailyLog.constant.RepeatType;
+import com.example.dailyLog.dto.response.DiaryResponseDayListDto;
+import com.example.dailyLog.dto.response.ScheduleResponseDayDto;
+import com.example.dailyLog.entity.*;
+import com.example.dailyLog.repository.*;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 일간 조회 N+1 회귀 테스트 - 일정/일기 수와 관계없이 조회 한 번에 실행되는 SQL 문 수가 같아야 함
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class DayViewStatementCountTest {
+
+    @Container
+    @ServiceConnection
+    static MariaDBContainer<?> mariaDB = new MariaDBContainer<>("mariadb:11.4");
+
+    private static final LocalDate FEW_DAY = LocalDate.of(2024, 3, 10);
+    private static final LocalDate MANY_DAY = LocalDate.of(2024, 3, 20);
+    private static final int FEW = 2;
+    private static final int MANY = 40;
+    private static final int IMAGES_PER_ITEM = 2;
+    // 캘린더/사용자 즉시 로딩을 포함한 상한 - 항목 수에 비례해 늘면 N+1
+    private static final long MAX_STATEMENTS = 8;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private CalendarRepository calendarRepository;
+
+    @Autowired
+    private ScheduleImageRepository scheduleImageRepository;
+
+    @Autowired
+    private ScheduleExceptionRepository scheduleExceptionRepository;
+
+    @Autowired
+    private DiaryRepository diaryRepository;
+
+    @Autowired
+    private DiaryImageRepository diaryImageRepository;
+
+    private ScheduleServiceImpl scheduleService;
+    private DiaryServiceImpl diaryService;
+    private Calendars calendars;
+
+    @BeforeEach
+    void setUp() {
+        // 조회 경로에서 쓰지 않는 협력 객체(이미지 저장, 이벤트, 캐시 등)는 비워 둠
+        scheduleService = new ScheduleServiceImpl(scheduleRepository, calendarRepository, scheduleImageRepository,
+                null, null, scheduleExceptionRepository, new ScheduleRecurrenceExpander(),
+                null, null, null, null, null);
+        diaryService = new DiaryServiceImpl(diaryRepository, calendarRepository, diaryImageRepository,
+                null, null, null, null, null);
+        calendars = entityManager.find(Calendars.class, 1L);
+    }
+
+    @Test
+    void scheduleDayViewRunsFixedNumberOfStatements() {
+        // 매일 반복 일정 (제외 회차 포함) - 반복 일정/제외 회차 조회도 함께 실행되도록
+        Schedule daily = schedule("daily", LocalDateTime.of(2024, 3, 1, 7, 0), RepeatType.DAILY);
+        scheduleExceptionRepository.insertIgnore(daily.getIdx(), LocalDateTime.of(2024, 3, 5, 7, 0));
+        for (int i = 0; i < FEW; i++) {
+            schedule("few " + i, FEW_DAY.atTime(9, 0).plusMinutes(i), RepeatType.NONE);
+        }
+        for (int i = 0; i < MANY; i++) {
+            schedule("many " + i, MANY_DAY.atTime(9, 0).plusMinutes(i), RepeatType.NONE);
+        }
+
+        long fewStatements = countStatements(() -> scheduleService.findScheduleByDay(1L, 2024, 3, FEW_DAY.getDayOfMonth()));
+        long manyStatements = countStatements(() -> scheduleService.findScheduleByDay(1L, 2024, 3, MANY_DAY.getDayOfMonth()));
+
+        assertEquals(fewStatements, manyStatements);
+        assertTrue(manyStatements <= MAX_STATEMENTS, "statements: " + manyStatements);
+
+        List<ScheduleResponseDayDto> schedules = scheduleService.findScheduleByDay(1L, 2024, 3, MANY_DAY.getDayOfMonth());
+        assertEquals(MANY + 1, schedules.size());
+        schedules.forEach(schedule -> assertEquals(IMAGES_PER_ITEM, schedule.getImages().size()));
+    }
+
+    @Test
+    void diaryDayViewRunsFixedNumberOfStatements() {
+        for (int i = 0; i < FEW; i++) {
+            diary("few " + i, FEW_DAY);
+        }
+        for (int i = 0; i < MANY; i++) {
+            diary("many " + i, MANY_DAY);
+        }
+
+        long fewStatements = countStatements(() -> diaryService.findDiaryByDayList(1L, 2024, 3, FEW_DAY.getDayOfMonth()));
+        long manyStatements = countStatements(() -> diaryService.findDiaryByDayList(1L, 2024, 3, MANY_DAY.getDayOfMonth()));
+
+        assertEquals(fewStatements, manyStatements);
+        assertTrue(manyStatements <= MAX_STATEMENTS, "statements: " + manyStatements);
+
+        List<DiaryResponseDayListDto> diaries = diaryService.findDiaryByDayList(1L, 2024, 3, MANY_DAY.getDayOfMonth());
+        assertEquals(MANY, diaries.size());
+        diaries.forEach(diary -> assertEquals(IMAGES_PER_ITEM, diary.getImages().size()));
+    }
+
+    // 영속성 컨텍스트를 비운 뒤 조회 한 번에 준비된 JDBC 문 수
+    private long countStatements(Supplier<?> call) {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        call.get();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Schedule schedule(String title, LocalDateTime start, RepeatType repeatType) {
+        Schedule schedule = Schedule.builder()
+                .title(title)
+                .start(start)
+                .end(start.plusHours(1))
+                .color(Color.ORANGE)
+                .repeatType(repeatType)
+                .repeatInterval(1)
+                .repeatGroupId(System.nanoTime())
+                .calendars(calendars)
+                .scheduleImages(new ArrayList<>())
+                .build();
+        entityManager.persist(schedule);
+        for (int i = 0; i < IMAGES_PER_ITEM; i++) {
+            ScheduleImage image = new ScheduleImage();
+            image.setImgName(title + "-" + i + ".png");
+            image.setOriImgName(title + "-" + i + ".png");
+            image.setImgUrl("/images/" + title + "-" + i + ".png");
+            image.setSchedule(schedule);
+            entityManager.persist(image);
+        }
+        entityManager.flush();
+        return schedule;
+    }
+
+    private void diary(String title, LocalDate date) {
+        Diary diary = Diary.builder()
+                .title(title)
+                .date(date)
+                .category(Category.DAILY)
+                .calendars(calendars)
+                .diaryImages(new ArrayList<>())
+                .build();
+        entityManager.persist(diary);
+        for (int i = 0; i < IMAGES_PER_ITEM; i++) {
+            DiaryImage image = new DiaryImage();
+            image.setImgName(title + "-" + i + ".png");
+            image.setOriImgName(title + "-" + i + ".png");
+            image.setImgUrl("/images/" + title + "-" + i + ".png");
+            image.setDiary(diary);
+            entityManager.persist(image);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.dailyLog.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FileServiceImplTest {
+
+    private static final byte[] CONTENT = "same image".getBytes(StandardCharsets.UTF_8);
+
+    private final FileServiceImpl fileService = new FileServiceImpl();
+
+    @TempDir
+    Path uploadDir;
+
+    @Test
+    void recentlyReusedFileIsNotDeleted() {
+        String first = fileService.uploadContentAddressedFile(uploadDir.toString(), "a.png", CONTENT);
+        File file = uploadDir.resolve(first).toFile();
+        assertTrue(file.setLastModified(System.currentTimeMillis() - Duration.ofHours(1).toMillis()));
+
+        // 다른 요청이 같은 내용을 업로드해 재사용 - 참조 행은 아직 커밋 전이라 보이지 않음
+        String second = fileService.uploadContentAddressedFile(uploadDir.toString(), "b.PNG", CONTENT);
+        assertEquals(first, second);
+
+        assertFalse(fileService.deleteUnreferencedFile(file.getPath(), Duration.ofMinutes(10), () -> false));
+        assertTrue(file.exists());
+    }
+
+    @Test
+    void idleUnreferencedFileIsDeleted() {
+        String saved = fileService.uploadContentAddressedFile(uploadDir.toString(), "a.png", CONTENT);
+        File file = uploadDir.resolve(saved).toFile();
+        assertTrue(file.setLastModified(System.currentTimeMillis() - Duration.ofHours(1).toMillis()));
+
+        assertTrue(fileService.deleteUnreferencedFile(file.getPath(), Duration.ofMinutes(10), () -> true));
+        assertTrue(file.exists());
+
+        assertTrue(fileService.deleteUnreferencedFile(file.getPath(), Duration.ofMinutes(10), () -> false));
+        assertFalse(file.exists());
+    }
+
+    @Test
+    void uploadAfterDeleteWritesFileAgain() {
+        String saved = fileService.uploadContentAddressedFile(uploadDir.toString(), "a.png", CONTENT);
+        File file = uploadDir.resolve(saved).toFile();
+        assertTrue(file.setLastModified(System.currentTimeMillis() - Duration.ofHours(1).toMillis()));
+        assertTrue(fileService.deleteUnreferencedFile(file.getPath(), Duration.ofMinutes(10), () -> false));
+
+        assertEquals(saved, fileService.uploadContentAddressedFile(uploadDir.toString(), "a.png", CONTENT));
+        assertTrue(file.exists());
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.dailyLog.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class IcsReaderTest {
+
+    @Test
+    void unfoldsContinuationLines() throws IOException {
+        IcsReader reader = reader("\uFEFFBEGIN:VCALENDAR\r\nBEGIN:VEVENT\r\nSUMMARY:회의\r\n  자료\r\n\t정리\r\nDESCRIPTION:a\\,b\\nc\r\nEND:VEVENT\r\nEND:VCALENDAR\r\n");
+
+        IcsReader.IcsEvent event = reader.next();
+
+        assertEquals("회의 자료정리", event.text("SUMMARY"));
+        assertEquals("a,b\nc", event.text("DESCRIPTION"));
+        assertNull(reader.next());
+    }
+
+    @Test
+    void acceptsBareLineFeedsAndCarriageReturns() throws IOException {
+        IcsReader reader = reader("BEGIN:VEVENT\nSUMMARY:lf\n fold\rUID:cr\rEND:VEVENT");
+
+        IcsReader.IcsEvent event = reader.next();
+
+        assertEquals("lffold", event.text("SUMMARY"));
+        assertEquals("cr", event.text("UID"));
+    }
+
+    @Test
+    void skipsNestedComponentsAndParsesQuotedParams() throws IOException {
+        IcsReader reader = reader("BEGIN:VEVENT\r\nDTSTART;TZID=\"Asia/Seoul\":20240301T090000\r\nBEGIN:VALARM\r\nSUMMARY:alarm\r\nEND:VALARM\r\nSUMMARY:event\r\nEND:VEVENT\r\n");
+
+        IcsReader.IcsEvent event = reader.next();
+
+        assertEquals("Asia/Seoul", event.first("DTSTART").param("TZID"));
+        assertEquals("20240301T090000", event.first("DTSTART").value);
+        assertEquals(1, event.all("SUMMARY").size());
+        assertEquals("event", event.text("SUMMARY"));
+    }
+
+    @Test
+    void rejectsOverlongPhysicalLine() {
+        IcsReader reader = reader("BEGIN:VEVENT\r\nSUMMARY:" + "a".repeat(IcsReader.MAX_LINE_LENGTH) + "\r\nEND:VEVENT\r\n");
+
+        assertThrows(IOException.class, reader::next);
+    }
+
+    @Test
+    void rejectsOverlongFoldedLine() {
+        StringBuilder ics = new StringBuilder("BEGIN:VEVENT\r\nSUMMARY:a\r\n");
+        String fold = " " + "a".repeat(1000) + "\r\n";
+        for (int length = 0; length <= IcsReader.MAX_LINE_LENGTH; length += 1000) {
+            ics.append(fold);
+        }
+        IcsReader reader = reader(ics.append("END:VEVENT\r\n").toString());
+
+        assertThrows(IOException.class, reader::next);
+    }
+
+    @Test
+    void rejectsTooManyProperties() {
+        StringBuilder ics = new StringBuilder("BEGIN:VEVENT\r\n");
+        for (int i = 0; i <= IcsReader.MAX_PROPERTIES_PER_EVENT; i++) {
+            ics.append("X-PROP:").append(i).append("\r\n");
+        }
+        IcsReader reader = reader(ics.append("END:VEVENT\r\n").toString());
+
+        assertThrows(IOException.class, reader::next);
+    }
+
+    @Test
+    void failsOnUnterminatedEvent() {
+        IcsReader reader = reader("BEGIN:VEVENT\r\nSUMMARY:a\r\n");
+
+        assertThrows(IOException.class, reader::next);
+    }
+
+    private IcsReader reader(String ics) {
+        return new IcsReader(new ByteArrayInputStream(ics.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.dailyLog.service;
+
+import com.example.dailyLog.constant.RepeatType;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IcsWriterTest {
+
+    @Test
+    void escapesTextValues() throws IOException {
+        StringWriter out = new StringWriter();
+
+        new IcsWriter(out).text("SUMMARY", "a;b,c\\d\r\ne");
+
+        assertEquals("SUMMARY:a\\;b\\,c\\\\d\\ne\r\n", out.toString());
+    }
+
+    @Test
+    void skipsEmptyText() throws IOException {
+        StringWriter out = new StringWriter();
+        IcsWriter ics = new IcsWriter(out);
+
+        ics.text("DESCRIPTION", null);
+        ics.text("DESCRIPTION", "");
+
+        assertEquals("", out.toString());
+    }
+
+    @Test
+    void foldsAt75OctetsWithoutSplittingMultibyteCharacters() throws IOException {
+        StringWriter out = new StringWriter();
+        String title = "가".repeat(60);  // 3 옥텟 문자
+
+        new IcsWriter(out).text("SUMMARY", title);
+
+        String[] lines = out.toString().split("\r\n");
+        assertTrue(lines.length > 1);
+        StringBuilder unfolded = new StringBuilder(lines[0]);
+        for (int i = 0; i < lines.length; i++) {
+            assertTrue(lines[i].getBytes(StandardCharsets.UTF_8).length <= 75, lines[i]);
+            if (i > 0) {
+                assertTrue(lines[i].startsWith(" "));
+                unfolded.append(lines[i].substring(1));
+            }
+        }
+        assertEquals("SUMMARY:" + title, unfolded.toString());
+    }
+
+    @Test
+    void writesPlainRecurrenceRule() {
+        assertEquals("FREQ=WEEKLY;INTERVAL=2;UNTIL=20241231T235959",
+                IcsWriter.recurrenceRule(RepeatType.WEEKLY, 2, LocalDateTime.of(2024, 1, 31, 9, 0), LocalDate.of(2024, 12, 31)));
+        assertEquals("FREQ=MONTHLY;INTERVAL=1",
+                IcsWriter.recurrenceRule(RepeatType.MONTHLY, 0, LocalDateTime.of(2024, 1, 28, 9, 0), null));
+    }
+
+    @Test
+    void monthEndSeriesKeepShortMonths() {
+        // 말일로 당겨지는 회차가 RFC 5545 에서 빠지지 않도록 "시작일까지 중 마지막 날" 규칙
+        assertEquals("FREQ=MONTHLY;INTERVAL=1;BYMONTHDAY=-1",
+                IcsWriter.recurrenceRule(RepeatType.MONTHLY, 1, LocalDateTime.of(2024, 1, 31, 9, 0), null));
+        assertEquals("FREQ=MONTHLY;INTERVAL=1;BYMONTHDAY=28,29,30;BYSETPOS=-1",
+                IcsWriter.recurrenceRule(RepeatType.MONTHLY, 1, LocalDateTime.of(2024, 1, 30, 9, 0), null));
+        assertEquals("FREQ=MONTHLY;INTERVAL=3;BYMONTHDAY=28,29;BYSETPOS=-1;UNTIL=20251231T235959",
+                IcsWriter.recurrenceRule(RepeatType.MONTHLY, 3, LocalDateTime.of(2024, 1, 29, 9, 0), LocalDate.of(2025, 12, 31)));
+        assertEquals("FREQ=YEARLY;INTERVAL=1;BYMONTH=2;BYMONTHDAY=28,29;BYSETPOS=-1",
+                IcsWriter.recurrenceRule(RepeatType.YEARLY, 1, LocalDateTime.of(2024, 2, 29, 9, 0), null));
+        assertNull(IcsWriter.monthEndParts(RepeatType.YEARLY, LocalDate.of(2024, 1, 31)));
+        assertNull(IcsWriter.monthEndParts(RepeatType.WEEKLY, LocalDate.of(2024, 1, 31)));
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.dailyLog.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IntervalSweepTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private static ScheduleOccurrence at(int startMinutes, int endMinutes) {
+        return new ScheduleOccurrence(null, BASE.plusMinutes(startMinutes), BASE.plusMinutes(endMinutes));
+    }
+
+    @Test
+    void mergesOverlappingAndTouchingIntervals() {
+        List<LocalDateTime[]> merged = IntervalSweep.merge(List.of(at(0, 60), at(30, 90), at(90, 120), at(180, 200)));
+
+        assertEquals(2, merged.size());
+        assertEquals(BASE, merged.get(0)[0]);
+        assertEquals(BASE.plusMinutes(120), merged.get(0)[1]);
+        assertEquals(BASE.plusMinutes(180), merged.get(1)[0]);
+    }
+
+    @Test
+    void adjacentIntervalsDoNotConflict() {
+        List<ScheduleOccurrence> existing = List.of(at(0, 60), at(120, 180));
+
+        assertTrue(IntervalSweep.conflicts(existing, List.of(at(60, 120))).isEmpty());
+        assertEquals(2, IntervalSweep.conflicts(existing, List.of(at(59, 121))).size());
+    }
+
+    @Test
+    void findsLongIntervalStartedBeforeCandidate() {
+        List<ScheduleOccurrence> existing = List.of(at(0, 1000), at(10, 20));
+
+        List<ScheduleOccurrence> conflicts = IntervalSweep.conflicts(existing, List.of(at(500, 510)));
+
+        assertEquals(1, conflicts.size());
+        assertEquals(BASE.plusMinutes(1000), conflicts.get(0).getEnd());
+    }
+
+    @Test
+    void earlierLongCandidateStillCoversLaterExisting() {
+        // 두 번째 후보가 먼저 끝나도 첫 번째 후보가 덮는 구간의 기존 회차는 겹침
+        List<ScheduleOccurrence> existing = List.of(at(50, 60), at(200, 210));
+
+        List<ScheduleOccurrence> conflicts = IntervalSweep.conflicts(existing, List.of(at(0, 100), at(10, 20)));
+
+        assertEquals(1, conflicts.size());
+        assertEquals(BASE.plusMinutes(50), conflicts.get(0).getStart());
+    }
+
+    @Test
+    void matchesBruteForceOnDenseSeries() {
+        List<ScheduleOccurrence> existing = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            existing.add(at(i * 30, i * 30 + 45 + (i % 7) * 10));
+        }
+        List<ScheduleOccurrence> candidates = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            candidates.add(at(i * 300 + 7, i * 300 + 7 + (i % 3 == 0 ? 5 : 20)));
+        }
+        existing.sort(IntervalSweep.BY_START);
+
+        long expected = existing.stream()
+                .filter(e -> candidates.stream().anyMatch(c -> e.getStart().isBefore(c.getEnd()) && c.getStart().isBefore(e.getEnd())))
+                .count();
+
+        assertEquals(expected, IntervalSweep.conflicts(existing, candidates).size());
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.dailyLog.service;
+
+import com.example.dailyLog.constant.KoreanHoliday;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KoreanCalendarTableTest {
+
+    private static final KoreanCalendarTable TABLE = new KoreanCalendarTable(2000, 2100);
+
+    @Test
+    void lunarNewYearAndChuseokMatchPublishedDates() {
+        assertEquals(KoreanHoliday.SEOLLAL, TABLE.holiday(LocalDate.of(2000, 2, 5)));
+        assertEquals(KoreanHoliday.SEOLLAL, TABLE.holiday(LocalDate.of(2024, 2, 10)));
+        assertEquals(KoreanHoliday.SEOLLAL, TABLE.holiday(LocalDate.of(2026, 2, 17)));
+        assertEquals(KoreanHoliday.CHUSEOK, TABLE.holiday(LocalDate.of(2017, 10, 4)));
+        assertEquals(KoreanHoliday.CHUSEOK, TABLE.holiday(LocalDate.of(2026, 9, 25)));
+        assertEquals(KoreanHoliday.BUDDHA_BIRTHDAY, TABLE.holiday(LocalDate.of(2026, 5, 24)));
+    }
+
+    @Test
+    void leapMonthsAreResolved() {
+        int lunarDate = TABLE.lunarDate(LocalDate.of(2025, 7, 25));
+
+        assertEquals(2025, KoreanCalendarTable.lunarYear(lunarDate));
+        assertEquals(6, KoreanCalendarTable.lunarMonth(lunarDate));
+        assertEquals(1, KoreanCalendarTable.lunarDay(lunarDate));
+        assertTrue(KoreanCalendarTable.isLeapMonth(lunarDate));
+        assertEquals(LocalDate.of(2025, 7, 25).toEpochDay(), TABLE.toSolarEpochDay(2025, 6, 1, true));
+        assertThrows(IllegalArgumentException.class, () -> TABLE.toSolarEpochDay(2025, 5, 1, true));
+    }
+
+    @Test
+    void substituteHolidaysFollowCurrentRules() {
+        assertEquals(KoreanHoliday.SUBSTITUTE, TABLE.holiday(LocalDate.of(2020, 1, 27)));  // 설날 연휴 일요일
+        assertEquals(KoreanHoliday.SUBSTITUTE, TABLE.holiday(LocalDate.of(2022, 10, 10))); // 한글날 일요일
+        assertEquals(KoreanHoliday.SUBSTITUTE, TABLE.holiday(LocalDate.of(2025, 5, 6)));   // 어린이날 + 부처님 오신 날
+        assertEquals(KoreanHoliday.SUBSTITUTE, TABLE.holiday(LocalDate.of(2025, 10, 8)));  // 추석 연휴 일요일
+        assertEquals(KoreanHoliday.SUBSTITUTE, TABLE.holiday(LocalDate.of(2026, 3, 2)));   // 삼일절 일요일
+        assertNull(TABLE.holiday(LocalDate.of(2020, 10, 5)));                             // 개천절 토요일 (2021년 이전)
+        assertNull(TABLE.holiday(LocalDate.of(2026, 9, 28)));                             // 추석 연휴 토요일은 대체 없음
+    }
+
+    @Test
+    void overlappingHolidaysKeepBothNames() {
+        assertEquals(List.of(KoreanHoliday.FOUNDATION_DAY, KoreanHoliday.CHUSEOK), TABLE.holidays(LocalDate.of(2028, 10, 3)));
+        assertEquals(List.of(KoreanHoliday.CHILDREN_DAY, KoreanHoliday.BUDDHA_BIRTHDAY), TABLE.holidays(LocalDate.of(2025, 5, 5)));
+        assertEquals(List.of(KoreanHoliday.SUBSTITUTE), TABLE.holidays(LocalDate.of(2025, 5, 6)));
+        assertEquals(List.of(), TABLE.holidays(LocalDate.of(2025, 5, 7)));
+    }
+
+    @Test
+    void supportsOnlyConfiguredYears() {
+        assertTrue(TABLE.supports(2100));
+        assertFalse(TABLE.supports(2101));
+        assertThrows(IllegalArgumentException.class, () -> new KoreanCalendarTable(1990, 2000));
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.dailyLog.service;
+
+import com.example.dailyLog.constant.Color;
+import com.example.dailyLog.constant.RepeatType;
+import com.example.dailyLog.entity.Calendars;
+import com.example.dailyLog.entity.Schedule;
+import com.example.dailyLog.exception.scheduleException.InvalidOccurrenceException;
+import com.example.dailyLog.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// 반복 일정 "이후 회차 삭제" - 규칙에 없는 시각으로는 반복을 잘라내지 않아야 함
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class ScheduleDeleteTest {
+
+    @Container
+    @ServiceConnection
+    static MariaDBContainer<?> mariaDB = new MariaDBContainer<>("mariadb:11.4");
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private CalendarRepository calendarRepository;
+
+    @Autowired
+    private ScheduleImageRepository scheduleImageRepository;
+
+    @Autowired
+    private ScheduleExceptionRepository scheduleExceptionRepository;
+
+    private ScheduleServiceImpl scheduleService;
+    private Schedule series;
+
+    @BeforeEach
+    void setUp() {
+        // 삭제 경로에서 쓰지 않는 협력 객체는 비워 두고 이벤트는 버림
+        scheduleService = new ScheduleServiceImpl(scheduleRepository, calendarRepository, scheduleImageRepository,
+                null, null, scheduleExceptionRepository, new ScheduleRecurrenceExpander(),
+                event -> { }, null, null, null, null);
+        series = Schedule.builder()
+                .title("daily")
+                .start(LocalDateTime.of(2024, 3, 1, 9, 0))
+                .end(LocalDateTime.of(2024, 3, 1, 10, 0))
+                .color(Color.ORANGE)
+                .repeatType(RepeatType.DAILY)
+                .repeatInterval(1)
+                .repeatGroupId(System.nanoTime())
+                .calendars(entityManager.find(Calendars.class, 1L))
+                .scheduleImages(new ArrayList<>())
+                .build();
+        entityManager.persistAndFlush(series);
+    }
+
+    @Test
+    void deleteAfterRejectsTimeOffTheRule() {
+        // 첫날 10시는 회차가 아님 - 그대로 잘라내면 종료일(2/29)이 시작일보다 앞섬
+        assertThrows(InvalidOccurrenceException.class, () -> scheduleService.deleteSchedule(series.getIdx(),
+                false, false, true, LocalDateTime.of(2024, 3, 1, 10, 0)));
+        assertThrows(InvalidOccurrenceException.class, () -> scheduleService.deleteSchedule(series.getIdx(),
+                false, false, true, LocalDateTime.of(2024, 2, 29, 9, 0)));
+
+        entityManager.clear();
+        assertNull(scheduleRepository.findById(series.getIdx()).orElseThrow().getRepeatEndDate());
+    }
+
+    @Test
+    void deleteAfterRejectsExcludedOccurrence() {
+        scheduleExceptionRepository.insertIgnore(series.getIdx(), LocalDateTime.of(2024, 3, 5, 9, 0));
+
+        assertThrows(InvalidOccurrenceException.class, () -> scheduleService.deleteSchedule(series.getIdx(),
+                false, false, true, LocalDateTime.of(2024, 3, 5, 9, 0)));
+    }
+
+    @Test
+    void deleteAfterTruncatesAtOccurrence() {
+        scheduleService.deleteSchedule(series.getIdx(), false, false, true, LocalDateTime.of(2024, 3, 10, 9, 0));
+
+        entityManager.clear();
+        assertEquals(LocalDate.of(2024, 3, 9), scheduleRepository.findById(series.getIdx()).orElseThrow().getRepeatEndDate());
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.dailyLog.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SnowflakeIdGeneratorTest {
+
+    @Test
+    void idsAreUniqueAcrossThreads() throws InterruptedException {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+        int threads = 8;
+        int perThread = 50_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                start.await();
+                long previous = Long.MIN_VALUE;
+                for (int i = 0; i < perThread; i++) {
+                    long id = generator.nextId();
+                    assertTrue(id > previous);
+                    previous = id;
+                    ids.add(id);
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertEquals(threads * perThread, ids.size());
+    }
+
+    @Test
+    void differentNodesNeverCollide() {
+        SnowflakeIdGenerator first = new SnowflakeIdGenerator(1);
+        SnowflakeIdGenerator second = new SnowflakeIdGenerator(2);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(first.nextId());
+            ids.add(second.nextId());
+        }
+
+        assertEquals(20_000, ids.size());
+    }
+
+    @Test
+    void unsetNodeIdUsesZeroOnlyWhenSingleNodeIsExplicit() {
+        assertEquals(0, new SnowflakeIdGenerator(-1, true).getNodeId());
+        assertEquals(7, new SnowflakeIdGenerator(7, false).getNodeId());
+        assertEquals(7, new SnowflakeIdGenerator(7, true).getNodeId());
+    }
+
+    @Test
+    void unsetNodeIdFailsStartup() {
+        assertThrows(IllegalStateException.class, () -> new SnowflakeIdGenerator(-1, false));
+    }
+}
@@ -0,0 +1,239 @@
+package com.example.dailyLog.service;
+
+import com.example.dailyLog.constant.Category;
+import com.example.dailyLog.constant.Color;
+import com.example.dailyLog.constant.RepeatType;
+import com.example.dailyLog.dto.response.DiaryResponseSyncDto;
+import com.example.dailyLog.dto.response.ScheduleResponseSyncDto;
+import com.example.dailyLog.dto.response.SyncResponseDto;
+import com.example.dailyLog.entity.Calendars;
+import com.example.dailyLog.entity.Diary;
+import com.example.dailyLog.entity.Schedule;
+import com.example.dailyLog.event.CalendarChangedEvent;
+import com.example.dailyLog.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 동기화 - 전체 동기화 페이지(일정 -> 일기), 변경분 동기화, 삭제 기록 정리 후 오래된 토큰의 전체 동기화 전환
+// 변경 기록은 커밋 직전 리스너가 하는 일을 같은 트랜잭션 안에서 직접 호출해 남김
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class SyncServiceImplTest {
+
+    @Container
+    @ServiceConnection
+    static MariaDBContainer<?> mariaDB = new MariaDBContainer<>("mariadb:11.4");
+
+    private static final Long CALENDAR_IDX = 2L;
+    private static final int PAGE_SIZE = 2;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private CalendarRepository calendarRepository;
+
+    @Autowired
+    private CalendarChangeRepository calendarChangeRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private ScheduleImageRepository scheduleImageRepository;
+
+    @Autowired
+    private ScheduleExceptionRepository scheduleExceptionRepository;
+
+    @Autowired
+    private DiaryRepository diaryRepository;
+
+    @Autowired
+    private DiaryImageRepository diaryImageRepository;
+
+    private SyncServiceImpl syncService;
+    private CalendarVersionServiceImpl calendarVersionService;
+    private CalendarChangeCompactor calendarChangeCompactor;
+    private Calendars calendars;
+
+    @BeforeEach
+    void setUp() {
+        syncService = new SyncServiceImpl(calendarRepository, calendarChangeRepository, scheduleRepository,
+                scheduleImageRepository, scheduleExceptionRepository, diaryRepository, diaryImageRepository);
+        ReflectionTestUtils.setField(syncService, "fullSyncPageSize", PAGE_SIZE);
+        calendarVersionService = new CalendarVersionServiceImpl(calendarRepository, calendarChangeRepository);
+        calendarChangeCompactor = new CalendarChangeCompactor(calendarRepository, calendarChangeRepository);
+        calendars = entityManager.find(Calendars.class, CALENDAR_IDX);
+    }
+
+    @Test
+    void fullSyncPagesThroughSchedulesThenDiaries() {
+        List<Long> scheduleIdxList = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            scheduleIdxList.add(schedule("schedule " + i).getIdx());
+        }
+        List<Long> diaryIdxList = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            diaryIdxList.add(diary("diary " + i).getIdx());
+        }
+
+        List<SyncResponseDto> pages = new ArrayList<>();
+        SyncResponseDto page = syncService.sync(CALENDAR_IDX, null);
+        pages.add(page);
+        while (page.isHasMore()) {
+            page = syncService.sync(CALENDAR_IDX, page.getSyncToken());
+            pages.add(page);
+        }
+
+        // 일정 2 + 2 + 1 (마지막 일정 페이지에서 일기 단계로 넘어감), 일기 2 + 1
+        assertEquals(List.of(2, 2, 1, 0, 0), pages.stream().map(p -> p.getSchedules().size()).collect(Collectors.toList()));
+        assertEquals(List.of(0, 0, 0, 2, 1), pages.stream().map(p -> p.getDiaries().size()).collect(Collectors.toList()));
+        assertTrue(pages.get(0).isFullSync());
+        assertTrue(pages.subList(1, pages.size()).stream().noneMatch(SyncResponseDto::isFullSync));
+
+        assertEquals(scheduleIdxList, pages.stream().flatMap(p -> p.getSchedules().stream())
+                .map(ScheduleResponseSyncDto::getIdx).collect(Collectors.toList()));
+        assertEquals(diaryIdxList, pages.stream().flatMap(p -> p.getDiaries().stream())
+                .map(DiaryResponseSyncDto::getIdx).collect(Collectors.toList()));
+
+        // 마지막 토큰은 일반 토큰 - 변경이 없으면 빈 변경분
+        SyncResponseDto delta = syncService.sync(CALENDAR_IDX, page.getSyncToken());
+        assertFalse(delta.isFullSync());
+        assertFalse(delta.isHasMore());
+        assertTrue(delta.getSchedules().isEmpty());
+        assertTrue(delta.getDiaries().isEmpty());
+    }
+
+    @Test
+    void deltaSyncReturnsCreatedUpdatedAndDeletedItems() {
+        Schedule untouched = schedule("untouched");
+        String token = syncToEnd(null);
+
+        // 생성
+        Schedule schedule = schedule("created");
+        Diary diary = diary("created");
+        record(CalendarChangedEvent.allSchedules(CALENDAR_IDX).changed(schedule.getIdx()));
+        record(CalendarChangedEvent.diaries(CALENDAR_IDX, diary.getDate()).changed(diary.getIdx()));
+
+        SyncResponseDto created = syncService.sync(CALENDAR_IDX, token);
+        assertFalse(created.isFullSync());
+        assertEquals(List.of(schedule.getIdx()), created.getSchedules().stream().map(ScheduleResponseSyncDto::getIdx).collect(Collectors.toList()));
+        assertEquals(List.of(diary.getIdx()), created.getDiaries().stream().map(DiaryResponseSyncDto::getIdx).collect(Collectors.toList()));
+        assertTrue(created.getDeletedScheduleIdxList().isEmpty());
+
+        // 수정
+        schedule.setTitle("updated");
+        record(CalendarChangedEvent.allSchedules(CALENDAR_IDX).changed(schedule.getIdx()));
+
+        SyncResponseDto updated = syncService.sync(CALENDAR_IDX, created.getSyncToken());
+        assertEquals(1, updated.getSchedules().size());
+        assertEquals("updated", updated.getSchedules().get(0).getTitle());
+        assertTrue(updated.getDiaries().isEmpty());
+
+        // 삭제
+        Long scheduleIdx = schedule.getIdx();
+        Long diaryIdx = diary.getIdx();
+        entityManager.remove(schedule);
+        entityManager.remove(diary);
+        record(CalendarChangedEvent.allSchedules(CALENDAR_IDX).deleted(List.of(scheduleIdx)));
+        record(CalendarChangedEvent.diaries(CALENDAR_IDX, LocalDate.of(2024, 3, 1)).deleted(List.of(diaryIdx)));
+
+        SyncResponseDto deleted = syncService.sync(CALENDAR_IDX, updated.getSyncToken());
+        assertTrue(deleted.getSchedules().isEmpty());
+        assertTrue(deleted.getDiaries().isEmpty());
+        assertEquals(List.of(scheduleIdx), deleted.getDeletedScheduleIdxList());
+        assertEquals(List.of(diaryIdx), deleted.getDeletedDiaryIdxList());
+        assertFalse(deleted.getDeletedScheduleIdxList().contains(untouched.getIdx()));
+    }
+
+    @Test
+    void tokenOlderThanCompactedTombstonesFallsBackToFullSync() {
+        Schedule kept = schedule("kept");
+        Schedule removed = schedule("removed");
+        record(CalendarChangedEvent.allSchedules(CALENDAR_IDX).changed(kept.getIdx(), removed.getIdx()));
+        String beforeDelete = syncToEnd(null);
+
+        Long removedIdx = removed.getIdx();
+        entityManager.remove(removed);
+        record(CalendarChangedEvent.allSchedules(CALENDAR_IDX).deleted(List.of(removedIdx)));
+        String afterDelete = syncToEnd(beforeDelete);
+
+        // 삭제 기록이 정리되면 최소 동기화 버전이 삭제 버전까지 올라감
+        entityManager.flush();
+        assertEquals(1, calendarChangeCompactor.compact(LocalDateTime.now().plusMinutes(1)));
+        entityManager.clear();
+
+        // 삭제 이전 토큰은 삭제를 알 수 없으므로 전체 동기화
+        SyncResponseDto stale = syncService.sync(CALENDAR_IDX, beforeDelete);
+        assertTrue(stale.isFullSync());
+        assertTrue(stale.isHasMore());
+        assertEquals(List.of(kept.getIdx()), stale.getSchedules().stream().map(ScheduleResponseSyncDto::getIdx).collect(Collectors.toList()));
+
+        // 삭제를 이미 받은 토큰은 계속 변경분 동기화
+        SyncResponseDto current = syncService.sync(CALENDAR_IDX, afterDelete);
+        assertFalse(current.isFullSync());
+        assertTrue(current.getDeletedScheduleIdxList().isEmpty());
+    }
+
+    // 마지막 페이지까지 받은 뒤의 토큰
+    private String syncToEnd(String token) {
+        SyncResponseDto page = syncService.sync(CALENDAR_IDX, token);
+        while (page.isHasMore()) {
+            page = syncService.sync(CALENDAR_IDX, page.getSyncToken());
+        }
+        return page.getSyncToken();
+    }
+
+    // 커밋 직전 리스너와 같은 순서: 변경을 반영한 뒤 버전 증가 + 변경 기록
+    private void record(CalendarChangedEvent event) {
+        entityManager.flush();
+        calendarVersionService.increaseVersion(event);
+        entityManager.flush();
+    }
+
+    private Schedule schedule(String title) {
+        Schedule schedule = Schedule.builder()
+                .title(title)
+                .start(LocalDateTime.of(2024, 3, 1, 9, 0))
+                .end(LocalDateTime.of(2024, 3, 1, 10, 0))
+                .color(Color.ORANGE)
+                .repeatType(RepeatType.NONE)
+                .repeatInterval(1)
+                .repeatGroupId(System.nanoTime())
+                .calendars(calendars)
+                .scheduleImages(new ArrayList<>())
+                .build();
+        entityManager.persistAndFlush(schedule);
+        return schedule;
+    }
+
+    private Diary diary(String title) {
+        Diary diary = Diary.builder()
+                .title(title)
+                .date(LocalDate.of(2024, 3, 1))
+                .category(Category.DAILY)
+                .calendars(calendars)
+                .diaryImages(new ArrayList<>())
+                .build();
+        entityManager.persistAndFlush(diary);
+        return diary;
+    }
+}